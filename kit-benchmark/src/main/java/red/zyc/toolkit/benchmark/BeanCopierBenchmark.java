@@ -0,0 +1,79 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package red.zyc.toolkit.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import red.zyc.toolkit.benchmark.model.Person;
+import red.zyc.toolkit.core.bean.BeanCopier;
+import red.zyc.toolkit.core.reflect.TypeToken;
+import red.zyc.toolkit.json.JsonOperator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link BeanCopier}与经过json的{@link JsonOperator#copyProperties(Object, TypeToken)}复制属性的基准测试
+ *
+ * @author zyc
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BeanCopierBenchmark {
+
+    private static final TypeToken<List<Person>> TYPE_TOKEN = TypeToken.listOf(Person.class);
+
+    private static final BeanCopier<Person, Person> BEAN_COPIER = BeanCopier.of(Person.class, Person.class);
+
+    @Param({"SMALL", "MEDIUM", "LARGE"})
+    private Payload payload;
+
+    private List<Person> persons;
+
+    @Setup
+    public void setup() {
+        persons = payload.persons();
+    }
+
+    @Benchmark
+    public List<Person> beanCopier() {
+        List<Person> copies = new ArrayList<>(persons.size());
+        for (Person person : persons) {
+            copies.add(BEAN_COPIER.copy(person));
+        }
+        return copies;
+    }
+
+    @Benchmark
+    public List<Person> jacksonCopyProperties() {
+        return JsonOperator.JACKSON_OPERATOR.copyProperties(persons, TYPE_TOKEN);
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package red.zyc.toolkit.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import red.zyc.toolkit.benchmark.model.Person;
+import red.zyc.toolkit.core.reflect.TypeToken;
+import red.zyc.toolkit.json.JsonOperator;
+
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link JsonOperator#JACKSON_OPERATOR}和{@link JsonOperator#GSON_OPERATOR}常用操作在不同负载下的基准测试
+ *
+ * @author zyc
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonOperatorBenchmark {
+
+    private static final TypeToken<List<Person>> TYPE_TOKEN = new TypeToken<List<Person>>() {
+    };
+
+    private static final Type TYPE = TYPE_TOKEN.getType();
+
+    @Param({"JACKSON", "GSON"})
+    private Backend backend;
+
+    @Param({"SMALL", "MEDIUM", "LARGE"})
+    private Payload payload;
+
+    private JsonOperator<?> jsonOperator;
+
+    private List<Person> persons;
+
+    private String json;
+
+    /**
+     * 另一个json操作器序列化出来的json字符串，格式不同但表示同一个json对象
+     */
+    private String otherJson;
+
+    @Setup
+    public void setup() {
+        jsonOperator = backend.jsonOperator;
+        persons = payload.persons();
+        json = jsonOperator.toJsonString(persons);
+        otherJson = backend.other().jsonOperator.toJsonString(persons);
+    }
+
+    @Benchmark
+    public String toJsonString() {
+        return jsonOperator.toJsonString(persons);
+    }
+
+    @Benchmark
+    public Person[] fromJsonStringByClass() {
+        return jsonOperator.fromJsonString(json, Person[].class);
+    }
+
+    @Benchmark
+    public List<Person> fromJsonStringByType() {
+        return jsonOperator.fromJsonString(json, TYPE);
+    }
+
+    @Benchmark
+    public List<Person> fromJsonStringByTypeToken() {
+        return jsonOperator.fromJsonString(json, TYPE_TOKEN);
+    }
+
+    @Benchmark
+    public List<Person> copyProperties() {
+        return jsonOperator.copyProperties(persons, TYPE_TOKEN);
+    }
+
+    @Benchmark
+    public boolean compare() {
+        return jsonOperator.compare(json, otherJson);
+    }
+
+    /**
+     * 参与基准测试的json操作器
+     */
+    public enum Backend {
+
+        JACKSON(JsonOperator.JACKSON_OPERATOR),
+
+        GSON(JsonOperator.GSON_OPERATOR);
+
+        private final JsonOperator<?> jsonOperator;
+
+        Backend(JsonOperator<?> jsonOperator) {
+            this.jsonOperator = jsonOperator;
+        }
+
+        private Backend other() {
+            return this == JACKSON ? GSON : JACKSON;
+        }
+    }
+}
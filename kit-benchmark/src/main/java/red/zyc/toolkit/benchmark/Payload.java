@@ -0,0 +1,63 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package red.zyc.toolkit.benchmark;
+
+import red.zyc.toolkit.benchmark.model.Person;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * 基准测试的负载大小
+ *
+ * @author zyc
+ */
+public enum Payload {
+
+    /**
+     * 单个对象，序列化后约一百多字节
+     */
+    SMALL(1),
+
+    /**
+     * 一百个对象，序列化后约十几KB
+     */
+    MEDIUM(100),
+
+    /**
+     * 两万个对象，序列化后约数MB
+     */
+    LARGE(20_000);
+
+    private final int size;
+
+    Payload(int size) {
+        this.size = size;
+    }
+
+    /**
+     * @return 固定内容的{@link Person}集合，保证每次运行的负载一致
+     */
+    public List<Person> persons() {
+        LocalDateTime createdTime = LocalDateTime.of(2021, 1, 15, 12, 0, 0);
+        return IntStream.range(0, size)
+                .mapToObj(i -> new Person("张三" + i, 18 + i % 60, String.format("123%08d", i), createdTime.plusSeconds(i)))
+                .collect(Collectors.toList());
+    }
+}
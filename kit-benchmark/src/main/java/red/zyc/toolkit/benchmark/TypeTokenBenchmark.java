@@ -0,0 +1,82 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package red.zyc.toolkit.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import red.zyc.toolkit.benchmark.model.Person;
+import red.zyc.toolkit.core.reflect.TypeToken;
+
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link TypeToken}构造、哈希以及比较的基准测试
+ *
+ * @author zyc
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TypeTokenBenchmark {
+
+    private final TypeToken<Map<String, List<Person>>> typeToken = new TypeToken<Map<String, List<Person>>>() {
+    };
+
+    private final TypeToken<Map<String, List<Person>>> sameTypeToken = new TypeToken<Map<String, List<Person>>>() {
+    };
+
+    private final Type type = typeToken.getType();
+
+    @Benchmark
+    public TypeToken<Map<String, List<Person>>> capture() {
+        return new TypeToken<Map<String, List<Person>>>() {
+        };
+    }
+
+    @Benchmark
+    public TypeToken<Map<String, List<Person>>> of() {
+        return TypeToken.of(type);
+    }
+
+    @Benchmark
+    public TypeToken<Map<String, List<Person>>> factory() {
+        return TypeToken.mapOf(TypeToken.of(String.class), TypeToken.listOf(Person.class));
+    }
+
+    @Benchmark
+    public int hash() {
+        return typeToken.hashCode();
+    }
+
+    @Benchmark
+    public boolean equalsCapturedElsewhere() {
+        return typeToken.equals(sameTypeToken);
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package red.zyc.toolkit.benchmark.model;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * @author zyc
+ */
+public class Person {
+
+    private String name;
+
+    private Integer age;
+
+    private String phoneNumber;
+
+    private LocalDateTime createdTime;
+
+    public Person() {
+    }
+
+    public Person(String name, Integer age, String phoneNumber, LocalDateTime createdTime) {
+        this.name = name;
+        this.age = age;
+        this.phoneNumber = phoneNumber;
+        this.createdTime = createdTime;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public Integer getAge() {
+        return age;
+    }
+
+    public void setAge(Integer age) {
+        this.age = age;
+    }
+
+    public String getPhoneNumber() {
+        return phoneNumber;
+    }
+
+    public void setPhoneNumber(String phoneNumber) {
+        this.phoneNumber = phoneNumber;
+    }
+
+    public LocalDateTime getCreatedTime() {
+        return createdTime;
+    }
+
+    public void setCreatedTime(LocalDateTime createdTime) {
+        this.createdTime = createdTime;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        Person person = (Person) o;
+        return Objects.equals(name, person.name) &&
+                Objects.equals(age, person.age) &&
+                Objects.equals(phoneNumber, person.phoneNumber) &&
+                Objects.equals(createdTime, person.createdTime);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(name, age, phoneNumber, createdTime);
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package red.zyc.toolkit.common;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link Condition}分支链的基准测试，{@link Condition.Branch}不是公开的类型，所以该基准测试与{@link Condition}位于同一个包中。
+ *
+ * @author zyc
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConditionBenchmark {
+
+    /**
+     * 第几个分支命中，0表示所有分支都不命中而执行orElse
+     */
+    @Param({"0", "1", "4"})
+    private int hit;
+
+    @Benchmark
+    public void run(Blackhole blackhole) {
+        Condition.iF(hit == 1).run(() -> blackhole.consume(1))
+                .elseIf(hit == 2).run(() -> blackhole.consume(2))
+                .elseIf(hit == 3).run(() -> blackhole.consume(3))
+                .elseIf(hit == 4).run(() -> blackhole.consume(4))
+                .orElse(() -> blackhole.consume(0));
+    }
+
+    @Benchmark
+    public Integer set() {
+        return Condition.<Integer>iF(hit == 1).set(() -> 1)
+                .elseIf(hit == 2).set(() -> 2)
+                .elseIf(hit == 3).set(() -> 3)
+                .elseIf(hit == 4).set(() -> 4)
+                .orElse(() -> 0)
+                .get();
+    }
+}
@@ -2,6 +2,7 @@
  * @author zyc
  */
 module kit.core {
+    exports red.zyc.toolkit.core.bean;
     exports red.zyc.toolkit.core.function;
     exports red.zyc.toolkit.core.reflect;
 }
\ No newline at end of file
@@ -0,0 +1,716 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package red.zyc.toolkit.core.bean;
+
+import red.zyc.toolkit.core.reflect.ClassMetadata;
+
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.RecordComponent;
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.lang.reflect.WildcardType;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.Queue;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 在两个java bean之间按属性名称复制属性的复制器，不经过json等任何中间表示。
+ * <p>
+ * 每对源类型和目标类型的复制器只会在第一次使用时创建一次，并通过嵌套的{@link ClassValue}缓存在类加载器更“深”的那个类型上，
+ * 由于该类型的类加载器本来就能看到另一个类型，缓存不会阻止任何类加载器被卸载。
+ * 源类型和目标类型的类加载器互相不可见时不会缓存，每次调用{@link #of(Class, Class)}都会创建新的复制器，需要自行持有。
+ * <p>
+ * 对于public并且能被kit-core的类加载器看到的类型，属性的getter、setter以及目标类型的构造器都通过{@link LambdaMetafactory}
+ * 绑定为普通的函数接口，复制时与手写的属性复制一样直接调用。其它类型（例如非public的类型或者由子类加载器加载的类型）
+ * 通过{@link MethodHandles#privateLookupIn}在类型本身中获取{@link MethodHandle}再调用，
+ * 以模块方式运行时这些类型所在的包需要对kit.core开放（{@code opens}）。
+ * <p>
+ * 属性按以下规则转换，无法转换的属性会被忽略：
+ * <ul>
+ *     <li>泛型类型相同或者目标类型可以直接赋值的属性直接复制引用</li>
+ *     <li>集合、{@link Map}、数组按元素类型逐个转换后放入新的容器</li>
+ *     <li>不同的枚举类型之间按名称转换</li>
+ *     <li>其它不同的java bean之间递归复制</li>
+ * </ul>
+ * 目标类型可以是含有public无参构造器的java bean或者record，源类型为null的值不会写入原始类型的属性。
+ * 属性通过{@link ClassMetadata}解析。
+ * <p>
+ * java bean之间是逐层递归复制的，不会记录已经复制过的对象：源对象图中存在循环引用（例如父子节点互相引用）时
+ * 会一直递归直到{@link StackOverflowError}，这类属性需要在目标类型中去掉或者复制之后自行设置。
+ *
+ * @param <S> 源类型
+ * @param <T> 目标类型
+ * @author zyc
+ */
+public final class BeanCopier<S, T> {
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    private static final Function<Object, Object> IDENTITY = value -> value;
+
+    /**
+     * 缓存在源类型上的复制器，外层以目标类型为键，内层以源类型为键。
+     * 复制器只被源类型引用，所以只能用于目标类型的类加载器对源类型可见的情况。
+     */
+    private static final ClassValue<ClassValue<BeanCopier<?, ?>>> SOURCE_COPIERS = new ClassValue<>() {
+        @Override
+        protected ClassValue<BeanCopier<?, ?>> computeValue(Class<?> targetType) {
+            return new ClassValue<>() {
+                @Override
+                protected BeanCopier<?, ?> computeValue(Class<?> sourceType) {
+                    return new BeanCopier<>(sourceType, targetType);
+                }
+            };
+        }
+    };
+
+    /**
+     * 缓存在目标类型上的复制器，外层以源类型为键，内层以目标类型为键。
+     * 复制器只被目标类型引用，所以只能用于源类型的类加载器对目标类型可见的情况。
+     */
+    private static final ClassValue<ClassValue<BeanCopier<?, ?>>> TARGET_COPIERS = new ClassValue<>() {
+        @Override
+        protected ClassValue<BeanCopier<?, ?>> computeValue(Class<?> sourceType) {
+            return new ClassValue<>() {
+                @Override
+                protected BeanCopier<?, ?> computeValue(Class<?> targetType) {
+                    return new BeanCopier<>(sourceType, targetType);
+                }
+            };
+        }
+    };
+
+    /**
+     * 源类型
+     */
+    private final Class<S> sourceType;
+
+    /**
+     * 目标类型
+     */
+    private final Class<T> targetType;
+
+    /**
+     * 目标类型的无参构造器，目标类型是record时为null
+     */
+    private final Supplier<Object> constructor;
+
+    /**
+     * 目标类型是record时以{@code Object[]}为参数的规范构造器
+     */
+    private final MethodHandle recordConstructor;
+
+    /**
+     * 目标类型是record时规范构造器参数的默认值
+     */
+    private final Object[] recordDefaults;
+
+    /**
+     * 需要复制的属性
+     */
+    private final PropertyCopier[] propertyCopiers;
+
+    private BeanCopier(Class<S> sourceType, Class<T> targetType) {
+        this.sourceType = sourceType;
+        this.targetType = targetType;
+        ClassMetadata source = ClassMetadata.of(sourceType);
+        ClassMetadata target = ClassMetadata.of(targetType);
+        List<PropertyCopier> propertyCopiers = new ArrayList<>();
+        if (targetType.isRecord()) {
+            RecordComponent[] components = targetType.getRecordComponents();
+            Class<?>[] parameterTypes = new Class<?>[components.length];
+            this.recordDefaults = new Object[components.length];
+            for (int i = 0; i < components.length; i++) {
+                parameterTypes[i] = components[i].getType();
+                recordDefaults[i] = parameterTypes[i].isPrimitive() ? Array.get(Array.newInstance(parameterTypes[i], 1), 0) : null;
+                ClassMetadata.Property from = source.property(components[i].getName());
+                Function<Object, Object> converter = from == null ? null : converter(from.type(), target.resolve(components[i].getGenericType()));
+                if (converter != null) {
+                    propertyCopiers.add(new PropertyCopier(getter(from.getter()), null, i, converter, parameterTypes[i].isPrimitive()));
+                }
+            }
+            this.constructor = null;
+            this.recordConstructor = recordConstructor(targetType, parameterTypes);
+        } else {
+            for (ClassMetadata.Property to : target.properties()) {
+                ClassMetadata.Property from = source.property(to.name());
+                if (to.setter() == null || from == null) {
+                    continue;
+                }
+                Function<Object, Object> converter = converter(from.type(), to.type());
+                if (converter != null) {
+                    propertyCopiers.add(new PropertyCopier(getter(from.getter()), setter(to.setter()), -1, converter, to.rawType().isPrimitive()));
+                }
+            }
+            this.constructor = constructor(targetType);
+            this.recordConstructor = null;
+            this.recordDefaults = null;
+        }
+        this.propertyCopiers = propertyCopiers.toArray(new PropertyCopier[0]);
+    }
+
+    /**
+     * 获取源类型到目标类型的复制器
+     *
+     * @param sourceType 源类型
+     * @param targetType 目标类型
+     * @param <S>        源类型
+     * @param <T>        目标类型
+     * @return 复制器，源类型和目标类型的类加载器互相不可见时每次都会创建新的复制器
+     */
+    @SuppressWarnings("unchecked")
+    public static <S, T> BeanCopier<S, T> of(Class<S> sourceType, Class<T> targetType) {
+        if (ancestor(targetType.getClassLoader(), sourceType.getClassLoader())) {
+            return (BeanCopier<S, T>) SOURCE_COPIERS.get(targetType).get(sourceType);
+        }
+        if (ancestor(sourceType.getClassLoader(), targetType.getClassLoader())) {
+            return (BeanCopier<S, T>) TARGET_COPIERS.get(sourceType).get(targetType);
+        }
+        return new BeanCopier<>(sourceType, targetType);
+    }
+
+    /**
+     * 以源对象的运行时类型复制出一个目标类型的新对象
+     *
+     * @param source     源对象
+     * @param targetType 目标类型
+     * @param <T>        目标类型
+     * @return 目标类型的新对象，源对象为null时为null
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T copy(Object source, Class<T> targetType) {
+        return source == null ? null : ((BeanCopier<Object, T>) of(source.getClass(), targetType)).copy(source);
+    }
+
+    /**
+     * @return 源类型
+     */
+    public Class<S> sourceType() {
+        return sourceType;
+    }
+
+    /**
+     * @return 目标类型
+     */
+    public Class<T> targetType() {
+        return targetType;
+    }
+
+    /**
+     * 复制出一个目标类型的新对象
+     *
+     * @param source 源对象
+     * @return 目标类型的新对象，源对象为null时为null
+     */
+    @SuppressWarnings("unchecked")
+    public T copy(S source) {
+        if (source == null) {
+            return null;
+        }
+        if (recordConstructor == null) {
+            T target = (T) constructor.get();
+            copy(source, target);
+            return target;
+        }
+        Object[] arguments = recordDefaults.clone();
+        for (PropertyCopier propertyCopier : propertyCopiers) {
+            Object value = propertyCopier.getter.apply(source);
+            if (value != null) {
+                arguments[propertyCopier.index] = propertyCopier.converter.apply(value);
+            }
+        }
+        try {
+            return (T) recordConstructor.invokeExact(arguments);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new IllegalStateException(t);
+        }
+    }
+
+    /**
+     * 将源对象的属性复制到已经存在的目标对象中
+     *
+     * @param source 源对象
+     * @param target 目标对象
+     */
+    public void copy(S source, T target) {
+        if (recordConstructor != null) {
+            throw new UnsupportedOperationException("record类型" + targetType.getName() + "是不可变的");
+        }
+        for (PropertyCopier propertyCopier : propertyCopiers) {
+            Object value = propertyCopier.getter.apply(source);
+            if (value == null && propertyCopier.primitive) {
+                continue;
+            }
+            propertyCopier.setter.accept(target, value == null ? null : propertyCopier.converter.apply(value));
+        }
+    }
+
+    /**
+     * 获取源属性类型到目标属性类型的转换器
+     *
+     * @param sourceType 源属性的类型
+     * @param targetType 目标属性的类型
+     * @return 转换器，无法转换时为null
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Function<Object, Object> converter(Type sourceType, Type targetType) {
+        if (sourceType.equals(targetType)) {
+            return IDENTITY;
+        }
+        Class<?> sourceRaw = box(rawType(sourceType));
+        Class<?> targetRaw = box(rawType(targetType));
+        if (Collection.class.isAssignableFrom(targetRaw)) {
+            Supplier<Collection<Object>> factory = collectionFactory(targetRaw);
+            Function<Object, Object> element = iterable(sourceRaw) ? converter(typeArgument(sourceType, sourceRaw.isArray() ? null : Iterable.class, 0), typeArgument(targetType, Collection.class, 0)) : null;
+            if (factory == null || element == null) {
+                return null;
+            }
+            return value -> {
+                Collection<Object> collection = factory.get();
+                forEach(value, item -> collection.add(item == null ? null : element.apply(item)));
+                return collection;
+            };
+        }
+        if (Map.class.isAssignableFrom(targetRaw)) {
+            Supplier<Map<Object, Object>> factory = mapFactory(targetRaw);
+            if (factory == null || !Map.class.isAssignableFrom(sourceRaw)) {
+                return null;
+            }
+            Function<Object, Object> key = converter(typeArgument(sourceType, Map.class, 0), typeArgument(targetType, Map.class, 0));
+            Function<Object, Object> val = converter(typeArgument(sourceType, Map.class, 1), typeArgument(targetType, Map.class, 1));
+            if (key == null || val == null) {
+                return null;
+            }
+            return value -> {
+                Map<Object, Object> map = factory.get();
+                ((Map<?, ?>) value).forEach((k, v) -> map.put(k == null ? null : key.apply(k), v == null ? null : val.apply(v)));
+                return map;
+            };
+        }
+        if (targetRaw.isArray()) {
+            Class<?> componentType = targetRaw.getComponentType();
+            Function<Object, Object> element = iterable(sourceRaw) ? converter(typeArgument(sourceType, sourceRaw.isArray() ? null : Iterable.class, 0), componentType(targetType)) : null;
+            if (element == null) {
+                return null;
+            }
+            return value -> {
+                // 数组和集合可以预先确定长度，直接填充目标数组，其它Iterable只能先收集起来
+                Object source = value.getClass().isArray() || value instanceof Collection ? value : collect(value);
+                Object array = Array.newInstance(componentType, source instanceof Collection ? ((Collection<?>) source).size() : Array.getLength(source));
+                int[] index = {0};
+                forEach(source, item -> Array.set(array, index[0]++, item == null ? null : element.apply(item)));
+                return array;
+            };
+        }
+        if (targetRaw.isAssignableFrom(sourceRaw)) {
+            return IDENTITY;
+        }
+        if (targetRaw.isEnum() && sourceRaw.isEnum()) {
+            return value -> Enum.valueOf((Class) targetRaw, ((Enum<?>) value).name());
+        }
+        if (bean(sourceRaw) && bean(targetRaw) && (targetRaw.isRecord() || noArgConstructor(targetRaw) != null)) {
+            // 在第一次复制时才获取嵌套的复制器，这样自引用的类型不会在创建复制器时无限递归
+            BeanCopier<?, ?>[] nested = new BeanCopier<?, ?>[1];
+            return value -> {
+                BeanCopier<Object, ?> copier = (BeanCopier<Object, ?>) nested[0];
+                if (copier == null) {
+                    nested[0] = copier = of((Class<Object>) sourceRaw, targetRaw);
+                }
+                return copier.copy(value);
+            };
+        }
+        return null;
+    }
+
+    private static boolean iterable(Class<?> type) {
+        return type.isArray() || Iterable.class.isAssignableFrom(type);
+    }
+
+    private static List<Object> collect(Object iterable) {
+        List<Object> items = new ArrayList<>();
+        ((Iterable<?>) iterable).forEach(items::add);
+        return items;
+    }
+
+    private static void forEach(Object value, Consumer<Object> consumer) {
+        if (value.getClass().isArray()) {
+            for (int i = 0, length = Array.getLength(value); i < length; i++) {
+                consumer.accept(Array.get(value, i));
+            }
+        } else {
+            ((Iterable<?>) value).forEach(consumer);
+        }
+    }
+
+    private static boolean bean(Class<?> type) {
+        return !type.isPrimitive() && !type.isArray() && !type.isEnum() && !type.isInterface()
+                && type.getModule() != Object.class.getModule();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Supplier<Collection<Object>> collectionFactory(Class<?> type) {
+        if (type == Collection.class || type == List.class || type == Iterable.class) {
+            return ArrayList::new;
+        }
+        if (type == Set.class) {
+            return LinkedHashSet::new;
+        }
+        if (type == SortedSet.class || type == NavigableSet.class) {
+            return TreeSet::new;
+        }
+        if (type == Queue.class || type == Deque.class) {
+            return ArrayDeque::new;
+        }
+        Constructor<?> constructor = publicConstructor(type);
+        return constructor == null ? null : (Supplier<Collection<Object>>) (Supplier<?>) constructor(type);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Supplier<Map<Object, Object>> mapFactory(Class<?> type) {
+        if (type == Map.class) {
+            return LinkedHashMap::new;
+        }
+        if (type == SortedMap.class || type == NavigableMap.class) {
+            return TreeMap::new;
+        }
+        if (type == ConcurrentMap.class) {
+            return ConcurrentHashMap::new;
+        }
+        Constructor<?> constructor = publicConstructor(type);
+        return constructor == null ? null : (Supplier<Map<Object, Object>>) (Supplier<?>) constructor(type);
+    }
+
+    private static Constructor<?> publicConstructor(Class<?> type) {
+        return Modifier.isPublic(type.getModifiers()) ? noArgConstructor(type) : null;
+    }
+
+    /**
+     * @param type 类型
+     * @return 具体类型的public无参构造器，不存在时为null
+     */
+    private static Constructor<?> noArgConstructor(Class<?> type) {
+        if (type.isInterface() || Modifier.isAbstract(type.getModifiers())) {
+            return null;
+        }
+        try {
+            return type.getConstructor();
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 获取类型在某个父类型上的类型参数
+     *
+     * @param type      类型
+     * @param supertype 父类型，为null时表示type是数组，获取数组的组件类型
+     * @param index     类型参数的索引
+     * @return 类型参数，无法解析时为{@link Object}
+     */
+    private static Type typeArgument(Type type, Class<?> supertype, int index) {
+        if (supertype == null) {
+            return componentType(type);
+        }
+        Class<?> rawType = rawType(type);
+        Type resolved = ClassMetadata.of(rawType).supertype(supertype);
+        if (!(resolved instanceof ParameterizedType)) {
+            return Object.class;
+        }
+        Type argument = ((ParameterizedType) resolved).getActualTypeArguments()[index];
+        if (argument instanceof TypeVariable && type instanceof ParameterizedType) {
+            TypeVariable<?>[] variables = rawType.getTypeParameters();
+            for (int i = 0; i < variables.length; i++) {
+                if (variables[i].equals(argument)) {
+                    return ((ParameterizedType) type).getActualTypeArguments()[i];
+                }
+            }
+        }
+        return argument;
+    }
+
+    private static Type componentType(Type type) {
+        return type instanceof GenericArrayType ? ((GenericArrayType) type).getGenericComponentType() : rawType(type).getComponentType();
+    }
+
+    private static Class<?> rawType(Type type) {
+        if (type instanceof Class) {
+            return (Class<?>) type;
+        }
+        if (type instanceof ParameterizedType) {
+            return (Class<?>) ((ParameterizedType) type).getRawType();
+        }
+        if (type instanceof GenericArrayType) {
+            return Array.newInstance(rawType(((GenericArrayType) type).getGenericComponentType()), 0).getClass();
+        }
+        if (type instanceof WildcardType) {
+            return rawType(((WildcardType) type).getUpperBounds()[0]);
+        }
+        if (type instanceof TypeVariable) {
+            return rawType(((TypeVariable<?>) type).getBounds()[0]);
+        }
+        return Object.class;
+    }
+
+    private static Class<?> box(Class<?> type) {
+        return type.isPrimitive() ? MethodType.methodType(type).wrap().returnType() : type;
+    }
+
+    /**
+     * 将getter绑定为{@link Function}
+     *
+     * @param getter getter
+     * @return getter对应的{@link Function}
+     */
+    @SuppressWarnings("unchecked")
+    private static Function<Object, Object> getter(Method getter) {
+        try {
+            if (!linkable(getter.getDeclaringClass(), getter.getReturnType())) {
+                MethodHandle handle = lookup(getter.getDeclaringClass()).unreflect(getter).asType(MethodType.methodType(Object.class, Object.class));
+                return source -> {
+                    try {
+                        return handle.invokeExact(source);
+                    } catch (RuntimeException | Error e) {
+                        throw e;
+                    } catch (Throwable t) {
+                        throw new IllegalStateException(t);
+                    }
+                };
+            }
+            reads(getter.getDeclaringClass());
+            MethodHandle handle = LOOKUP.unreflect(getter);
+            return (Function<Object, Object>) LambdaMetafactory.metafactory(LOOKUP, "apply", MethodType.methodType(Function.class),
+                    MethodType.methodType(Object.class, Object.class), handle, handle.type().changeReturnType(box(getter.getReturnType())))
+                    .getTarget().invokeExact();
+        } catch (Throwable t) {
+            throw new IllegalArgumentException("无法绑定getter：" + getter, t);
+        }
+    }
+
+    /**
+     * 将setter绑定为{@link BiConsumer}
+     *
+     * @param setter setter
+     * @return setter对应的{@link BiConsumer}
+     */
+    @SuppressWarnings("unchecked")
+    private static BiConsumer<Object, Object> setter(Method setter) {
+        try {
+            if (!linkable(setter.getDeclaringClass(), setter.getParameterTypes()[0])) {
+                MethodHandle handle = lookup(setter.getDeclaringClass()).unreflect(setter).asType(MethodType.methodType(void.class, Object.class, Object.class));
+                return (target, value) -> {
+                    try {
+                        handle.invokeExact(target, value);
+                    } catch (RuntimeException | Error e) {
+                        throw e;
+                    } catch (Throwable t) {
+                        throw new IllegalStateException(t);
+                    }
+                };
+            }
+            reads(setter.getDeclaringClass());
+            MethodHandle handle = LOOKUP.unreflect(setter);
+            return (BiConsumer<Object, Object>) LambdaMetafactory.metafactory(LOOKUP, "accept", MethodType.methodType(BiConsumer.class),
+                    MethodType.methodType(void.class, Object.class, Object.class), handle, handle.type().wrap().changeReturnType(void.class))
+                    .getTarget().invokeExact();
+        } catch (Throwable t) {
+            throw new IllegalArgumentException("无法绑定setter：" + setter, t);
+        }
+    }
+
+    /**
+     * 将public无参构造器绑定为{@link Supplier}
+     *
+     * @param type 类型
+     * @return 构造器对应的{@link Supplier}
+     */
+    @SuppressWarnings("unchecked")
+    private static Supplier<Object> constructor(Class<?> type) {
+        Constructor<?> constructor = noArgConstructor(type);
+        if (constructor == null) {
+            throw new IllegalArgumentException(type.getName() + "必须是含有public无参构造器的非抽象类");
+        }
+        try {
+            if (!linkable(type)) {
+                MethodHandle handle = lookup(type).unreflectConstructor(constructor).asType(MethodType.methodType(Object.class));
+                return () -> {
+                    try {
+                        return handle.invokeExact();
+                    } catch (RuntimeException | Error e) {
+                        throw e;
+                    } catch (Throwable t) {
+                        throw new IllegalStateException(t);
+                    }
+                };
+            }
+            reads(type);
+            MethodHandle handle = LOOKUP.unreflectConstructor(constructor);
+            return (Supplier<Object>) LambdaMetafactory.metafactory(LOOKUP, "get", MethodType.methodType(Supplier.class),
+                    MethodType.methodType(Object.class), handle, handle.type())
+                    .getTarget().invokeExact();
+        } catch (Throwable t) {
+            throw new IllegalArgumentException("无法绑定" + type.getName() + "的构造器", t);
+        }
+    }
+
+    private static MethodHandle recordConstructor(Class<?> type, Class<?>[] parameterTypes) {
+        try {
+            return lookup(type).unreflectConstructor(type.getDeclaredConstructor(parameterTypes))
+                    .asSpreader(Object[].class, parameterTypes.length)
+                    .asType(MethodType.methodType(Object.class, Object[].class));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new IllegalArgumentException("无法绑定" + type.getName() + "的规范构造器", e);
+        }
+    }
+
+    /**
+     * 获取类型本身的{@link MethodHandles.Lookup}，类型所在的包没有对kit.core开放时只能访问public的成员
+     *
+     * @param type 类型
+     * @return {@link MethodHandles.Lookup}
+     */
+    private static MethodHandles.Lookup lookup(Class<?> type) {
+        reads(type);
+        try {
+            return MethodHandles.privateLookupIn(type, LOOKUP);
+        } catch (IllegalAccessException e) {
+            return LOOKUP;
+        }
+    }
+
+    /**
+     * 使kit.core能够读取类型所在的模块
+     *
+     * @param type 类型
+     */
+    private static void reads(Class<?> type) {
+        BeanCopier.class.getModule().addReads(type.getModule());
+    }
+
+    /**
+     * 判断{@link LambdaMetafactory}在{@link BeanCopier}中生成的类能否直接链接到这些类型，
+     * 即这些类型都是public的、对kit.core导出的，并且kit-core的类加载器加载到的是同一个类
+     *
+     * @param types 方法签名中的类型
+     * @return 能否直接链接
+     */
+    private static boolean linkable(Class<?>... types) {
+        for (Class<?> type : types) {
+            while (type.isArray()) {
+                type = type.getComponentType();
+            }
+            if (type.isPrimitive()) {
+                continue;
+            }
+            for (Class<?> enclosing = type; enclosing != null; enclosing = enclosing.getDeclaringClass()) {
+                if (!Modifier.isPublic(enclosing.getModifiers())) {
+                    return false;
+                }
+            }
+            if (!type.getModule().isExported(type.getPackageName(), BeanCopier.class.getModule())) {
+                return false;
+            }
+            try {
+                if (Class.forName(type.getName(), false, BeanCopier.class.getClassLoader()) != type) {
+                    return false;
+                }
+            } catch (ClassNotFoundException e) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @param ancestor 可能的祖先类加载器
+     * @param loader   类加载器
+     * @return {@code ancestor}是否是{@code loader}本身或者它的祖先，null表示启动类加载器
+     */
+    private static boolean ancestor(ClassLoader ancestor, ClassLoader loader) {
+        if (ancestor == null) {
+            return true;
+        }
+        for (ClassLoader current = loader; current != null; current = current.getParent()) {
+            if (current == ancestor) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 一个属性的复制
+     */
+    private static final class PropertyCopier {
+
+        private final Function<Object, Object> getter;
+
+        /**
+         * 目标属性的setter，目标类型是record时为null
+         */
+        private final BiConsumer<Object, Object> setter;
+
+        /**
+         * 目标类型是record时该属性在规范构造器中的索引
+         */
+        private final int index;
+
+        private final Function<Object, Object> converter;
+
+        /**
+         * 目标属性是否是原始类型
+         */
+        private final boolean primitive;
+
+        private PropertyCopier(Function<Object, Object> getter, BiConsumer<Object, Object> setter, int index, Function<Object, Object> converter, boolean primitive) {
+            this.getter = getter;
+            this.setter = setter;
+            this.index = index;
+            this.converter = converter;
+            this.primitive = primitive;
+        }
+    }
+}
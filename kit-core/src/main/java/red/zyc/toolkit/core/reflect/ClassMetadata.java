@@ -0,0 +1,392 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package red.zyc.toolkit.core.reflect;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.RecordComponent;
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.lang.reflect.WildcardType;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.TreeMap;
+
+/**
+ * 类的反射元数据，包括解析后的泛型父类型、类型变量的绑定、record的组件以及属性。
+ * <p>
+ * 每个类的元数据只会在第一次获取时解析一次，并通过{@link ClassValue}保存在类本身上，
+ * 之后的获取只相当于一次字段读取。元数据不会被一个全局的表强引用，类加载器被卸载时元数据会跟着类一起被回收。
+ * 所有的元数据都是不可变的，泛型类型都是通过{@link Types#canonicalize(Type)}规范化的类型。
+ *
+ * @author zyc
+ */
+public final class ClassMetadata {
+
+    private static final ClassValue<ClassMetadata> METADATA = new ClassValue<>() {
+        @Override
+        protected ClassMetadata computeValue(Class<?> type) {
+            return new ClassMetadata(type);
+        }
+    };
+
+    /**
+     * 类
+     */
+    private final Class<?> type;
+
+    /**
+     * 父类型（包括类本身）的原始类型到解析后的泛型类型的映射
+     */
+    private final Map<Class<?>, Type> supertypes;
+
+    /**
+     * 父类型中的类型变量到它在该类中实际绑定的类型的映射
+     */
+    private final Map<TypeVariable<?>, Type> typeVariableBindings;
+
+    /**
+     * record的组件
+     */
+    private final List<RecordComponent> recordComponents;
+
+    /**
+     * 属性，按名称排序
+     */
+    private final Map<String, Property> properties;
+
+    private ClassMetadata(Class<?> type) {
+        this.type = type;
+        Map<Class<?>, Type> supertypes = new HashMap<>();
+        Map<TypeVariable<?>, Type> bindings = new HashMap<>();
+        supertypes.put(type, type.getTypeParameters().length == 0 ? type : Types.parameterized(type, type.getTypeParameters()));
+        List<Type> directSupertypes = new ArrayList<>(Arrays.asList(type.getGenericInterfaces()));
+        if (type.getGenericSuperclass() != null) {
+            directSupertypes.add(0, type.getGenericSuperclass());
+        }
+        for (Type directSupertype : directSupertypes) {
+            Class<?> rawType = rawType(directSupertype);
+            Map<TypeVariable<?>, Type> local = new HashMap<>();
+            if (directSupertype instanceof ParameterizedType) {
+                TypeVariable<?>[] variables = rawType.getTypeParameters();
+                Type[] arguments = ((ParameterizedType) directSupertype).getActualTypeArguments();
+                for (int i = 0; i < variables.length; i++) {
+                    local.put(variables[i], Types.canonicalize(arguments[i]));
+                }
+            }
+            bindings.putAll(local);
+            ClassMetadata metadata = of(rawType);
+            metadata.typeVariableBindings.forEach((variable, bound) -> bindings.putIfAbsent(variable, substitute(bound, local)));
+            metadata.supertypes.forEach((raw, supertype) -> supertypes.putIfAbsent(raw, substitute(supertype, local)));
+        }
+        this.supertypes = Map.copyOf(supertypes);
+        this.typeVariableBindings = Map.copyOf(bindings);
+        this.recordComponents = type.isRecord() ? List.of(type.getRecordComponents()) : List.of();
+        this.properties = Collections.unmodifiableMap(resolveProperties());
+    }
+
+    /**
+     * 获取类的元数据
+     *
+     * @param type 类
+     * @return 类的元数据
+     */
+    public static ClassMetadata of(Class<?> type) {
+        return METADATA.get(type);
+    }
+
+    /**
+     * @return 类
+     */
+    public Class<?> type() {
+        return type;
+    }
+
+    /**
+     * 获取解析后的泛型父类型，例如{@code class PersonList extends ArrayList<Person>}的{@code List}父类型为{@code List<Person>}
+     *
+     * @param supertype 父类型的原始类型
+     * @return 解析后的泛型父类型，不是该类的父类型时为null
+     */
+    public Type supertype(Class<?> supertype) {
+        return supertypes.get(supertype);
+    }
+
+    /**
+     * @return 父类型中的类型变量到它在该类中实际绑定的类型的映射
+     */
+    public Map<TypeVariable<?>, Type> typeVariableBindings() {
+        return typeVariableBindings;
+    }
+
+    /**
+     * 将父类型中声明的类型（例如父类中方法的泛型返回值）解析为它在该类中的实际类型
+     *
+     * @param type 父类型中声明的类型
+     * @return 实际类型，无法解析的类型变量会保留
+     */
+    public Type resolve(Type type) {
+        return substitute(type, typeVariableBindings);
+    }
+
+    /**
+     * @return record的组件，不是record时为空
+     */
+    public List<RecordComponent> recordComponents() {
+        return recordComponents;
+    }
+
+    /**
+     * @return 属性，按名称排序
+     */
+    public Collection<Property> properties() {
+        return properties.values();
+    }
+
+    /**
+     * @param name 属性名称
+     * @return 属性，不存在时为null
+     */
+    public Property property(String name) {
+        return properties.get(name);
+    }
+
+    @Override
+    public String toString() {
+        return new StringJoiner(", ", ClassMetadata.class.getSimpleName() + "[", "]")
+                .add("type=" + type.getName())
+                .add("properties=" + properties.keySet())
+                .toString();
+    }
+
+    /**
+     * 解析属性：record的组件，或者public的getter以及与之对应的setter。
+     * 编译器为泛型或者协变返回值生成的桥接方法会被忽略，但是public的类继承非public的类时生成的可见性桥接方法是唯一能访问到的方法，会被保留。
+     * setter按照属性解析后的类型查找，找不到时再按照getter的返回值类型查找。
+     *
+     * @return 属性名称到属性的映射
+     */
+    private Map<String, Property> resolveProperties() {
+        Map<String, Property> properties = new TreeMap<>();
+        if (type.isRecord()) {
+            for (RecordComponent component : recordComponents) {
+                Type propertyType = resolve(component.getGenericType());
+                properties.put(component.getName(), new Property(component.getName(), propertyType, erasure(propertyType, component.getType()), component.getAccessor(), null));
+            }
+            return properties;
+        }
+        Method[] methods = type.getMethods();
+        for (Method method : methods) {
+            if (Modifier.isStatic(method.getModifiers()) || method.getParameterCount() != 0 || method.getDeclaringClass() == Object.class
+                    || method.isBridge() && overridden(method, methods)) {
+                continue;
+            }
+            String name = propertyName(method);
+            if (name != null && !properties.containsKey(name)) {
+                Type propertyType = resolve(method.getGenericReturnType());
+                Class<?> rawType = erasure(propertyType, method.getReturnType());
+                Method setter = setter(name, rawType);
+                properties.put(name, new Property(name, propertyType, rawType, method, setter == null && rawType != method.getReturnType() ? setter(name, method.getReturnType()) : setter));
+            }
+        }
+        return properties;
+    }
+
+    /**
+     * @param bridge  桥接方法
+     * @param methods {@link Class#getMethods()}
+     * @return 是否存在与桥接方法名称和参数类型都相同的非桥接方法，即桥接方法是否只是为了泛型或者协变返回值而生成的
+     */
+    private static boolean overridden(Method bridge, Method[] methods) {
+        for (Method method : methods) {
+            if (!method.isBridge() && method.getName().equals(bridge.getName()) && Arrays.equals(method.getParameterTypes(), bridge.getParameterTypes())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private Method setter(String name, Class<?> propertyType) {
+        try {
+            Method setter = type.getMethod("set" + Character.toUpperCase(name.charAt(0)) + name.substring(1), propertyType);
+            return Modifier.isStatic(setter.getModifiers()) ? null : setter;
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 与{@link java.beans.Introspector#decapitalize(String)}相同的规则获取getter对应的属性名称
+     *
+     * @param getter getter
+     * @return 属性名称，不是getter时为null
+     */
+    private static String propertyName(Method getter) {
+        String name = getter.getName();
+        int prefix;
+        if (name.startsWith("get") && getter.getReturnType() != void.class) {
+            prefix = 3;
+        } else if (name.startsWith("is") && getter.getReturnType() == boolean.class) {
+            prefix = 2;
+        } else {
+            return null;
+        }
+        if (name.length() == prefix) {
+            return null;
+        }
+        String property = name.substring(prefix);
+        if (property.length() > 1 && Character.isUpperCase(property.charAt(0)) && Character.isUpperCase(property.charAt(1))) {
+            return property;
+        }
+        return Character.toLowerCase(property.charAt(0)) + property.substring(1);
+    }
+
+    private static Class<?> rawType(Type type) {
+        return type instanceof ParameterizedType ? (Class<?>) ((ParameterizedType) type).getRawType() : (Class<?>) type;
+    }
+
+    /**
+     * 获取解析后的类型的原始类型
+     *
+     * @param type     解析后的类型
+     * @param fallback 无法确定原始类型（类型变量或者通配符）时使用的类型
+     * @return 原始类型
+     */
+    private static Class<?> erasure(Type type, Class<?> fallback) {
+        if (type instanceof Class || type instanceof ParameterizedType) {
+            return rawType(type);
+        }
+        if (type instanceof GenericArrayType) {
+            Class<?> component = erasure(((GenericArrayType) type).getGenericComponentType(), fallback.isArray() ? fallback.getComponentType() : Object.class);
+            return Array.newInstance(component, 0).getClass();
+        }
+        return fallback;
+    }
+
+    /**
+     * 用绑定的类型替换类型中的类型变量
+     *
+     * @param type     类型
+     * @param bindings 类型变量的绑定
+     * @return 替换后规范化的类型
+     */
+    private static Type substitute(Type type, Map<TypeVariable<?>, Type> bindings) {
+        if (type instanceof Class || bindings.isEmpty()) {
+            return Types.canonicalize(type);
+        }
+        if (type instanceof TypeVariable) {
+            return bindings.getOrDefault(type, type);
+        }
+        if (type instanceof ParameterizedType) {
+            ParameterizedType parameterizedType = (ParameterizedType) type;
+            Type ownerType = parameterizedType.getOwnerType();
+            Type[] arguments = parameterizedType.getActualTypeArguments();
+            for (int i = 0; i < arguments.length; i++) {
+                arguments[i] = substitute(arguments[i], bindings);
+            }
+            return Types.parameterizedWithOwner(ownerType == null ? null : substitute(ownerType, bindings), (Class<?>) parameterizedType.getRawType(), arguments);
+        }
+        if (type instanceof GenericArrayType) {
+            return Types.arrayOf(substitute(((GenericArrayType) type).getGenericComponentType(), bindings));
+        }
+        if (type instanceof WildcardType) {
+            WildcardType wildcardType = (WildcardType) type;
+            if (wildcardType.getLowerBounds().length > 0) {
+                return Types.supertypeOf(substitute(wildcardType.getLowerBounds()[0], bindings));
+            }
+            Type upperBound = wildcardType.getUpperBounds()[0];
+            return upperBound == Object.class ? Types.wildcard() : Types.subtypeOf(substitute(upperBound, bindings));
+        }
+        return type;
+    }
+
+    /**
+     * 属性
+     */
+    public static final class Property {
+
+        private final String name;
+
+        private final Type type;
+
+        private final Class<?> rawType;
+
+        private final Method getter;
+
+        private final Method setter;
+
+        private Property(String name, Type type, Class<?> rawType, Method getter, Method setter) {
+            this.name = name;
+            this.type = type;
+            this.rawType = rawType;
+            this.getter = getter;
+            this.setter = setter;
+        }
+
+        /**
+         * @return 属性名称
+         */
+        public String name() {
+            return name;
+        }
+
+        /**
+         * @return 属性解析后的泛型类型
+         */
+        public Type type() {
+            return type;
+        }
+
+        /**
+         * @return 属性解析后的泛型类型的原始类型，例如{@code class A extends Base<Long>}中继承的{@code T getId()}为{@code Long}
+         */
+        public Class<?> rawType() {
+            return rawType;
+        }
+
+        /**
+         * 类本身不是public的或者所在的包没有开放时，getter和setter虽然是public的但不一定能直接通过反射调用，
+         * 调用方需要自行通过{@link Method#trySetAccessible()}或者{@link java.lang.invoke.MethodHandles#privateLookupIn}获取访问权限。
+         *
+         * @return getter或者record的访问器
+         */
+        public Method getter() {
+            return getter;
+        }
+
+        /**
+         * @return setter，只读属性为null
+         */
+        public Method setter() {
+            return setter;
+        }
+
+        @Override
+        public String toString() {
+            return name + ": " + type.getTypeName();
+        }
+    }
+}
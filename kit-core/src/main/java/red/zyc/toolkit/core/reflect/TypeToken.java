@@ -18,7 +18,9 @@ package red.zyc.toolkit.core.reflect;
 
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
-import java.util.Objects;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.StringJoiner;
 
 /**
@@ -29,35 +31,138 @@ import java.util.StringJoiner;
  *     TypeToken&lt;List&lt;String&gt;&gt; stringList = new TypeToken&lt;List&lt;String&gt;&gt;(){};
  *     stringList.getType()返回的泛型参数为: java.util.List&lt;java.lang.String&gt;
  * </pre>
+ * 捕获的类型会通过{@link Types#canonicalize(Type)}规范化，两个{@link TypeToken}只要捕获的类型结构相同就相等，
+ * 与它们是哪个匿名子类无关，所以可以直接作为缓存的键。
+ * <p>
+ * 也可以通过{@link #parameterized(Class, Type...)}、{@link #listOf(Class)}、{@link #mapOf(Class, Class)}等工厂方法在运行时组合出需要的类型，
+ * 不需要在每个调用处定义一个匿名子类，通配符可以通过{@link Types#wildcard()}等方法构造：
+ * <pre>
+ *     TypeToken&lt;Map&lt;String, List&lt;Person&gt;&gt;&gt; token = TypeToken.mapOf(TypeToken.of(String.class), TypeToken.listOf(Person.class));
+ * </pre>
  *
  * @param <T> 需要捕获的明确类型
  * @author zyc
  */
 public abstract class TypeToken<T> {
 
+    /**
+     * 通过工厂方法创建的{@link TypeToken}的缓存
+     */
+    private static final WeakInterner<Type, TypeToken<?>> CACHE = new WeakInterner<>(TypeToken::getType);
+
     /**
      * {@link T}运行时的类型
      */
     private final Type type;
 
     protected TypeToken() {
-        type = capture();
+        type = Types.canonicalize(capture());
     }
 
     private TypeToken(Type type) {
-        this.type = type;
+        this.type = Types.canonicalize(type);
     }
 
     /**
-     * 通过已知对象的{@link Type}实例化{@link TypeToken}
+     * 通过已知对象的{@link Type}实例化{@link TypeToken}，相同类型的{@link TypeToken}会被缓存
      *
      * @param type 对象的{@link Type}
      * @param <T>  对象的运行时类型
      * @return 该对象的 {@link TypeToken}
+     * @throws IllegalArgumentException 类型为null
      */
+    @SuppressWarnings("unchecked")
     public static <T> TypeToken<T> of(Type type) {
-        return new TypeToken<T>(type) {
-        };
+        return (TypeToken<T>) CACHE.intern(Types.canonicalize(type), canonical -> new TypeToken<T>(canonical) {
+        });
+    }
+
+    /**
+     * 参数化类型的{@link TypeToken}
+     *
+     * @param rawType       原始类型
+     * @param typeArguments 类型参数
+     * @param <T>           参数化类型
+     * @return 参数化类型的{@link TypeToken}
+     */
+    public static <T> TypeToken<T> parameterized(Class<?> rawType, Type... typeArguments) {
+        return of(Types.parameterized(rawType, typeArguments));
+    }
+
+    /**
+     * @param elementType 元素的类型
+     * @param <E>         元素的类型
+     * @return {@code List<E>}的{@link TypeToken}
+     */
+    public static <E> TypeToken<List<E>> listOf(Class<E> elementType) {
+        return parameterized(List.class, elementType);
+    }
+
+    /**
+     * @param elementType 元素的类型
+     * @param <E>         元素的类型
+     * @return {@code List<E>}的{@link TypeToken}
+     */
+    public static <E> TypeToken<List<E>> listOf(TypeToken<E> elementType) {
+        return parameterized(List.class, elementType.type);
+    }
+
+    /**
+     * @param elementType 元素的类型
+     * @param <E>         元素的类型
+     * @return {@code Set<E>}的{@link TypeToken}
+     */
+    public static <E> TypeToken<Set<E>> setOf(Class<E> elementType) {
+        return parameterized(Set.class, elementType);
+    }
+
+    /**
+     * @param elementType 元素的类型
+     * @param <E>         元素的类型
+     * @return {@code Set<E>}的{@link TypeToken}
+     */
+    public static <E> TypeToken<Set<E>> setOf(TypeToken<E> elementType) {
+        return parameterized(Set.class, elementType.type);
+    }
+
+    /**
+     * @param keyType   键的类型
+     * @param valueType 值的类型
+     * @param <K>       键的类型
+     * @param <V>       值的类型
+     * @return {@code Map<K, V>}的{@link TypeToken}
+     */
+    public static <K, V> TypeToken<Map<K, V>> mapOf(Class<K> keyType, Class<V> valueType) {
+        return parameterized(Map.class, keyType, valueType);
+    }
+
+    /**
+     * @param keyType   键的类型
+     * @param valueType 值的类型
+     * @param <K>       键的类型
+     * @param <V>       值的类型
+     * @return {@code Map<K, V>}的{@link TypeToken}
+     */
+    public static <K, V> TypeToken<Map<K, V>> mapOf(TypeToken<K> keyType, TypeToken<V> valueType) {
+        return parameterized(Map.class, keyType.type, valueType.type);
+    }
+
+    /**
+     * @param componentType 组件的类型
+     * @param <E>           组件的类型
+     * @return {@code E[]}的{@link TypeToken}
+     */
+    public static <E> TypeToken<E[]> arrayOf(Class<E> componentType) {
+        return of(Types.arrayOf(componentType));
+    }
+
+    /**
+     * @param componentType 组件的类型
+     * @param <E>           组件的类型
+     * @return {@code E[]}的{@link TypeToken}
+     */
+    public static <E> TypeToken<E[]> arrayOf(TypeToken<E> componentType) {
+        return of(Types.arrayOf(componentType.type));
     }
 
     /**
@@ -68,16 +173,16 @@ public abstract class TypeToken<T> {
     }
 
     @Override
-    public boolean equals(Object o) {
+    public final boolean equals(Object o) {
         if (this == o) return true;
-        if (o == null || getClass() != o.getClass()) return false;
+        if (!(o instanceof TypeToken)) return false;
         TypeToken<?> typeToken = (TypeToken<?>) o;
-        return Objects.equals(type, typeToken.type);
+        return type == typeToken.type || type.equals(typeToken.type);
     }
 
     @Override
-    public int hashCode() {
-        return Objects.hash(type);
+    public final int hashCode() {
+        return type.hashCode();
     }
 
     @Override
@@ -91,12 +196,11 @@ public abstract class TypeToken<T> {
      * @return {@link T}运行时被注解的类型
      */
     private Type capture() {
-        Class<?> clazz = getClass();
-        Type superclass = clazz.getGenericSuperclass();
-        if (!(superclass instanceof ParameterizedType)) {
-            throw new IllegalArgumentException(String.format("%s必须是参数化类型", superclass));
+        Type supertype = ClassMetadata.of(getClass()).supertype(TypeToken.class);
+        if (!(supertype instanceof ParameterizedType)) {
+            throw new IllegalArgumentException(String.format("%s必须是参数化类型", getClass().getGenericSuperclass()));
         }
-        return ((ParameterizedType) superclass).getActualTypeArguments()[0];
+        return ((ParameterizedType) supertype).getActualTypeArguments()[0];
     }
 
 }
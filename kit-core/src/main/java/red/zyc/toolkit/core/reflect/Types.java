@@ -0,0 +1,316 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package red.zyc.toolkit.core.reflect;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.lang.reflect.WildcardType;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.StringJoiner;
+import java.util.function.Function;
+
+/**
+ * {@link Type}的规范化表示。
+ * <p>
+ * 规范化后的{@link ParameterizedType}、{@link WildcardType}、{@link GenericArrayType}与JDK的实现在
+ * {@link Object#equals(Object)}和{@link Object#hashCode()}上完全一致，可以和JDK的实现混用作为键，
+ * 同时哈希值在创建时预先计算好。组件类型是{@link Class}的{@link GenericArrayType}会被规范化为数组的{@link Class}。
+ * 规范化的类型通过弱引用的并发驻留表进行驻留，结构相同的类型只会存在一个实例，不再使用时可以被回收。
+ *
+ * @author zyc
+ */
+public final class Types {
+
+    /**
+     * 驻留表
+     */
+    private static final WeakInterner<Type, Type> INTERNED = new WeakInterner<>(Function.identity());
+
+    private static final Type[] EMPTY = new Type[0];
+
+    private static final Type[] OBJECT = {Object.class};
+
+    private Types() {
+    }
+
+    /**
+     * 获取{@link Type}的规范化表示，{@link Class}和{@link TypeVariable}会原样返回
+     *
+     * @param type {@link Type}
+     * @return 规范化的{@link Type}
+     * @throws IllegalArgumentException 类型为null或者不是JDK中的{@link Type}的子接口
+     */
+    public static Type canonicalize(Type type) {
+        if (type == null) {
+            throw new IllegalArgumentException("类型不能为空");
+        }
+        if (type instanceof Class || type instanceof TypeVariable || type instanceof CanonicalType) {
+            return type;
+        }
+        if (type instanceof ParameterizedType) {
+            ParameterizedType parameterizedType = (ParameterizedType) type;
+            return parameterizedWithOwner(parameterizedType.getOwnerType(), (Class<?>) parameterizedType.getRawType(), parameterizedType.getActualTypeArguments());
+        }
+        if (type instanceof GenericArrayType) {
+            return arrayOf(((GenericArrayType) type).getGenericComponentType());
+        }
+        if (type instanceof WildcardType) {
+            WildcardType wildcardType = (WildcardType) type;
+            return wildcard(wildcardType.getUpperBounds(), wildcardType.getLowerBounds());
+        }
+        throw new IllegalArgumentException("不支持的类型：" + type + "（" + type.getClass().getName() + "）");
+    }
+
+    /**
+     * 规范化的{@link ParameterizedType}
+     *
+     * @param rawType       原始类型
+     * @param typeArguments 类型参数
+     * @return 规范化的{@link ParameterizedType}
+     */
+    public static ParameterizedType parameterized(Class<?> rawType, Type... typeArguments) {
+        return parameterizedWithOwner(null, rawType, typeArguments);
+    }
+
+    /**
+     * 规范化的{@link ParameterizedType}
+     *
+     * @param ownerType     所属的类型，为null时与JDK一样取原始类型的声明类
+     * @param rawType       原始类型
+     * @param typeArguments 类型参数
+     * @return 规范化的{@link ParameterizedType}
+     */
+    public static ParameterizedType parameterizedWithOwner(Type ownerType, Class<?> rawType, Type... typeArguments) {
+        if (rawType.getTypeParameters().length != typeArguments.length) {
+            throw new IllegalArgumentException(String.format("%s需要%d个类型参数，实际为%d个", rawType.getName(), rawType.getTypeParameters().length, typeArguments.length));
+        }
+        Type owner = ownerType == null ? rawType.getDeclaringClass() : canonicalize(ownerType);
+        Type[] arguments = new Type[typeArguments.length];
+        for (int i = 0; i < arguments.length; i++) {
+            if (typeArguments[i] == null || typeArguments[i] instanceof Class && ((Class<?>) typeArguments[i]).isPrimitive()) {
+                throw new IllegalArgumentException(rawType.getName() + "的类型参数无效：" + typeArguments[i] + "，类型参数不能为空并且不能是基本类型");
+            }
+            arguments[i] = canonicalize(typeArguments[i]);
+        }
+        return intern(new ParameterizedTypeImpl(owner, rawType, arguments));
+    }
+
+    /**
+     * 规范化的数组类型
+     *
+     * @param componentType 组件类型
+     * @return 组件类型是{@link Class}时为数组的{@link Class}，否则为规范化的{@link GenericArrayType}
+     */
+    public static Type arrayOf(Type componentType) {
+        Type component = canonicalize(componentType);
+        if (component instanceof Class) {
+            return Array.newInstance((Class<?>) component, 0).getClass();
+        }
+        return intern(new GenericArrayTypeImpl(component));
+    }
+
+    /**
+     * @return 规范化的{@code ?}
+     */
+    public static WildcardType wildcard() {
+        return wildcard(OBJECT, EMPTY);
+    }
+
+    /**
+     * @param upperBound 上界
+     * @return 规范化的{@code ? extends upperBound}
+     */
+    public static WildcardType subtypeOf(Type upperBound) {
+        return wildcard(new Type[]{upperBound}, EMPTY);
+    }
+
+    /**
+     * @param lowerBound 下界
+     * @return 规范化的{@code ? super lowerBound}
+     */
+    public static WildcardType supertypeOf(Type lowerBound) {
+        return wildcard(OBJECT, new Type[]{lowerBound});
+    }
+
+    /**
+     * 规范化的{@link WildcardType}
+     *
+     * @param upperBounds 上界，为空时与JDK一样为{@link Object}
+     * @param lowerBounds 下界
+     * @return 规范化的{@link WildcardType}
+     */
+    private static WildcardType wildcard(Type[] upperBounds, Type[] lowerBounds) {
+        Type[] upper = upperBounds.length == 0 ? OBJECT : Arrays.stream(upperBounds).map(Types::canonicalize).toArray(Type[]::new);
+        Type[] lower = lowerBounds.length == 0 ? EMPTY : Arrays.stream(lowerBounds).map(Types::canonicalize).toArray(Type[]::new);
+        return intern(new WildcardTypeImpl(upper, lower));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T extends Type> T intern(T type) {
+        return (T) INTERNED.intern(type, Function.identity());
+    }
+
+    /**
+     * 规范化的类型，哈希值在创建时预先计算好
+     */
+    private abstract static class CanonicalType implements Type {
+
+        private final int hash;
+
+        CanonicalType(int hash) {
+            this.hash = hash;
+        }
+
+        @Override
+        public final int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public final String toString() {
+            return getTypeName();
+        }
+    }
+
+    private static final class ParameterizedTypeImpl extends CanonicalType implements ParameterizedType {
+
+        private final Type ownerType;
+
+        private final Class<?> rawType;
+
+        private final Type[] typeArguments;
+
+        private ParameterizedTypeImpl(Type ownerType, Class<?> rawType, Type[] typeArguments) {
+            super(Arrays.hashCode(typeArguments) ^ Objects.hashCode(ownerType) ^ rawType.hashCode());
+            this.ownerType = ownerType;
+            this.rawType = rawType;
+            this.typeArguments = typeArguments;
+        }
+
+        @Override
+        public Type[] getActualTypeArguments() {
+            return typeArguments.clone();
+        }
+
+        @Override
+        public Type getRawType() {
+            return rawType;
+        }
+
+        @Override
+        public Type getOwnerType() {
+            return ownerType;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof ParameterizedType)) return false;
+            ParameterizedType that = (ParameterizedType) o;
+            if (that instanceof ParameterizedTypeImpl) {
+                ParameterizedTypeImpl impl = (ParameterizedTypeImpl) that;
+                return hashCode() == impl.hashCode() && rawType == impl.rawType && Objects.equals(ownerType, impl.ownerType) && Arrays.equals(typeArguments, impl.typeArguments);
+            }
+            return rawType.equals(that.getRawType()) && Objects.equals(ownerType, that.getOwnerType()) && Arrays.equals(typeArguments, that.getActualTypeArguments());
+        }
+
+        @Override
+        public String getTypeName() {
+            StringBuilder builder = new StringBuilder();
+            if (ownerType != null) {
+                builder.append(ownerType.getTypeName()).append('$').append(rawType.getSimpleName());
+            } else {
+                builder.append(rawType.getName());
+            }
+            StringJoiner joiner = new StringJoiner(", ", "<", ">");
+            joiner.setEmptyValue("");
+            for (Type typeArgument : typeArguments) {
+                joiner.add(typeArgument.getTypeName());
+            }
+            return builder.append(joiner).toString();
+        }
+    }
+
+    private static final class GenericArrayTypeImpl extends CanonicalType implements GenericArrayType {
+
+        private final Type componentType;
+
+        private GenericArrayTypeImpl(Type componentType) {
+            super(componentType.hashCode());
+            this.componentType = componentType;
+        }
+
+        @Override
+        public Type getGenericComponentType() {
+            return componentType;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            return o instanceof GenericArrayType && componentType.equals(((GenericArrayType) o).getGenericComponentType());
+        }
+
+        @Override
+        public String getTypeName() {
+            return componentType.getTypeName() + "[]";
+        }
+    }
+
+    private static final class WildcardTypeImpl extends CanonicalType implements WildcardType {
+
+        private final Type[] upperBounds;
+
+        private final Type[] lowerBounds;
+
+        private WildcardTypeImpl(Type[] upperBounds, Type[] lowerBounds) {
+            super(Arrays.hashCode(lowerBounds) ^ Arrays.hashCode(upperBounds));
+            this.upperBounds = upperBounds;
+            this.lowerBounds = lowerBounds;
+        }
+
+        @Override
+        public Type[] getUpperBounds() {
+            return upperBounds.clone();
+        }
+
+        @Override
+        public Type[] getLowerBounds() {
+            return lowerBounds.clone();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof WildcardType)) return false;
+            WildcardType that = (WildcardType) o;
+            return Arrays.equals(lowerBounds, that.getLowerBounds()) && Arrays.equals(upperBounds, that.getUpperBounds());
+        }
+
+        @Override
+        public String getTypeName() {
+            if (lowerBounds.length > 0) {
+                return "? super " + lowerBounds[0].getTypeName();
+            }
+            return upperBounds[0] == Object.class ? "?" : "? extends " + upperBounds[0].getTypeName();
+        }
+    }
+}
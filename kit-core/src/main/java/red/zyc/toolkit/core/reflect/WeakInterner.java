@@ -0,0 +1,178 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package red.zyc.toolkit.core.reflect;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+/**
+ * 以弱引用持有值的并发驻留表，键相同的值只会存在一个实例，值不再使用时可以被回收。
+ * <p>
+ * 查找不需要加锁，只有创建新的值时才可能与其它线程竞争，竞争失败的值会被丢弃。
+ * 键由值本身计算得到，所以表中不会强引用任何键或者值。
+ *
+ * @param <K> 键的类型
+ * @param <V> 值的类型
+ * @author zyc
+ */
+final class WeakInterner<K, V> {
+
+    private final ConcurrentMap<Key, Entry> entries = new ConcurrentHashMap<>();
+
+    /**
+     * 已经被回收的值
+     */
+    private final ReferenceQueue<V> queue = new ReferenceQueue<>();
+
+    /**
+     * 从值中获取键
+     */
+    private final Function<? super V, ?> keyOf;
+
+    /**
+     * @param keyOf 从值中获取键的函数，返回的键必须与创建该值时的键相等
+     */
+    WeakInterner(Function<? super V, ?> keyOf) {
+        this.keyOf = keyOf;
+    }
+
+    /**
+     * 获取键对应的值，不存在时通过{@code factory}创建
+     *
+     * @param key     键
+     * @param factory 创建值的函数
+     * @return 键对应的唯一的值
+     */
+    V intern(K key, Function<? super K, ? extends V> factory) {
+        expunge();
+        Lookup lookup = new Lookup(key);
+        V created = null;
+        while (true) {
+            Entry entry = entries.get(lookup);
+            if (entry != null) {
+                V value = entry.get();
+                if (value != null) {
+                    return value;
+                }
+                entries.remove(entry, entry);
+                continue;
+            }
+            if (created == null) {
+                created = factory.apply(key);
+            }
+            Entry candidate = new Entry(created, lookup.hash);
+            if (entries.putIfAbsent(candidate, candidate) == null) {
+                return created;
+            }
+        }
+    }
+
+    /**
+     * 移除已经被回收的值
+     */
+    private void expunge() {
+        // 队列中的引用就是表中的Entry，按对象相等移除，无需转换类型
+        for (Reference<? extends V> reference; (reference = queue.poll()) != null; ) {
+            entries.remove(reference, reference);
+        }
+    }
+
+    /**
+     * 表中的键，两个键相等当且仅当它们是同一个对象或者它们表示的键相等
+     */
+    private interface Key {
+
+        /**
+         * @return 表示的键，值已经被回收时为null
+         */
+        Object key();
+
+        static boolean equals(Key key, Object o) {
+            if (key == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Object k = key.key();
+            return k != null && k.equals(((Key) o).key());
+        }
+    }
+
+    /**
+     * 查找时使用的键
+     */
+    private static final class Lookup implements Key {
+
+        private final Object key;
+
+        private final int hash;
+
+        private Lookup(Object key) {
+            this.key = key;
+            this.hash = key.hashCode();
+        }
+
+        @Override
+        public Object key() {
+            return key;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return Key.equals(this, o);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    /**
+     * 以弱引用持有值的条目，同时作为表中的键和值
+     */
+    private final class Entry extends WeakReference<V> implements Key {
+
+        private final int hash;
+
+        private Entry(V value, int hash) {
+            super(value, queue);
+            this.hash = hash;
+        }
+
+        @Override
+        public Object key() {
+            V value = get();
+            return value == null ? null : keyOf.apply(value);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return Key.equals(this, o);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
@@ -0,0 +1,9 @@
+/**
+ * @author zyc
+ */
+module kit.core.test {
+    opens red.zyc.toolkit.core.test;
+    opens red.zyc.toolkit.core.test.model;
+    requires kit.core;
+    requires org.junit.jupiter.api;
+}
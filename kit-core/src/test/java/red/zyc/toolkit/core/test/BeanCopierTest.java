@@ -0,0 +1,216 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package red.zyc.toolkit.core.test;
+
+import org.junit.jupiter.api.Test;
+import red.zyc.toolkit.core.bean.BeanCopier;
+import red.zyc.toolkit.core.test.model.Address;
+import red.zyc.toolkit.core.test.model.AddressDto;
+import red.zyc.toolkit.core.test.model.AddressRecord;
+import red.zyc.toolkit.core.test.model.Entity;
+import red.zyc.toolkit.core.test.model.EntityRecord;
+import red.zyc.toolkit.core.test.model.Gender;
+import red.zyc.toolkit.core.test.model.GenderDto;
+import red.zyc.toolkit.core.test.model.Person;
+import red.zyc.toolkit.core.test.model.PersonDto;
+import red.zyc.toolkit.core.test.model.PersonRecord;
+import red.zyc.toolkit.core.test.model.Visible;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * @author zyc
+ */
+class BeanCopierTest {
+
+    @Test
+    void testBean() {
+        PersonDto dto = BeanCopier.copy(person("张三", "北京"), PersonDto.class);
+        assertEquals("张三", dto.getName());
+        assertEquals(18, dto.getAge());
+        // 不同的枚举类型之间按名称转换
+        assertSame(GenderDto.FEMALE, dto.getGender());
+        assertEquals("北京", dto.getAddress().getCity());
+        assertEquals(List.of("北京", "上海"), cities(dto.getAddresses()));
+        assertEquals("上海", dto.getAddressMap().get("work").getCity());
+        // 数组转换为集合，集合转换为数组
+        assertEquals(List.of("北京", "上海"), cities(dto.getAddressArray()));
+        assertArrayEquals(new String[]{"a", "b"}, dto.getTags());
+        // 无法转换的属性会被忽略
+        assertNull(dto.getCode());
+
+        Person person = BeanCopier.copy(dto, Person.class);
+        assertEquals("张三", person.getName());
+        assertSame(Gender.FEMALE, person.getGender());
+        assertEquals("上海", person.getAddressArray()[1].getCity());
+        assertEquals(new LinkedHashSet<>(List.of("a", "b")), person.getTags());
+    }
+
+    @Test
+    void testPrimitiveAndNull() {
+        PersonDto dto = new PersonDto();
+        dto.setName("张三");
+        Person person = new Person();
+        person.setAge(20);
+        person.setCode("code");
+        BeanCopier.of(PersonDto.class, Person.class).copy(dto, person);
+        // null不会写入原始类型的属性，但会覆盖引用类型的属性
+        assertEquals(20, person.getAge());
+        assertEquals("张三", person.getName());
+        assertEquals("code", person.getCode());
+        assertNull(person.getAddress());
+        assertNull(BeanCopier.copy(null, Person.class));
+        assertNull(BeanCopier.of(Person.class, PersonDto.class).copy(null));
+    }
+
+    @Test
+    void testRecord() {
+        PersonRecord record = BeanCopier.copy(person("张三", "北京"), PersonRecord.class);
+        assertEquals(new PersonRecord("张三", 18, new AddressRecord("北京"), List.of(new AddressRecord("北京"), new AddressRecord("上海"))), record);
+        // record的原始类型组件没有值时为默认值
+        assertEquals(new PersonRecord(null, 0, null, null), BeanCopier.copy(new PersonDto(), PersonRecord.class));
+        AddressDto address = BeanCopier.copy(new AddressRecord("深圳"), AddressDto.class);
+        assertEquals("深圳", address.getCity());
+        assertThrows(UnsupportedOperationException.class, () -> BeanCopier.of(Person.class, PersonRecord.class).copy(new Person(), record));
+    }
+
+    @Test
+    void testSelfReference() {
+        Person person = person("张三", "北京");
+        person.setFriend(person("李四", "上海"));
+        person.getFriend().setFriend(person("王五", "深圳"));
+        PersonDto dto = BeanCopier.copy(person, PersonDto.class);
+        assertEquals("李四", dto.getFriend().getName());
+        assertEquals("深圳", dto.getFriend().getFriend().getAddress().getCity());
+        assertNull(dto.getFriend().getFriend().getFriend());
+    }
+
+    @Test
+    void testBridge() {
+        Entity entity = new Entity();
+        entity.setId(1L);
+        assertEquals(new EntityRecord(1L), BeanCopier.copy(entity, EntityRecord.class));
+        assertEquals(1L, BeanCopier.copy(new EntityRecord(1L), Entity.class).getId());
+    }
+
+    @Test
+    void testVisibilityBridge() {
+        Visible visible = new Visible();
+        visible.setId(1L);
+        visible.setName("张三");
+        Visible copy = BeanCopier.copy(visible, Visible.class);
+        assertEquals(1L, copy.getId());
+        assertEquals("张三", copy.getName());
+        assertEquals(new EntityRecord(1L), BeanCopier.copy(visible, EntityRecord.class));
+    }
+
+    @Test
+    void testNonPublicClass() throws ClassNotFoundException {
+        Class<?> hidden = Class.forName("red.zyc.toolkit.core.test.model.Hidden");
+        Object copy = BeanCopier.copy(person("张三", "北京"), hidden);
+        assertSame(hidden, copy.getClass());
+        assertEquals("张三", BeanCopier.copy(copy, PersonDto.class).getName());
+    }
+
+    @Test
+    void testChildClassLoader() throws ClassNotFoundException {
+        Class<?> childAddress = new ChildClassLoader(Address.class).loadClass(Address.class.getName());
+        assertNotSame(Address.class, childAddress);
+        AddressDto dto = new AddressDto();
+        dto.setCity("北京");
+        Object address = BeanCopier.copy(dto, childAddress);
+        assertSame(childAddress, address.getClass());
+        assertEquals("北京", BeanCopier.copy(address, AddressDto.class).getCity());
+        assertSame(BeanCopier.of(childAddress, AddressDto.class), BeanCopier.of(childAddress, AddressDto.class));
+        assertSame(BeanCopier.of(AddressDto.class, childAddress), BeanCopier.of(AddressDto.class, childAddress));
+
+        // 互相不可见的类加载器之间不会缓存
+        Class<?> siblingAddress = new ChildClassLoader(Address.class).loadClass(Address.class.getName());
+        assertEquals("北京", BeanCopier.copy(BeanCopier.copy(address, siblingAddress), AddressDto.class).getCity());
+        assertNotSame(BeanCopier.of(childAddress, siblingAddress), BeanCopier.of(childAddress, siblingAddress));
+    }
+
+    private static Person person(String name, String city) {
+        Person person = new Person();
+        person.setName(name);
+        person.setAge(18);
+        person.setGender(Gender.FEMALE);
+        person.setAddress(address(city));
+        person.setAddresses(List.of(address(city), address("上海")));
+        person.setAddressMap(Map.of("work", address("上海")));
+        person.setAddressArray(new Address[]{address(city), address("上海")});
+        person.setTags(new LinkedHashSet<>(List.of("a", "b")));
+        person.setCode("code");
+        return person;
+    }
+
+    private static Address address(String city) {
+        Address address = new Address();
+        address.setCity(city);
+        return address;
+    }
+
+    private static List<String> cities(List<AddressDto> addresses) {
+        List<String> cities = new ArrayList<>();
+        addresses.forEach(address -> cities.add(address.getCity()));
+        return cities;
+    }
+
+    /**
+     * 重新定义指定类的类加载器，kit-core的类加载器看不到其中的类
+     */
+    private static final class ChildClassLoader extends ClassLoader {
+
+        private final Class<?> type;
+
+        private ChildClassLoader(Class<?> type) {
+            super(BeanCopierTest.class.getClassLoader());
+            this.type = type;
+        }
+
+        @Override
+        protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+            if (!name.equals(type.getName())) {
+                return super.loadClass(name, resolve);
+            }
+            synchronized (getClassLoadingLock(name)) {
+                Class<?> loaded = findLoadedClass(name);
+                if (loaded != null) {
+                    return loaded;
+                }
+                try (InputStream in = type.getResourceAsStream(type.getSimpleName() + ".class")) {
+                    byte[] bytes = in.readAllBytes();
+                    return defineClass(name, bytes, 0, bytes.length);
+                } catch (IOException e) {
+                    throw new ClassNotFoundException(name, e);
+                }
+            }
+        }
+    }
+}
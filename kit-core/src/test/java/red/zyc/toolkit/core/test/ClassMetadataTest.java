@@ -0,0 +1,132 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package red.zyc.toolkit.core.test;
+
+import org.junit.jupiter.api.Test;
+import red.zyc.toolkit.core.reflect.ClassMetadata;
+import red.zyc.toolkit.core.reflect.Types;
+import red.zyc.toolkit.core.test.model.Base;
+import red.zyc.toolkit.core.test.model.Box;
+import red.zyc.toolkit.core.test.model.Entity;
+import red.zyc.toolkit.core.test.model.HasId;
+import red.zyc.toolkit.core.test.model.Leaf;
+import red.zyc.toolkit.core.test.model.Middle;
+import red.zyc.toolkit.core.test.model.Visible;
+
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * @author zyc
+ */
+class ClassMetadataTest {
+
+    private static final Type LIST_OF_STRING = Types.parameterized(List.class, String.class);
+
+    @Test
+    void testSupertype() {
+        ClassMetadata metadata = ClassMetadata.of(Leaf.class);
+        assertSame(Leaf.class, metadata.supertype(Leaf.class));
+        assertEquals(Types.parameterized(Middle.class, String.class), metadata.supertype(Middle.class));
+        // 通过中间的泛型子类解析
+        assertEquals(Types.parameterized(Base.class, LIST_OF_STRING), metadata.supertype(Base.class));
+        assertSame(Object.class, metadata.supertype(Object.class));
+        assertNull(metadata.supertype(HasId.class));
+        assertEquals(Types.parameterized(HasId.class, Long.class), ClassMetadata.of(Entity.class).supertype(HasId.class));
+        assertEquals(Types.parameterized(Base.class, Base.class.getTypeParameters()), ClassMetadata.of(Base.class).supertype(Base.class));
+    }
+
+    @Test
+    void testTypeVariableBindings() {
+        ClassMetadata metadata = ClassMetadata.of(Leaf.class);
+        assertEquals(LIST_OF_STRING, metadata.typeVariableBindings().get(Base.class.getTypeParameters()[0]));
+        assertEquals(String.class, metadata.typeVariableBindings().get(Middle.class.getTypeParameters()[0]));
+        assertEquals(2, metadata.typeVariableBindings().size());
+        assertEquals(Types.parameterized(List.class, LIST_OF_STRING), metadata.resolve(Types.parameterized(List.class, Base.class.getTypeParameters()[0])));
+        // 无法解析的类型变量会保留
+        assertEquals(Box.class.getTypeParameters()[0], metadata.resolve(Box.class.getTypeParameters()[0]));
+    }
+
+    @Test
+    void testProperties() throws NoSuchMethodException {
+        ClassMetadata metadata = ClassMetadata.of(Leaf.class);
+        assertEquals(List.of("array", "value", "values"), metadata.properties().stream().map(ClassMetadata.Property::name).collect(Collectors.toList()));
+
+        ClassMetadata.Property value = metadata.property("value");
+        assertEquals(LIST_OF_STRING, value.type());
+        assertSame(List.class, value.rawType());
+        assertEquals(Base.class.getMethod("getValue"), value.getter());
+        // setter按照擦除后的类型查找
+        assertEquals(Base.class.getMethod("setValue", Object.class), value.setter());
+
+        assertEquals(Types.parameterized(List.class, LIST_OF_STRING), metadata.property("values").type());
+        assertSame(List.class, metadata.property("values").rawType());
+        assertEquals(Types.arrayOf(LIST_OF_STRING), metadata.property("array").type());
+        assertSame(List[].class, metadata.property("array").rawType());
+        assertNotNull(metadata.property("array").setter());
+    }
+
+    @Test
+    void testRecord() throws NoSuchMethodException {
+        ClassMetadata metadata = ClassMetadata.of(Box.class);
+        assertEquals(2, metadata.recordComponents().size());
+        ClassMetadata.Property value = metadata.property("value");
+        assertEquals(Box.class.getTypeParameters()[0], value.type());
+        assertSame(Object.class, value.rawType());
+        assertEquals(Box.class.getMethod("value"), value.getter());
+        assertNull(value.setter());
+        assertEquals(LIST_OF_STRING, metadata.property("tags").type());
+        assertSame(List.class, metadata.property("tags").rawType());
+    }
+
+    @Test
+    void testBridge() throws NoSuchMethodException {
+        ClassMetadata.Property id = ClassMetadata.of(Entity.class).property("id");
+        assertSame(Long.class, id.type());
+        assertSame(Long.class, id.rawType());
+        assertFalse(id.getter().isBridge());
+        assertEquals(Entity.class.getMethod("getId"), id.getter());
+        assertFalse(id.setter().isBridge());
+        assertArrayEquals(new Class<?>[]{Long.class}, id.setter().getParameterTypes());
+    }
+
+    @Test
+    void testVisibilityBridge() {
+        ClassMetadata metadata = ClassMetadata.of(Visible.class);
+        assertEquals(List.of("id", "name"), metadata.properties().stream().map(ClassMetadata.Property::name).collect(Collectors.toList()));
+        // 非public的父类的方法只能通过子类中的桥接方法访问
+        ClassMetadata.Property id = metadata.property("id");
+        assertSame(Long.class, id.type());
+        assertSame(Visible.class, id.getter().getDeclaringClass());
+        assertNotNull(id.setter());
+    }
+
+    @Test
+    void testNonPublicClass() throws ClassNotFoundException {
+        ClassMetadata metadata = ClassMetadata.of(Class.forName("red.zyc.toolkit.core.test.model.Hidden"));
+        assertSame(String.class, metadata.property("name").type());
+        assertNotNull(metadata.property("name").setter());
+    }
+}
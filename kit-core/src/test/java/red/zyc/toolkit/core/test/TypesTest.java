@@ -0,0 +1,78 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package red.zyc.toolkit.core.test;
+
+import org.junit.jupiter.api.Test;
+import red.zyc.toolkit.core.reflect.TypeToken;
+import red.zyc.toolkit.core.reflect.Types;
+
+import java.lang.reflect.Type;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * @author zyc
+ */
+class TypesTest {
+
+    @Test
+    void testNull() {
+        assertEquals("类型不能为空", assertThrows(IllegalArgumentException.class, () -> Types.canonicalize(null)).getMessage());
+        assertThrows(IllegalArgumentException.class, () -> TypeToken.of(null));
+        assertThrows(IllegalArgumentException.class, () -> Types.parameterized(List.class, (Type) null));
+    }
+
+    @Test
+    void testCanonicalize() {
+        Type captured = new TypeToken<Map<String, List<Integer>>>() {
+        }.getType();
+        Type constructed = Types.parameterized(Map.class, String.class, Types.parameterized(List.class, Integer.class));
+        assertEquals(captured, constructed);
+        assertEquals(captured.hashCode(), constructed.hashCode());
+        assertEquals("java.util.Map<java.lang.String, java.util.List<java.lang.Integer>>", constructed.getTypeName());
+        assertSame(captured, constructed);
+        assertSame(String[].class, Types.arrayOf(String.class));
+        assertSame(Types.subtypeOf(Number.class), Types.subtypeOf(Number.class));
+        assertEquals(new TypeToken<List<? extends Number>>() {
+        }, TypeToken.parameterized(List.class, Types.subtypeOf(Number.class)));
+    }
+
+    @Test
+    void testConcurrentIntern() {
+        // 以对象本身区分
+        Set<Type> types = Collections.synchronizedSet(Collections.newSetFromMap(new IdentityHashMap<>()));
+        Set<TypeToken<?>> typeTokens = Collections.synchronizedSet(Collections.newSetFromMap(new IdentityHashMap<>()));
+        IntStream.range(0, 10000).parallel().forEach(i -> {
+            Type type = Types.parameterized(Map.class, String.class, Types.parameterized(List.class, Long.class));
+            types.add(type);
+            typeTokens.add(TypeToken.of(type));
+        });
+        assertEquals(1, types.size());
+        assertEquals(1, typeTokens.size());
+        Type type = types.iterator().next();
+        assertSame(type, Types.parameterized(Map.class, String.class, Types.parameterized(List.class, Long.class)));
+        assertSame(typeTokens.iterator().next(), TypeToken.of(type));
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package red.zyc.toolkit.core.test.model;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 与{@link Person}同名但类型不同的属性
+ *
+ * @author zyc
+ */
+public class PersonDto {
+
+    private String name;
+
+    private Integer age;
+
+    private GenderDto gender;
+
+    private AddressDto address;
+
+    private List<AddressDto> addresses;
+
+    private Map<String, AddressDto> addressMap;
+
+    private List<AddressDto> addressArray;
+
+    private String[] tags;
+
+    private Long code;
+
+    private PersonDto friend;
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public Integer getAge() {
+        return age;
+    }
+
+    public void setAge(Integer age) {
+        this.age = age;
+    }
+
+    public GenderDto getGender() {
+        return gender;
+    }
+
+    public void setGender(GenderDto gender) {
+        this.gender = gender;
+    }
+
+    public AddressDto getAddress() {
+        return address;
+    }
+
+    public void setAddress(AddressDto address) {
+        this.address = address;
+    }
+
+    public List<AddressDto> getAddresses() {
+        return addresses;
+    }
+
+    public void setAddresses(List<AddressDto> addresses) {
+        this.addresses = addresses;
+    }
+
+    public Map<String, AddressDto> getAddressMap() {
+        return addressMap;
+    }
+
+    public void setAddressMap(Map<String, AddressDto> addressMap) {
+        this.addressMap = addressMap;
+    }
+
+    public List<AddressDto> getAddressArray() {
+        return addressArray;
+    }
+
+    public void setAddressArray(List<AddressDto> addressArray) {
+        this.addressArray = addressArray;
+    }
+
+    public String[] getTags() {
+        return tags;
+    }
+
+    public void setTags(String[] tags) {
+        this.tags = tags;
+    }
+
+    public Long getCode() {
+        return code;
+    }
+
+    public void setCode(Long code) {
+        this.code = code;
+    }
+
+    public PersonDto getFriend() {
+        return friend;
+    }
+
+    public void setFriend(PersonDto friend) {
+        this.friend = friend;
+    }
+}
@@ -9,4 +9,6 @@ module kit.json {
     requires com.fasterxml.jackson.core;
     requires com.fasterxml.jackson.databind;
     requires com.fasterxml.jackson.datatype.jsr310;
+    requires static com.fasterxml.jackson.dataformat.smile;
+    requires static com.fasterxml.jackson.dataformat.cbor;
 }
\ No newline at end of file
@@ -18,8 +18,16 @@ package red.zyc.toolkit.json;
 
 import red.zyc.toolkit.core.reflect.TypeToken;
 
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
 import java.lang.reflect.Type;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 /**
  * json操作器基类
@@ -59,11 +67,104 @@ public abstract class AbstractJsonOperator<O extends JsonOperator<J>, J> impleme
         return fromJsonString(json, typeToken.getType());
     }
 
+    @Override
+    public <T> T fromJson(byte[] json, Class<T> clazz) {
+        return fromJson(json, (Type) clazz);
+    }
+
+    @Override
+    public <T> T fromJson(byte[] json, TypeToken<T> typeToken) {
+        return fromJson(json, typeToken.getType());
+    }
+
+    @Override
+    public <T> T fromJson(InputStream in, Class<T> clazz) {
+        return fromJson(in, (Type) clazz);
+    }
+
+    @Override
+    public <T> T fromJson(InputStream in, TypeToken<T> typeToken) {
+        return fromJson(in, typeToken.getType());
+    }
+
+    @Override
+    public <T> T fromJson(Reader reader, Class<T> clazz) {
+        return fromJson(reader, (Type) clazz);
+    }
+
+    @Override
+    public <T> T fromJson(Reader reader, TypeToken<T> typeToken) {
+        return fromJson(reader, typeToken.getType());
+    }
+
+    @Override
+    public <T> JsonCodec<T> codec(Class<T> clazz) {
+        return codec((Type) clazz);
+    }
+
+    @Override
+    public <T> JsonCodec<T> codec(TypeToken<T> typeToken) {
+        return codec(typeToken.getType());
+    }
+
+    @Override
+    public <T> Stream<T> readJsonLines(InputStream in, Class<T> clazz) {
+        return readJsonLines(in, (Type) clazz);
+    }
+
+    @Override
+    public <T> Stream<T> readJsonLines(InputStream in, TypeToken<T> typeToken) {
+        return readJsonLines(in, typeToken.getType());
+    }
+
+    @Override
+    public <T> Stream<T> readJsonLines(Path path, Class<T> clazz) {
+        return readJsonLines(path, (Type) clazz);
+    }
+
+    @Override
+    public <T> Stream<T> readJsonLines(Path path, Type type) {
+        InputStream in;
+        try {
+            in = Files.newInputStream(path);
+        } catch (IOException e) {
+            throw new JsonException(e.getMessage(), e);
+        }
+        try {
+            return this.<T>readJsonLines(in, type).onClose(() -> close(in));
+        } catch (RuntimeException e) {
+            close(in);
+            throw e;
+        }
+    }
+
+    @Override
+    public <T> Stream<T> readJsonLines(Path path, TypeToken<T> typeToken) {
+        return readJsonLines(path, typeToken.getType());
+    }
+
+    @Override
+    public void writeJsonLines(Stream<?> values, Path path) {
+        try (OutputStream out = Files.newOutputStream(path)) {
+            writeJsonLines(values, out);
+        } catch (IOException e) {
+            throw new JsonException(e.getMessage(), e);
+        }
+    }
+
     @Override
     public <T> T copyProperties(Object target, Class<T> clazz) {
-        return fromJsonString(toJsonString(target), clazz);
+        return copyProperties(target, (Type) clazz);
     }
 
+    /**
+     * 默认通过json字符串中转来拷贝属性，子类应该尽量直接在对象和json操作主体的中间表示之间转换以避免生成json文本。
+     *
+     * @param target 目标对象
+     * @param type   新对象的{@link Type}
+     * @param <T>    新对象的类型
+     * @return 新对象
+     */
     @Override
     public <T> T copyProperties(Object target, Type type) {
         return fromJsonString(toJsonString(target), type);
@@ -71,6 +172,39 @@ public abstract class AbstractJsonOperator<O extends JsonOperator<J>, J> impleme
 
     @Override
     public <T> T copyProperties(Object target, TypeToken<T> typeToken) {
-        return fromJsonString(toJsonString(target), typeToken.getType());
+        return copyProperties(target, typeToken.getType());
+    }
+
+    @Override
+    public <T> T extract(String json, String jsonPointer, Class<T> clazz) {
+        return extract(json, jsonPointer, (Type) clazz);
+    }
+
+    @Override
+    public <T> T extract(String json, String jsonPointer, TypeToken<T> typeToken) {
+        return extract(json, jsonPointer, typeToken.getType());
+    }
+
+    @Override
+    public <T> T extract(byte[] json, String jsonPointer, Class<T> clazz) {
+        return extract(json, jsonPointer, (Type) clazz);
+    }
+
+    @Override
+    public <T> T extract(byte[] json, String jsonPointer, TypeToken<T> typeToken) {
+        return extract(json, jsonPointer, typeToken.getType());
+    }
+
+    /**
+     * 关闭资源
+     *
+     * @param closeable 需要关闭的资源
+     */
+    private static void close(Closeable closeable) {
+        try {
+            closeable.close();
+        } catch (IOException e) {
+            throw new JsonException(e.getMessage(), e);
+        }
     }
 }
@@ -0,0 +1,377 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package red.zyc.toolkit.json;
+
+import red.zyc.toolkit.core.reflect.TypeToken;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.Writer;
+import java.lang.reflect.Type;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+
+/**
+ * 异步执行json操作的门面，所有操作都在指定的{@link Executor}中执行并返回{@link CompletableFuture}，
+ * 避免序列化或反序列化大json时阻塞调用方线程，例如事件循环线程。
+ * <p>
+ * 同时执行中的操作数量受到限制，超过上限时不会阻塞调用方而是直接返回一个以{@link RejectedExecutionException}异常完成的{@link CompletableFuture}，
+ * 防止突发的大量大json把内存耗尽，调用方可以根据该异常自行重试或者降级。
+ * json操作本身失败时返回的{@link CompletableFuture}则以被包装的json操作器抛出的异常完成，通常是{@link JsonException}。
+ *
+ * @param <J> json操作的主体类型
+ * @author zyc
+ */
+public class AsyncJsonOperator<J> {
+
+    /**
+     * 默认同时执行中的操作数量上限
+     */
+    public static final int DEFAULT_MAX_IN_FLIGHT = 256;
+
+    /**
+     * 被包装的json操作器
+     */
+    private final JsonOperator<J> jsonOperator;
+
+    /**
+     * 执行json操作的{@link Executor}
+     */
+    private final Executor executor;
+
+    /**
+     * 同时执行中的操作数量上限
+     */
+    private final int maxInFlight;
+
+    /**
+     * 执行中操作的许可
+     */
+    private final Semaphore permits;
+
+    /**
+     * 使用默认的{@link Executor}以及{@link #DEFAULT_MAX_IN_FLIGHT}构造异步json操作器，
+     * 运行时支持虚拟线程时默认的{@link Executor}为每个任务创建一个虚拟线程，否则使用{@link ForkJoinPool#commonPool()}。
+     *
+     * @param jsonOperator 被包装的json操作器
+     */
+    public AsyncJsonOperator(JsonOperator<J> jsonOperator) {
+        this(jsonOperator, DefaultExecutorHolder.EXECUTOR, DEFAULT_MAX_IN_FLIGHT);
+    }
+
+    /**
+     * 使用指定的{@link Executor}以及同时执行中的操作数量上限构造异步json操作器
+     *
+     * @param jsonOperator 被包装的json操作器
+     * @param executor     执行json操作的{@link Executor}
+     * @param maxInFlight  同时执行中的操作数量上限
+     * @throws IllegalArgumentException json操作器或{@link Executor}为空，或者操作数量上限小于等于0
+     */
+    public AsyncJsonOperator(JsonOperator<J> jsonOperator, Executor executor, int maxInFlight) {
+        if (jsonOperator == null || executor == null) {
+            throw new IllegalArgumentException("json操作器和executor不能为空");
+        }
+        if (maxInFlight <= 0) {
+            throw new IllegalArgumentException("同时执行中的操作数量上限必须大于0");
+        }
+        this.jsonOperator = jsonOperator;
+        this.executor = executor;
+        this.maxInFlight = maxInFlight;
+        this.permits = new Semaphore(maxInFlight);
+    }
+
+    /**
+     * @return 被包装的json操作器
+     */
+    public JsonOperator<J> jsonOperator() {
+        return jsonOperator;
+    }
+
+    /**
+     * @return 当前执行中的操作数量
+     */
+    public int inFlight() {
+        return maxInFlight - permits.availablePermits();
+    }
+
+    /**
+     * 异步的将java对象转换为json字符串
+     *
+     * @param target java对象
+     * @return 以json字符串完成的{@link CompletableFuture}，执行中的操作数量已达上限时以{@link RejectedExecutionException}异常完成
+     * @see JsonOperation#toJsonString(Object)
+     */
+    public CompletableFuture<String> toJsonString(Object target) {
+        return submit(() -> jsonOperator.toJsonString(target));
+    }
+
+    /**
+     * 异步的将java对象转换为UTF-8编码的json字节数组
+     *
+     * @param target java对象
+     * @return 以json字节数组完成的{@link CompletableFuture}，执行中的操作数量已达上限时以{@link RejectedExecutionException}异常完成
+     * @see JsonOperation#toJsonBytes(Object)
+     */
+    public CompletableFuture<byte[]> toJsonBytes(Object target) {
+        return submit(() -> jsonOperator.toJsonBytes(target));
+    }
+
+    /**
+     * 异步的将java对象以UTF-8编码的json写入到输出流中，在返回的{@link CompletableFuture}完成之前调用方不应该再使用该输出流，该方法会刷新但不会关闭输出流。
+     *
+     * @param target java对象
+     * @param out    输出流
+     * @return 以null完成的{@link CompletableFuture}，执行中的操作数量已达上限时以{@link RejectedExecutionException}异常完成
+     * @see JsonOperation#toJson(Object, OutputStream)
+     */
+    public CompletableFuture<Void> toJson(Object target, OutputStream out) {
+        return submit(() -> {
+            jsonOperator.toJson(target, out);
+            return null;
+        });
+    }
+
+    /**
+     * 异步的将java对象以json的形式写入到{@link Writer}中，在返回的{@link CompletableFuture}完成之前调用方不应该再使用该{@link Writer}，该方法会刷新但不会关闭{@link Writer}。
+     *
+     * @param target java对象
+     * @param writer 字符输出流
+     * @return 以null完成的{@link CompletableFuture}，执行中的操作数量已达上限时以{@link RejectedExecutionException}异常完成
+     * @see JsonOperation#toJson(Object, Writer)
+     */
+    public CompletableFuture<Void> toJson(Object target, Writer writer) {
+        return submit(() -> {
+            jsonOperator.toJson(target, writer);
+            return null;
+        });
+    }
+
+    /**
+     * 异步的将json字符串转换成指定{@link Class}的java对象
+     *
+     * @param json  json字符串
+     * @param clazz 需要转换成java对象的{@link Class}
+     * @param <T>   需要转换成java对象的类型
+     * @return 以java对象完成的{@link CompletableFuture}，执行中的操作数量已达上限时以{@link RejectedExecutionException}异常完成
+     * @see JsonOperation#fromJsonString(String, Class)
+     */
+    public <T> CompletableFuture<T> fromJsonString(String json, Class<T> clazz) {
+        return submit(() -> jsonOperator.fromJsonString(json, clazz));
+    }
+
+    /**
+     * 异步的将json字符串转换成指定{@link Type}的java对象
+     *
+     * @param json json字符串
+     * @param type 需要转换成java对象的{@link Type}
+     * @param <T>  需要转换成java对象的类型
+     * @return 以java对象完成的{@link CompletableFuture}，执行中的操作数量已达上限时以{@link RejectedExecutionException}异常完成
+     * @see JsonOperation#fromJsonString(String, Type)
+     */
+    public <T> CompletableFuture<T> fromJsonString(String json, Type type) {
+        return submit(() -> jsonOperator.fromJsonString(json, type));
+    }
+
+    /**
+     * 异步的将json字符串转换成指定{@link TypeToken#getType()}的java对象
+     *
+     * @param json      json字符串
+     * @param typeToken 需要转换成java对象的{@link TypeToken}
+     * @param <T>       需要转换成java对象的类型
+     * @return 以java对象完成的{@link CompletableFuture}，执行中的操作数量已达上限时以{@link RejectedExecutionException}异常完成
+     * @see JsonOperation#fromJsonString(String, TypeToken)
+     */
+    public <T> CompletableFuture<T> fromJsonString(String json, TypeToken<T> typeToken) {
+        return submit(() -> jsonOperator.fromJsonString(json, typeToken));
+    }
+
+    /**
+     * 异步的将UTF-8编码的json字节数组转换成指定{@link Class}的java对象
+     *
+     * @param json  json字节数组
+     * @param clazz 需要转换成java对象的{@link Class}
+     * @param <T>   需要转换成java对象的类型
+     * @return 以java对象完成的{@link CompletableFuture}，执行中的操作数量已达上限时以{@link RejectedExecutionException}异常完成
+     * @see JsonOperation#fromJson(byte[], Class)
+     */
+    public <T> CompletableFuture<T> fromJson(byte[] json, Class<T> clazz) {
+        return submit(() -> jsonOperator.fromJson(json, clazz));
+    }
+
+    /**
+     * 异步的将UTF-8编码的json字节数组转换成指定{@link Type}的java对象
+     *
+     * @param json json字节数组
+     * @param type 需要转换成java对象的{@link Type}
+     * @param <T>  需要转换成java对象的类型
+     * @return 以java对象完成的{@link CompletableFuture}，执行中的操作数量已达上限时以{@link RejectedExecutionException}异常完成
+     * @see JsonOperation#fromJson(byte[], Type)
+     */
+    public <T> CompletableFuture<T> fromJson(byte[] json, Type type) {
+        return submit(() -> jsonOperator.fromJson(json, type));
+    }
+
+    /**
+     * 异步的将UTF-8编码的json字节数组转换成指定{@link TypeToken#getType()}的java对象
+     *
+     * @param json      json字节数组
+     * @param typeToken 需要转换成java对象的{@link TypeToken}
+     * @param <T>       需要转换成java对象的类型
+     * @return 以java对象完成的{@link CompletableFuture}，执行中的操作数量已达上限时以{@link RejectedExecutionException}异常完成
+     * @see JsonOperation#fromJson(byte[], TypeToken)
+     */
+    public <T> CompletableFuture<T> fromJson(byte[] json, TypeToken<T> typeToken) {
+        return submit(() -> jsonOperator.fromJson(json, typeToken));
+    }
+
+    /**
+     * 异步的从UTF-8编码的json输入流中读取指定{@link Class}的java对象，在返回的{@link CompletableFuture}完成之前调用方不应该再使用该输入流，该方法不会关闭输入流。
+     *
+     * @param in    json输入流
+     * @param clazz 需要转换成java对象的{@link Class}
+     * @param <T>   需要转换成java对象的类型
+     * @return 以java对象完成的{@link CompletableFuture}，执行中的操作数量已达上限时以{@link RejectedExecutionException}异常完成
+     * @see JsonOperation#fromJson(InputStream, Class)
+     */
+    public <T> CompletableFuture<T> fromJson(InputStream in, Class<T> clazz) {
+        return submit(() -> jsonOperator.fromJson(in, clazz));
+    }
+
+    /**
+     * 异步的从UTF-8编码的json输入流中读取指定{@link Type}的java对象，在返回的{@link CompletableFuture}完成之前调用方不应该再使用该输入流，该方法不会关闭输入流。
+     *
+     * @param in   json输入流
+     * @param type 需要转换成java对象的{@link Type}
+     * @param <T>  需要转换成java对象的类型
+     * @return 以java对象完成的{@link CompletableFuture}，执行中的操作数量已达上限时以{@link RejectedExecutionException}异常完成
+     * @see JsonOperation#fromJson(InputStream, Type)
+     */
+    public <T> CompletableFuture<T> fromJson(InputStream in, Type type) {
+        return submit(() -> jsonOperator.fromJson(in, type));
+    }
+
+    /**
+     * 异步的从UTF-8编码的json输入流中读取指定{@link TypeToken#getType()}的java对象，在返回的{@link CompletableFuture}完成之前调用方不应该再使用该输入流，该方法不会关闭输入流。
+     *
+     * @param in        json输入流
+     * @param typeToken 需要转换成java对象的{@link TypeToken}
+     * @param <T>       需要转换成java对象的类型
+     * @return 以java对象完成的{@link CompletableFuture}，执行中的操作数量已达上限时以{@link RejectedExecutionException}异常完成
+     * @see JsonOperation#fromJson(InputStream, TypeToken)
+     */
+    public <T> CompletableFuture<T> fromJson(InputStream in, TypeToken<T> typeToken) {
+        return submit(() -> jsonOperator.fromJson(in, typeToken));
+    }
+
+    /**
+     * 异步的从{@link Reader}中读取指定{@link Class}的java对象，在返回的{@link CompletableFuture}完成之前调用方不应该再使用该{@link Reader}，该方法不会关闭{@link Reader}。
+     *
+     * @param reader json字符输入流
+     * @param clazz  需要转换成java对象的{@link Class}
+     * @param <T>    需要转换成java对象的类型
+     * @return 以java对象完成的{@link CompletableFuture}，执行中的操作数量已达上限时以{@link RejectedExecutionException}异常完成
+     * @see JsonOperation#fromJson(Reader, Class)
+     */
+    public <T> CompletableFuture<T> fromJson(Reader reader, Class<T> clazz) {
+        return submit(() -> jsonOperator.fromJson(reader, clazz));
+    }
+
+    /**
+     * 异步的从{@link Reader}中读取指定{@link Type}的java对象，在返回的{@link CompletableFuture}完成之前调用方不应该再使用该{@link Reader}，该方法不会关闭{@link Reader}。
+     *
+     * @param reader json字符输入流
+     * @param type   需要转换成java对象的{@link Type}
+     * @param <T>    需要转换成java对象的类型
+     * @return 以java对象完成的{@link CompletableFuture}，执行中的操作数量已达上限时以{@link RejectedExecutionException}异常完成
+     * @see JsonOperation#fromJson(Reader, Type)
+     */
+    public <T> CompletableFuture<T> fromJson(Reader reader, Type type) {
+        return submit(() -> jsonOperator.fromJson(reader, type));
+    }
+
+    /**
+     * 异步的从{@link Reader}中读取指定{@link TypeToken#getType()}的java对象，在返回的{@link CompletableFuture}完成之前调用方不应该再使用该{@link Reader}，该方法不会关闭{@link Reader}。
+     *
+     * @param reader    json字符输入流
+     * @param typeToken 需要转换成java对象的{@link TypeToken}
+     * @param <T>       需要转换成java对象的类型
+     * @return 以java对象完成的{@link CompletableFuture}，执行中的操作数量已达上限时以{@link RejectedExecutionException}异常完成
+     * @see JsonOperation#fromJson(Reader, TypeToken)
+     */
+    public <T> CompletableFuture<T> fromJson(Reader reader, TypeToken<T> typeToken) {
+        return submit(() -> jsonOperator.fromJson(reader, typeToken));
+    }
+
+    /**
+     * 在{@link #executor}中执行json操作，执行中的操作数量已经达到上限或者{@link #executor}拒绝执行时返回以{@link RejectedExecutionException}异常完成的{@link CompletableFuture}。
+     * 许可在{@link CompletableFuture}完成之前释放，这样依赖该结果的后续操作可以立即提交新的json操作。
+     *
+     * @param task json操作
+     * @param <T>  操作结果的类型
+     * @return 操作结果
+     */
+    private <T> CompletableFuture<T> submit(Supplier<T> task) {
+        if (!permits.tryAcquire()) {
+            return CompletableFuture.failedFuture(new RejectedExecutionException(String.format("执行中的json操作数量已达到上限%d", maxInFlight)));
+        }
+        CompletableFuture<T> future = new CompletableFuture<>();
+        try {
+            executor.execute(() -> {
+                T result;
+                try {
+                    result = task.get();
+                } catch (Throwable t) {
+                    permits.release();
+                    future.completeExceptionally(t);
+                    return;
+                }
+                permits.release();
+                future.complete(result);
+            });
+        } catch (RejectedExecutionException e) {
+            permits.release();
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
+    /**
+     * 延迟创建默认的{@link Executor}
+     */
+    private static class DefaultExecutorHolder {
+
+        private static final Executor EXECUTOR = create();
+
+        /**
+         * 项目以jdk17编译，所以通过反射创建虚拟线程的{@link ExecutorService}
+         */
+        private static Executor create() {
+            try {
+                return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+            } catch (ReflectiveOperationException | RuntimeException e) {
+                return ForkJoinPool.commonPool();
+            }
+        }
+    }
+}
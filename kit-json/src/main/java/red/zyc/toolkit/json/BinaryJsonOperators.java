@@ -0,0 +1,81 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package red.zyc.toolkit.json;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import red.zyc.toolkit.common.constant.TimeFormatConstant;
+
+/**
+ * 默认配置的二进制格式操作器，jdk8时间类型的格式与{@link JsonOperator#JACKSON_OPERATOR}一致。
+ * 由于是二进制格式，只能使用以字节数组或字节流为输入输出的方法，基于字符串、{@link java.io.Reader}或{@link java.io.Writer}的方法会抛出{@link JsonException}。
+ * <p>
+ * jackson-dataformat-smile和jackson-dataformat-cbor都是可选依赖，使用对应的操作器时需要自行引入，
+ * 以模块方式运行时还需要通过{@code requires}或者{@code --add-modules}解析对应的模块。
+ * 每个操作器只会在第一次使用时创建，所以只引入其中一种依赖时另一种操作器不会被加载。
+ *
+ * @author zyc
+ * @see TimeFormatConstant#DATETIME_FORMAT
+ * @see TimeFormatConstant#DATE_FORMAT
+ * @see TimeFormatConstant#TIME_FORMAT
+ */
+public final class BinaryJsonOperators {
+
+    private BinaryJsonOperators() {
+    }
+
+    /**
+     * 以Smile二进制格式序列化、反序列化对象的操作器，需要引入jackson-dataformat-smile依赖。
+     *
+     * @return Smile操作器
+     */
+    public static JacksonOperator smile() {
+        return SmileHolder.OPERATOR;
+    }
+
+    /**
+     * 以CBOR二进制格式序列化、反序列化对象的操作器，需要引入jackson-dataformat-cbor依赖。
+     *
+     * @return CBOR操作器
+     */
+    public static JacksonOperator cbor() {
+        return CborHolder.OPERATOR;
+    }
+
+    /**
+     * 延迟创建Smile操作器
+     */
+    private static class SmileHolder {
+
+        private static final JacksonOperator OPERATOR = new JacksonOperator(new SmileMapper()).configure(objectMapper -> {
+            objectMapper.registerModule(JavaTimeCodecs.jacksonModule());
+            objectMapper.disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        });
+    }
+
+    /**
+     * 延迟创建CBOR操作器
+     */
+    private static class CborHolder {
+
+        private static final JacksonOperator OPERATOR = new JacksonOperator(new CBORMapper()).configure(objectMapper -> {
+            objectMapper.registerModule(JavaTimeCodecs.jacksonModule());
+            objectMapper.disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        });
+    }
+}
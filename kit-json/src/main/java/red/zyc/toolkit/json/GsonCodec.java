@@ -0,0 +1,167 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package red.zyc.toolkit.json;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonIOException;
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import com.google.gson.stream.MalformedJsonException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+
+/**
+ * 基于预先查找好的{@link TypeAdapter}的编解码器，读写json的行为与{@link Gson#toJson(Object, Type, JsonWriter)}
+ * 以及{@link Gson#fromJson(Reader, Type)}保持一致。
+ *
+ * @param <T> 编解码的对象类型
+ * @author zyc
+ */
+final class GsonCodec<T> implements JsonCodec<T> {
+
+    private final Gson gson;
+
+    private final Type type;
+
+    private final TypeAdapter<T> adapter;
+
+    /**
+     * 对{@link JsonWriter}的定制，可以为null
+     */
+    private final Consumer<JsonWriter> writerCustomizer;
+
+    @SuppressWarnings("unchecked")
+    GsonCodec(Gson gson, Type type, Consumer<JsonWriter> writerCustomizer) {
+        this.gson = gson;
+        this.type = type;
+        this.writerCustomizer = writerCustomizer;
+        this.adapter = (TypeAdapter<T>) gson.getAdapter(com.google.gson.reflect.TypeToken.get(type));
+    }
+
+    @Override
+    public Type type() {
+        return type;
+    }
+
+    @Override
+    public String encode(T value) {
+        StringWriter writer = new StringWriter();
+        encode(value, writer);
+        return writer.toString();
+    }
+
+    @Override
+    public byte[] encodeToBytes(T value) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        encode(value, out);
+        return out.toByteArray();
+    }
+
+    @Override
+    public void encode(T value, OutputStream out) {
+        encode(value, new OutputStreamWriter(out, StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public void encode(T value, Writer writer) {
+        try {
+            JsonWriter jsonWriter = gson.newJsonWriter(writer);
+            jsonWriter.setLenient(true);
+            if (writerCustomizer != null) {
+                writerCustomizer.accept(jsonWriter);
+            }
+            adapter.write(jsonWriter, value);
+            jsonWriter.flush();
+        } catch (IOException e) {
+            throw new JsonIOException(e);
+        }
+    }
+
+    @Override
+    public T decode(String json) {
+        return decode(new StringReader(json));
+    }
+
+    @Override
+    public T decode(byte[] json) {
+        return decode(new ByteArrayInputStream(json));
+    }
+
+    @Override
+    public T decode(InputStream in) {
+        return decode(new InputStreamReader(in, StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public T decode(Reader reader) {
+        JsonReader jsonReader = gson.newJsonReader(reader);
+        T value = read(jsonReader);
+        try {
+            if (value != null && jsonReader.peek() != JsonToken.END_DOCUMENT) {
+                throw new JsonSyntaxException("JSON document was not fully consumed.");
+            }
+        } catch (MalformedJsonException e) {
+            throw new JsonSyntaxException(e);
+        } catch (IOException e) {
+            throw new JsonIOException(e);
+        }
+        return value;
+    }
+
+    /**
+     * 以宽松模式读取一个json值，空的json会被解码为null
+     *
+     * @param jsonReader {@link JsonReader}
+     * @return 对象
+     */
+    private T read(JsonReader jsonReader) {
+        boolean empty = true;
+        boolean lenient = jsonReader.isLenient();
+        jsonReader.setLenient(true);
+        try {
+            jsonReader.peek();
+            empty = false;
+            return adapter.read(jsonReader);
+        } catch (EOFException e) {
+            if (empty) {
+                return null;
+            }
+            throw new JsonSyntaxException(e);
+        } catch (IllegalStateException | IOException e) {
+            throw new JsonSyntaxException(e);
+        } finally {
+            jsonReader.setLenient(lenient);
+        }
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package red.zyc.toolkit.json;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParser;
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.lang.reflect.Type;
+
+/**
+ * 基于Gson {@link JsonReader}的json游标，与{@link JsonParser}一样以宽松模式解析json。
+ *
+ * @author zyc
+ */
+final class GsonJsonCursor extends JsonCursor<JsonElement> {
+
+    private final Gson gson;
+
+    private final JsonReader reader;
+
+    GsonJsonCursor(Gson gson, Reader in) {
+        this.gson = gson;
+        this.reader = new JsonReader(in);
+        reader.setLenient(true);
+    }
+
+    @Override
+    Kind enter() throws IOException {
+        JsonToken token = reader.peek();
+        if (token == JsonToken.BEGIN_OBJECT) {
+            reader.beginObject();
+            return Kind.OBJECT;
+        }
+        if (token == JsonToken.BEGIN_ARRAY) {
+            reader.beginArray();
+            return Kind.ARRAY;
+        }
+        return Kind.VALUE;
+    }
+
+    @Override
+    String nextName() throws IOException {
+        if (reader.hasNext()) {
+            return reader.nextName();
+        }
+        reader.endObject();
+        return null;
+    }
+
+    @Override
+    boolean nextElement() throws IOException {
+        if (reader.hasNext()) {
+            return true;
+        }
+        reader.endArray();
+        return false;
+    }
+
+    @Override
+    JsonElement readTree() {
+        return JsonParser.parseReader(reader);
+    }
+
+    @Override
+    void skip() throws IOException {
+        reader.skipValue();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    <T> T read(Type type) throws IOException {
+        return (T) gson.getAdapter(com.google.gson.reflect.TypeToken.get(type)).read(reader);
+    }
+
+    /**
+     * Gson没有公开遍历json树的{@link JsonReader}，所以把json树重新写成字符串再解析，只有多个json指针指向同一个json值时才会用到。
+     */
+    @Override
+    JsonCursor<JsonElement> treeCursor(JsonElement tree) {
+        return new GsonJsonCursor(gson, new StringReader(tree.toString()));
+    }
+
+    @Override
+    void end() throws IOException {
+        if (reader.peek() != JsonToken.END_DOCUMENT) {
+            throw new JsonSyntaxException("Did not consume the entire document.");
+        }
+    }
+}
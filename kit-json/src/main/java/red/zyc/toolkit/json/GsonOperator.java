@@ -17,23 +17,66 @@
 package red.zyc.toolkit.json;
 
 import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
 import com.google.gson.JsonElement;
-import com.google.gson.JsonParser;
+import com.google.gson.JsonIOException;
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import com.google.gson.stream.MalformedJsonException;
 
+import java.io.BufferedWriter;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.io.Writer;
 import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
 import java.util.function.Supplier;
 import java.util.function.UnaryOperator;
-import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * 使用Gson库来操作json
+ * <p>
+ * 如果只是需要在部分场景下调整输出格式，例如关闭缩进，应该使用{@link #derive(Consumer)}派生出一个与当前操作器共享{@link Gson}的操作器，
+ * 而不是通过{@link GsonBuilder}重新构建一个{@link Gson}，新构建的{@link Gson}需要重新解析所有类型的{@link TypeAdapter}。
  *
  * @author zyc
  */
 public class GsonOperator extends AbstractJsonOperator<GsonOperator, Gson> {
 
+    /**
+     * 对{@link JsonWriter}的定制，不是派生的操作器则为null
+     */
+    private final Consumer<JsonWriter> writerCustomizer;
+
     public GsonOperator(Gson gson) {
+        this(gson, null);
+    }
+
+    private GsonOperator(Gson gson, Consumer<JsonWriter> writerCustomizer) {
         super(gson);
+        this.writerCustomizer = writerCustomizer;
     }
 
     @Override
@@ -46,9 +89,85 @@ public class GsonOperator extends AbstractJsonOperator<GsonOperator, Gson> {
         return new GsonOperator(unaryOperator.apply(subject));
     }
 
+    /**
+     * 派生一个与当前操作器共享{@link Gson}的操作器，派生的操作器在序列化之前会对{@link JsonWriter}应用定制，
+     * 例如{@code derive(writer -> writer.setIndent(""))}会输出紧凑的json，{@code derive(writer -> writer.setSerializeNulls(false))}会忽略null属性。
+     * 由于共享同一个{@link Gson}，已经解析好的{@link TypeAdapter}都能直接复用，派生操作器的开销很小并且不需要重新预热。
+     * <p>
+     * 注意日期格式这类通过{@link GsonBuilder}注册的序列化器无法在派生时修改，需要通过{@link #with(UnaryOperator)}
+     * 以及{@link Gson#newBuilder()}构建新的操作器。定制同样会应用到{@link #writeJsonLines(Stream, OutputStream)}，
+     * 所以用来写入JSON Lines的操作器不应该在定制中设置缩进。
+     *
+     * @param writerCustomizer 定制{@link JsonWriter}
+     * @return 派生的操作器
+     */
+    public GsonOperator derive(Consumer<JsonWriter> writerCustomizer) {
+        return new GsonOperator(subject, this.writerCustomizer == null ? writerCustomizer : this.writerCustomizer.andThen(writerCustomizer));
+    }
+
+    @Override
+    public <T> JsonCodec<T> codec(Type type) {
+        return new GsonCodec<>(subject, type, writerCustomizer);
+    }
+
     @Override
     public String toJsonString(Object target) {
-        return subject.toJson(target);
+        if (writerCustomizer == null) {
+            return subject.toJson(target);
+        }
+        StringWriter writer = new StringWriter();
+        toJson(target, writer);
+        return writer.toString();
+    }
+
+    @Override
+    public byte[] toJsonBytes(Object target) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        toJson(target, out);
+        return out.toByteArray();
+    }
+
+    @Override
+    public void toJson(Object target, OutputStream out) {
+        toJson(target, new OutputStreamWriter(out, StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public void toJson(Object target, Writer writer) {
+        if (writerCustomizer == null) {
+            subject.toJson(target, writer);
+        } else {
+            write(target, writer);
+        }
+        try {
+            writer.flush();
+        } catch (IOException e) {
+            throw new JsonException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 根据目标对象的运行时类型直接通过{@link TypeAdapter}写入，{@link Gson#toJson(Object, Type, JsonWriter)}会覆盖{@link JsonWriter}的部分设置，
+     * 所以派生的操作器不能通过它序列化。
+     *
+     * @param target 目标对象
+     * @param writer {@link Writer}
+     */
+    @SuppressWarnings("unchecked")
+    private void write(Object target, Writer writer) {
+        try {
+            JsonWriter jsonWriter = subject.newJsonWriter(writer);
+            jsonWriter.setLenient(true);
+            writerCustomizer.accept(jsonWriter);
+            if (target == null) {
+                jsonWriter.nullValue();
+            } else {
+                ((TypeAdapter<Object>) subject.getAdapter(target.getClass())).write(jsonWriter, target);
+            }
+            jsonWriter.flush();
+        } catch (IOException e) {
+            throw new JsonIOException(e);
+        }
     }
 
     @Override
@@ -61,10 +180,187 @@ public class GsonOperator extends AbstractJsonOperator<GsonOperator, Gson> {
         return subject.fromJson(json, type);
     }
 
+    @Override
+    public <T> T fromJson(byte[] json, Type type) {
+        return fromJson(new ByteArrayInputStream(json), type);
+    }
+
+    @Override
+    public <T> T fromJson(InputStream in, Type type) {
+        return fromJson(new InputStreamReader(in, StandardCharsets.UTF_8), type);
+    }
+
+    @Override
+    public <T> T fromJson(Reader reader, Type type) {
+        return subject.fromJson(reader, type);
+    }
+
+    @Override
+    public <T> Stream<T> readJsonLines(InputStream in, Type type) {
+        @SuppressWarnings("unchecked")
+        TypeAdapter<T> adapter = (TypeAdapter<T>) subject.getAdapter(com.google.gson.reflect.TypeToken.get(type));
+        JsonReader reader = subject.newJsonReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        reader.setLenient(true);
+        Iterator<T> iterator = new Iterator<>() {
+
+            @Override
+            public boolean hasNext() {
+                try {
+                    return reader.peek() != JsonToken.END_DOCUMENT;
+                } catch (MalformedJsonException e) {
+                    throw new JsonSyntaxException(e);
+                } catch (IOException e) {
+                    throw new JsonIOException(e);
+                }
+            }
+
+            @Override
+            public T next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                try {
+                    return adapter.read(reader);
+                } catch (IllegalStateException | MalformedJsonException e) {
+                    throw new JsonSyntaxException(e);
+                } catch (IOException e) {
+                    throw new JsonIOException(e);
+                }
+            }
+        };
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED), false);
+    }
+
+    @Override
+    public void writeJsonLines(Stream<?> values, OutputStream out) {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        JsonWriter jsonWriter = new JsonWriter(writer);
+        jsonWriter.setLenient(true);
+        jsonWriter.setHtmlSafe(subject.htmlSafe());
+        jsonWriter.setSerializeNulls(subject.serializeNulls());
+        if (writerCustomizer != null) {
+            writerCustomizer.accept(jsonWriter);
+        }
+        values.forEachOrdered(new Consumer<Object>() {
+
+            /**
+             * 同一个流中的对象通常是同一种类型，缓存上一个对象的{@link TypeAdapter}以避免重复查找
+             */
+            private Class<?> lastClass;
+
+            private TypeAdapter<Object> lastAdapter;
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public void accept(Object value) {
+                try {
+                    if (value == null) {
+                        jsonWriter.nullValue();
+                    } else {
+                        if (value.getClass() != lastClass) {
+                            lastClass = value.getClass();
+                            lastAdapter = (TypeAdapter<Object>) subject.getAdapter(lastClass);
+                        }
+                        lastAdapter.write(jsonWriter, value);
+                    }
+                    writer.write('\n');
+                } catch (IOException e) {
+                    throw new JsonIOException(e);
+                }
+            }
+        });
+        try {
+            writer.flush();
+        } catch (IOException e) {
+            throw new JsonIOException(e);
+        }
+    }
+
+    /**
+     * 将目标对象转换成{@link JsonElement}树，再直接从该树反序列化出新对象，整个过程不会产生json文本。
+     *
+     * @param target 目标对象
+     * @param type   新对象的{@link Type}
+     * @param <T>    新对象的类型
+     * @return 新对象
+     */
+    @Override
+    public <T> T copyProperties(Object target, Type type) {
+        return subject.fromJson(subject.toJsonTree(target), type);
+    }
+
     @Override
     public boolean compare(String... jsons) {
-        JsonElement first = JsonParser.parseString(jsons[0]);
-        return IntStream.range(1, jsons.length).allMatch(i -> first.equals(JsonParser.parseString(jsons[i])));
+        return compare(jsons.length, i -> new StringReader(jsons[i]));
+    }
+
+    @Override
+    public boolean compare(byte[]... jsons) {
+        return compare(jsons.length, i -> new InputStreamReader(new ByteArrayInputStream(jsons[i]), StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public boolean compare(InputStream... jsons) {
+        return compare(jsons.length, i -> new InputStreamReader(jsons[i], StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public <T> T extract(String json, String jsonPointer, Type type) {
+        return extract(new StringReader(json), JsonPointerExtractor.of(jsonPointer, type)).value(0);
+    }
+
+    @Override
+    public <T> T extract(byte[] json, String jsonPointer, Type type) {
+        return extract(new InputStreamReader(new ByteArrayInputStream(json), StandardCharsets.UTF_8), JsonPointerExtractor.of(jsonPointer, type)).value(0);
+    }
+
+    @Override
+    public Map<String, Object> extract(String json, Map<String, ? extends Type> jsonPointers) {
+        return extract(new StringReader(json), JsonPointerExtractor.of(jsonPointers)).values();
+    }
+
+    @Override
+    public Map<String, Object> extract(byte[] json, Map<String, ? extends Type> jsonPointers) {
+        return extract(new InputStreamReader(new ByteArrayInputStream(json), StandardCharsets.UTF_8), JsonPointerExtractor.of(jsonPointers)).values();
+    }
+
+    /**
+     * 流式的提取json指针所指向的值
+     *
+     * @param reader    json的{@link Reader}
+     * @param extractor 提取器
+     * @return 已经完成提取的提取器
+     */
+    private JsonPointerExtractor extract(Reader reader, JsonPointerExtractor extractor) {
+        try {
+            extractor.extract(new GsonJsonCursor(subject, reader));
+            return extractor;
+        } catch (IllegalStateException | MalformedJsonException e) {
+            throw new JsonSyntaxException(e);
+        } catch (IOException e) {
+            throw new JsonIOException(e);
+        }
+    }
+
+    /**
+     * 流式的比较多个json是否一致
+     *
+     * @param length         json的数量
+     * @param readerProvider 根据索引创建对应json的{@link Reader}
+     * @return 所有json是否一致
+     */
+    private boolean compare(int length, IntFunction<Reader> readerProvider) {
+        List<GsonJsonCursor> cursors = new ArrayList<>(length);
+        for (int i = 0; i < length; i++) {
+            cursors.add(new GsonJsonCursor(subject, readerProvider.apply(i)));
+        }
+        try {
+            return JsonComparator.compare(cursors);
+        } catch (MalformedJsonException e) {
+            throw new JsonSyntaxException(e);
+        } catch (IOException e) {
+            throw new JsonIOException(e);
+        }
     }
 
 }
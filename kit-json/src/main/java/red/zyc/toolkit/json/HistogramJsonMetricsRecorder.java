@@ -0,0 +1,311 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package red.zyc.toolkit.json;
+
+import java.lang.reflect.Type;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 默认的json操作指标记录器，以操作类型和目标类型为维度统计耗时以及json大小的分布、总大小和失败次数。
+ * 分布使用对数线性的桶统计，每个2的幂区间再均分为8个子桶，分位数的相对误差不超过12.5%。
+ * 所有计数器都是{@link LongAdder}，在高并发下也不会产生明显的竞争。每个桶的计数器在第一次落入该桶时才会创建，
+ * 实际的耗时和大小通常只分布在少数几个桶中，所以即使目标类型很多也只会占用很少的内存，
+ * 记录时除了第一次遇到某个目标类型或者第一次落入某个桶外不会分配对象。
+ *
+ * @author zyc
+ */
+public class HistogramJsonMetricsRecorder implements JsonMetricsRecorder {
+
+    private static final Operation[] OPERATIONS = Operation.values();
+
+    /**
+     * 以操作类型的序号为下标，每种操作以目标类型为键的指标
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private final Map<Type, Metrics>[] metrics = new Map[OPERATIONS.length];
+
+    public HistogramJsonMetricsRecorder() {
+        for (int i = 0; i < metrics.length; i++) {
+            metrics[i] = new ConcurrentHashMap<>();
+        }
+    }
+
+    @Override
+    public void record(Operation operation, Type type, long nanos, long size, boolean failed) {
+        Map<Type, Metrics> map = metrics[operation.ordinal()];
+        Metrics m = map.get(type);
+        if (m == null) {
+            m = map.computeIfAbsent(type, t -> new Metrics());
+        }
+        m.latency.record(nanos);
+        if (size >= 0) {
+            m.size.record(size);
+            m.bytes.add(size);
+        }
+        if (failed) {
+            m.errors.increment();
+        }
+    }
+
+    /**
+     * 获取某种操作下所有目标类型的指标快照
+     *
+     * @param operation 操作类型
+     * @return 以目标类型为键的指标快照
+     */
+    public Map<Type, Snapshot> snapshot(Operation operation) {
+        Map<Type, Snapshot> snapshots = new HashMap<>();
+        metrics[operation.ordinal()].forEach((type, m) -> snapshots.put(type, m.snapshot()));
+        return Collections.unmodifiableMap(snapshots);
+    }
+
+    /**
+     * 获取某种操作下指定目标类型的指标快照
+     *
+     * @param operation 操作类型
+     * @param type      目标类型
+     * @return 指标快照，没有记录过该目标类型时返回null
+     */
+    public Snapshot snapshot(Operation operation, Type type) {
+        Metrics m = metrics[operation.ordinal()].get(type);
+        return m == null ? null : m.snapshot();
+    }
+
+    /**
+     * 清空所有指标
+     */
+    public void reset() {
+        for (Map<Type, Metrics> map : metrics) {
+            map.clear();
+        }
+    }
+
+    /**
+     * 某种操作下某个目标类型的指标
+     */
+    private static class Metrics {
+
+        private final Histogram latency = new Histogram();
+
+        private final Histogram size = new Histogram();
+
+        private final LongAdder bytes = new LongAdder();
+
+        private final LongAdder errors = new LongAdder();
+
+        private Snapshot snapshot() {
+            long[] latencies = latency.counts();
+            long[] sizes = size.counts();
+            return new Snapshot(Histogram.total(latencies), errors.sum(), bytes.sum(),
+                    Histogram.percentile(latencies, 0.5), Histogram.percentile(latencies, 0.99), Histogram.percentile(latencies, 0.999),
+                    Histogram.percentile(sizes, 0.5), Histogram.percentile(sizes, 0.99), Histogram.percentile(sizes, 0.999));
+        }
+    }
+
+    /**
+     * 对数线性分桶的直方图，小于8的值各占一个桶，大于等于8的值按照最高位所在的2的幂区间再均分为8个子桶。
+     */
+    private static class Histogram {
+
+        private static final int SUB_BUCKET_BITS = 3;
+
+        private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+        private static final int BUCKETS = (64 - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+        /**
+         * 每个桶的计数器，还没有值落入的桶为null
+         */
+        private final AtomicReferenceArray<LongAdder> buckets = new AtomicReferenceArray<>(BUCKETS);
+
+        private void record(long value) {
+            int index = index(Math.max(value, 0));
+            LongAdder bucket = buckets.get(index);
+            if (bucket == null) {
+                LongAdder created = new LongAdder();
+                bucket = buckets.compareAndSet(index, null, created) ? created : buckets.get(index);
+            }
+            bucket.increment();
+        }
+
+        private long[] counts() {
+            long[] counts = new long[BUCKETS];
+            for (int i = 0; i < BUCKETS; i++) {
+                LongAdder bucket = buckets.get(i);
+                counts[i] = bucket == null ? 0 : bucket.sum();
+            }
+            return counts;
+        }
+
+        private static int index(long value) {
+            if (value < SUB_BUCKETS) {
+                return (int) value;
+            }
+            int exponent = 63 - Long.numberOfLeadingZeros(value);
+            return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + (int) ((value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1));
+        }
+
+        /**
+         * 桶所能容纳的最大值
+         */
+        private static long upperBound(int index) {
+            if (index < SUB_BUCKETS) {
+                return index;
+            }
+            int shift = index / SUB_BUCKETS - 1;
+            long lower = (long) (SUB_BUCKETS + index % SUB_BUCKETS) << shift;
+            return lower + (1L << shift) - 1;
+        }
+
+        private static long total(long[] counts) {
+            long total = 0;
+            for (long count : counts) {
+                total += count;
+            }
+            return total;
+        }
+
+        /**
+         * 计算分位数，返回分位数所在桶的上界
+         */
+        private static long percentile(long[] counts, double percentile) {
+            long total = total(counts);
+            if (total == 0) {
+                return 0;
+            }
+            long rank = Math.max(1, (long) Math.ceil(total * percentile));
+            long seen = 0;
+            for (int i = 0; i < counts.length; i++) {
+                seen += counts[i];
+                if (seen >= rank) {
+                    return upperBound(i);
+                }
+            }
+            return upperBound(counts.length - 1);
+        }
+    }
+
+    /**
+     * 某种操作下某个目标类型的指标快照，耗时的单位为纳秒，大小的单位与{@link JsonMetricsRecorder#record}中的一致。
+     */
+    public static final class Snapshot {
+
+        private final long count;
+
+        private final long errors;
+
+        private final long bytes;
+
+        private final long p50;
+
+        private final long p99;
+
+        private final long p999;
+
+        private final long sizeP50;
+
+        private final long sizeP99;
+
+        private final long sizeP999;
+
+        private Snapshot(long count, long errors, long bytes, long p50, long p99, long p999, long sizeP50, long sizeP99, long sizeP999) {
+            this.count = count;
+            this.errors = errors;
+            this.bytes = bytes;
+            this.p50 = p50;
+            this.p99 = p99;
+            this.p999 = p999;
+            this.sizeP50 = sizeP50;
+            this.sizeP99 = sizeP99;
+            this.sizeP999 = sizeP999;
+        }
+
+        /**
+         * @return 操作次数
+         */
+        public long getCount() {
+            return count;
+        }
+
+        /**
+         * @return 失败次数
+         */
+        public long getErrors() {
+            return errors;
+        }
+
+        /**
+         * @return 读写的json总大小
+         */
+        public long getBytes() {
+            return bytes;
+        }
+
+        /**
+         * @return 耗时的p50
+         */
+        public long getP50() {
+            return p50;
+        }
+
+        /**
+         * @return 耗时的p99
+         */
+        public long getP99() {
+            return p99;
+        }
+
+        /**
+         * @return 耗时的p999
+         */
+        public long getP999() {
+            return p999;
+        }
+
+        /**
+         * @return json大小的p50
+         */
+        public long getSizeP50() {
+            return sizeP50;
+        }
+
+        /**
+         * @return json大小的p99
+         */
+        public long getSizeP99() {
+            return sizeP99;
+        }
+
+        /**
+         * @return json大小的p999
+         */
+        public long getSizeP999() {
+            return sizeP999;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("count=%d, errors=%d, bytes=%d, latency(ns) p50=%d p99=%d p999=%d, size p50=%d p99=%d p999=%d",
+                    count, errors, bytes, p50, p99, p999, sizeP50, sizeP99, sizeP999);
+        }
+    }
+}
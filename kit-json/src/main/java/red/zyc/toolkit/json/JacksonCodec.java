@@ -0,0 +1,152 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package red.zyc.toolkit.json;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.Writer;
+import java.lang.reflect.Type;
+
+/**
+ * 基于预先解析好的{@link ObjectReader}和{@link ObjectWriter}的编解码器，序列化时以绑定的类型作为根类型。
+ *
+ * @param <T> 编解码的对象类型
+ * @author zyc
+ */
+final class JacksonCodec<T> implements JsonCodec<T> {
+
+    private final Type type;
+
+    private final ObjectReader reader;
+
+    private final ObjectWriter writer;
+
+    /**
+     * 是否是文本格式
+     */
+    private final boolean textual;
+
+    JacksonCodec(Type type, ObjectReader reader, ObjectWriter writer, boolean textual) {
+        this.type = type;
+        this.reader = reader;
+        this.writer = writer;
+        this.textual = textual;
+    }
+
+    /**
+     * 二进制格式不支持基于字符串、{@link Reader}或{@link Writer}的操作
+     *
+     * @param formatName 格式名称
+     * @return 需要抛出的异常
+     */
+    static JsonException unsupported(String formatName) {
+        return new JsonException(String.format("%s是二进制格式，不支持基于字符串、Reader或Writer的操作", formatName));
+    }
+
+    private void requireTextual() {
+        if (!textual) {
+            throw unsupported(writer.getFactory().getFormatName());
+        }
+    }
+
+    @Override
+    public Type type() {
+        return type;
+    }
+
+    @Override
+    public String encode(T value) {
+        requireTextual();
+        try {
+            return writer.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new JsonException(e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public byte[] encodeToBytes(T value) {
+        try {
+            return writer.writeValueAsBytes(value);
+        } catch (JsonProcessingException e) {
+            throw new JsonException(e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public void encode(T value, OutputStream out) {
+        try {
+            writer.writeValue(out, value);
+        } catch (IOException e) {
+            throw new JsonException(e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public void encode(T value, Writer writer) {
+        requireTextual();
+        try {
+            this.writer.writeValue(writer, value);
+        } catch (IOException e) {
+            throw new JsonException(e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public T decode(String json) {
+        requireTextual();
+        try {
+            return reader.readValue(json);
+        } catch (JsonProcessingException e) {
+            throw new JsonException(e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public T decode(byte[] json) {
+        try {
+            return reader.readValue(json);
+        } catch (IOException e) {
+            throw new JsonException(e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public T decode(InputStream in) {
+        try {
+            return reader.readValue(in);
+        } catch (IOException e) {
+            throw new JsonException(e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public T decode(Reader reader) {
+        requireTextual();
+        try {
+            return this.reader.readValue(reader);
+        } catch (IOException e) {
+            throw new JsonException(e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package red.zyc.toolkit.json;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+
+/**
+ * 基于Jackson {@link JsonParser}的json游标，{@link JsonParser}的当前token即为游标处json值的第一个token。
+ *
+ * @author zyc
+ */
+final class JacksonJsonCursor extends JsonCursor<JsonNode> {
+
+    private final JacksonOperator jacksonOperator;
+
+    private final JsonParser parser;
+
+    JacksonJsonCursor(JacksonOperator jacksonOperator, JsonParser parser) throws IOException {
+        this.jacksonOperator = jacksonOperator;
+        this.parser = parser.disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+        parser.nextToken();
+    }
+
+    @Override
+    Kind enter() {
+        JsonToken token = parser.currentToken();
+        return token == JsonToken.START_OBJECT ? Kind.OBJECT : token == JsonToken.START_ARRAY ? Kind.ARRAY : Kind.VALUE;
+    }
+
+    @Override
+    String nextName() throws IOException {
+        String name = parser.nextFieldName();
+        if (name != null) {
+            parser.nextToken();
+        }
+        return name;
+    }
+
+    @Override
+    boolean nextElement() throws IOException {
+        return parser.nextToken() != JsonToken.END_ARRAY;
+    }
+
+    @Override
+    JsonNode readTree() throws IOException {
+        return jacksonOperator.subject().readTree(parser);
+    }
+
+    @Override
+    void skip() throws IOException {
+        parser.skipChildren();
+    }
+
+    @Override
+    <T> T read(Type type) throws IOException {
+        return jacksonOperator.readerFor(type).readValue(parser);
+    }
+
+    @Override
+    JsonCursor<JsonNode> treeCursor(JsonNode tree) throws IOException {
+        return new JacksonJsonCursor(jacksonOperator, jacksonOperator.subject().treeAsTokens(tree));
+    }
+
+    @Override
+    public void close() throws IOException {
+        parser.close();
+    }
+}
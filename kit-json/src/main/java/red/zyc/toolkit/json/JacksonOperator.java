@@ -16,24 +16,105 @@
 
 package red.zyc.toolkit.json;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.MappingIterator;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.Writer;
 import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
 import java.util.function.UnaryOperator;
-import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
- * 使用Jackson库操作json
+ * 使用Jackson库操作json，每种{@link Type}对应的{@link ObjectReader}和{@link ObjectWriter}在第一次使用时解析并缓存，
+ * 之后的操作只需要一次无锁的哈希查找就能拿到已经预先解析好根序列化器的{@link ObjectReader}或{@link ObjectWriter}。
+ * 缓存没有容量上限，其大小等于使用过的{@link Type}的数量，所以不要将该操作器用于运行时无限生成的{@link Type}。
+ * <p>
+ * {@link #configure(Consumer)}是修改{@link ObjectMapper}配置唯一受支持的方式，修改之后所有缓存都会失效。
+ * 通过{@link #subject()}直接修改{@link ObjectMapper}（例如注册模块或者修改序列化的包含规则）不会使缓存失效，
+ * 已经缓存的{@link ObjectReader}和{@link ObjectWriter}仍然会使用修改之前的配置。
+ * <p>
+ * 如果只是需要在部分场景下调整序列化或反序列化的特性，例如关闭缩进，应该使用{@link #derive(UnaryOperator, UnaryOperator)}
+ * 派生出一个与当前操作器共享{@link ObjectMapper}的操作器，而不是通过{@link #with(UnaryOperator)}复制一个新的{@link ObjectMapper}。
  *
  * @author zyc
  */
 public class JacksonOperator extends AbstractJsonOperator<JacksonOperator, ObjectMapper> {
 
+    /**
+     * 当前配置版本对应的缓存
+     */
+    private volatile Cache cache;
+
+    /**
+     * 父操作器，不是派生的操作器则为null
+     */
+    private final JacksonOperator parent;
+
+    /**
+     * 最初的操作器，所有派生的操作器都通过它感知{@link ObjectMapper}配置的修改
+     */
+    private final JacksonOperator root;
+
+    /**
+     * 对父操作器{@link ObjectReader}的定制
+     */
+    private final UnaryOperator<ObjectReader> readerCustomizer;
+
+    /**
+     * 对父操作器{@link ObjectWriter}的定制
+     */
+    private final UnaryOperator<ObjectWriter> writerCustomizer;
+
+    /**
+     * {@link ObjectMapper}配置的版本，只有{@link #root}的版本会在配置修改时递增
+     */
+    private volatile int generation;
+
+    /**
+     * 是否是文本格式，Smile、CBOR这类二进制格式不支持基于字符串、{@link Reader}或{@link Writer}的操作
+     */
+    private final boolean textual;
+
     public JacksonOperator(ObjectMapper objectMapper) {
         super(objectMapper);
+        this.parent = null;
+        this.root = this;
+        this.readerCustomizer = UnaryOperator.identity();
+        this.writerCustomizer = UnaryOperator.identity();
+        this.cache = new Cache(0);
+        this.textual = objectMapper.getFactory().canUseCharArrays();
+    }
+
+    private JacksonOperator(JacksonOperator parent, UnaryOperator<ObjectReader> readerCustomizer, UnaryOperator<ObjectWriter> writerCustomizer) {
+        super(parent.subject);
+        this.parent = parent;
+        this.root = parent.root;
+        this.readerCustomizer = readerCustomizer;
+        this.writerCustomizer = writerCustomizer;
+        this.cache = new Cache(root.generation);
+        this.textual = parent.textual;
     }
 
     @Override
@@ -46,50 +127,399 @@ public class JacksonOperator extends AbstractJsonOperator<JacksonOperator, Objec
         return new JacksonOperator(unaryOperator.apply(subject));
     }
 
+    /**
+     * 修改共享的{@link ObjectMapper}的配置，派生的操作器会将配置的修改委托给最初的操作器，
+     * 修改之后最初的操作器以及所有派生的操作器的缓存都会失效。
+     *
+     * @param consumer 配置{@link ObjectMapper}
+     * @return 当前操作器
+     */
+    @Override
+    public JacksonOperator configure(Consumer<ObjectMapper> consumer) {
+        if (root != this) {
+            root.configure(consumer);
+            return this;
+        }
+        synchronized (this) {
+            super.configure(consumer);
+            generation++;
+        }
+        return this;
+    }
+
+    /**
+     * 派生一个与当前操作器共享{@link ObjectMapper}的操作器，派生的操作器在当前操作器缓存的{@link ObjectReader}和{@link ObjectWriter}
+     * 之上应用定制，例如{@code derive(UnaryOperator.identity(), writer -> writer.without(SerializationFeature.INDENT_OUTPUT))}。
+     * 由于{@link ObjectReader#with}和{@link ObjectWriter#with}这类方法会复用已经解析好的根序列化器，而其它序列化器缓存在共享的{@link ObjectMapper}中，
+     * 所以派生操作器的开销很小并且不需要重新预热。
+     * <p>
+     * 注意序列化时属性的包含规则（例如是否输出null）属于{@link ObjectMapper}级别的配置，无法通过{@link ObjectWriter}定制。
+     *
+     * @param readerCustomizer 定制{@link ObjectReader}
+     * @param writerCustomizer 定制{@link ObjectWriter}
+     * @return 派生的操作器
+     */
+    public JacksonOperator derive(UnaryOperator<ObjectReader> readerCustomizer, UnaryOperator<ObjectWriter> writerCustomizer) {
+        return new JacksonOperator(this, readerCustomizer, writerCustomizer);
+    }
+
+    /**
+     * 获取反序列化指定{@link Type}的{@link ObjectReader}，该{@link ObjectReader}不会自动关闭传入的输入源。
+     *
+     * @param type 反序列化的{@link Type}
+     * @return 缓存的{@link ObjectReader}
+     */
+    public ObjectReader readerFor(Type type) {
+        Map<Type, ObjectReader> readers = cache().readers;
+        ObjectReader objectReader = readers.get(type);
+        return objectReader != null ? objectReader : readers.computeIfAbsent(type, t -> readerCustomizer.apply(parent != null ? parent.readerFor(t) :
+                subject.readerFor(subject.getTypeFactory().constructType(t)).without(JsonParser.Feature.AUTO_CLOSE_SOURCE)));
+    }
+
+    /**
+     * 获取以指定{@link Type}作为根类型序列化的{@link ObjectWriter}，该{@link ObjectWriter}不会自动关闭传入的输出目标。
+     *
+     * @param type 序列化的根类型
+     * @return 缓存的{@link ObjectWriter}
+     */
+    public ObjectWriter writerFor(Type type) {
+        Map<Type, ObjectWriter> writers = cache().writers;
+        ObjectWriter objectWriter = writers.get(type);
+        return objectWriter != null ? objectWriter : writers.computeIfAbsent(type, t -> writerCustomizer.apply(parent != null ? parent.writerFor(t) :
+                subject.writerFor(subject.getTypeFactory().constructType(t)).without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)));
+    }
+
+    /**
+     * 获取根据对象运行时类型序列化的{@link ObjectWriter}，该{@link ObjectWriter}不会自动关闭传入的输出目标。
+     *
+     * @return 缓存的{@link ObjectWriter}
+     */
+    public ObjectWriter writer() {
+        Cache current = cache();
+        ObjectWriter objectWriter = current.writer;
+        if (objectWriter == null) {
+            current.writer = objectWriter = writerCustomizer.apply(parent != null ? parent.writer() :
+                    subject.writer().without(JsonGenerator.Feature.AUTO_CLOSE_TARGET));
+        }
+        return objectWriter;
+    }
+
+    /**
+     * 获取当前配置版本对应的缓存，如果{@link ObjectMapper}的配置在缓存之后被修改过则整体替换为一个新的缓存。
+     * 由于版本号在配置修改完成之后才会递增，所以与配置修改并发解析的{@link ObjectReader}和{@link ObjectWriter}
+     * 只会进入旧版本的缓存，不会残留在新版本的缓存中。
+     *
+     * @return 当前配置版本对应的缓存
+     */
+    private Cache cache() {
+        Cache current = cache;
+        int generation = root.generation;
+        if (current.generation != generation) {
+            cache = current = new Cache(generation);
+        }
+        return current;
+    }
+
+    @Override
+    public <T> JsonCodec<T> codec(Type type) {
+        return new JacksonCodec<>(type, readerFor(type), writerFor(type), textual);
+    }
+
     @Override
     public String toJsonString(Object src) {
+        requireTextual();
         try {
-            return subject.writeValueAsString(src);
+            return writer().writeValueAsString(src);
         } catch (JsonProcessingException e) {
             throw new JsonException(e.getMessage(), e);
         }
     }
 
     @Override
-    public <T> T fromJsonString(String json, Class<T> clazz) {
+    public byte[] toJsonBytes(Object target) {
         try {
-            return subject.readValue(json, clazz);
+            return writer().writeValueAsBytes(target);
         } catch (JsonProcessingException e) {
             throw new JsonException(e.getMessage(), e);
         }
     }
 
+    @Override
+    public void toJson(Object target, OutputStream out) {
+        try {
+            writer().writeValue(out, target);
+        } catch (IOException e) {
+            throw new JsonException(e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public void toJson(Object target, Writer writer) {
+        requireTextual();
+        try {
+            writer().writeValue(writer, target);
+        } catch (IOException e) {
+            throw new JsonException(e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public <T> T fromJsonString(String json, Class<T> clazz) {
+        return fromJsonString(json, (Type) clazz);
+    }
+
     @Override
     public <T> T fromJsonString(String json, Type type) {
+        requireTextual();
         try {
-            return subject.readValue(json, subject.getTypeFactory().constructType(type));
+            return readerFor(type).readValue(json);
         } catch (JsonProcessingException e) {
             throw new JsonException(e.getMessage(), e);
         }
     }
 
+    @Override
+    public <T> T fromJson(byte[] json, Type type) {
+        try {
+            return readerFor(type).readValue(json);
+        } catch (IOException e) {
+            throw new JsonException(e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public <T> T fromJson(InputStream in, Type type) {
+        try {
+            return readerFor(type).readValue(in);
+        } catch (IOException e) {
+            throw new JsonException(e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public <T> T fromJson(Reader reader, Type type) {
+        requireTextual();
+        try {
+            return readerFor(type).readValue(reader);
+        } catch (IOException e) {
+            throw new JsonException(e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public <T> Stream<T> readJsonLines(InputStream in, Type type) {
+        try {
+            MappingIterator<T> values = readerFor(type).readValues(in);
+            Iterator<T> iterator = new Iterator<>() {
+
+                @Override
+                public boolean hasNext() {
+                    try {
+                        return values.hasNextValue();
+                    } catch (IOException e) {
+                        throw new JsonException(e.getMessage(), e);
+                    }
+                }
+
+                @Override
+                public T next() {
+                    try {
+                        return values.nextValue();
+                    } catch (IOException e) {
+                        throw new JsonException(e.getMessage(), e);
+                    }
+                }
+            };
+            return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED), false).onClose(() -> {
+                try {
+                    values.close();
+                } catch (IOException e) {
+                    throw new JsonException(e.getMessage(), e);
+                }
+            });
+        } catch (IOException e) {
+            throw new JsonException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Smile、CBOR这类二进制格式本身就能区分连续的多个根值，所以不会在每个对象之后写入换行符，
+     * 写入的结果同样可以通过{@link #readJsonLines(InputStream, Type)}读取。
+     *
+     * @param values 需要写入的对象流
+     * @param out    输出流
+     */
+    @Override
+    public void writeJsonLines(Stream<?> values, OutputStream out) {
+        boolean textual = subject.getFactory().canUseCharArrays();
+        ObjectWriter compactWriter = writer().without(SerializationFeature.INDENT_OUTPUT)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        ObjectWriter lineWriter = textual ? compactWriter.withRootValueSeparator("") : compactWriter;
+        try (JsonGenerator generator = lineWriter.createGenerator(out)) {
+            values.forEachOrdered(value -> {
+                try {
+                    lineWriter.writeValue(generator, value);
+                    if (textual) {
+                        generator.writeRaw('\n');
+                    }
+                } catch (IOException e) {
+                    throw new JsonException(e.getMessage(), e);
+                }
+            });
+        } catch (IOException e) {
+            throw new JsonException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 将目标对象序列化到{@link TokenBuffer}中，再直接从{@link TokenBuffer}反序列化出新对象，整个过程不会产生json文本。
+     *
+     * @param target 目标对象
+     * @param type   新对象的{@link Type}
+     * @param <T>    新对象的类型
+     * @return 新对象
+     */
+    @Override
+    public <T> T copyProperties(Object target, Type type) {
+        TokenBuffer buffer = new TokenBuffer(subject, false);
+        if (subject.isEnabled(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS)) {
+            buffer = buffer.forceUseOfBigDecimal(true);
+        }
+        try {
+            writer().writeValue(buffer, target);
+            try (JsonParser parser = buffer.asParser()) {
+                return readerFor(type).readValue(parser);
+            }
+        } catch (IOException e) {
+            throw new JsonException(e.getMessage(), e);
+        }
+    }
+
     @Override
     public boolean compare(String... jsons) {
-        JsonNode first = readTree(jsons[0]);
-        return IntStream.range(1, jsons.length).allMatch(i -> first.equals(readTree(jsons[i])));
+        requireTextual();
+        return compare(jsons.length, i -> subject.createParser(jsons[i]));
+    }
+
+    @Override
+    public boolean compare(byte[]... jsons) {
+        return compare(jsons.length, i -> subject.createParser(jsons[i]));
+    }
+
+    @Override
+    public boolean compare(InputStream... jsons) {
+        return compare(jsons.length, i -> subject.createParser(jsons[i]));
+    }
+
+    @Override
+    public <T> T extract(String json, String jsonPointer, Type type) {
+        requireTextual();
+        return extract(i -> subject.createParser(json), JsonPointerExtractor.of(jsonPointer, type)).value(0);
+    }
+
+    @Override
+    public <T> T extract(byte[] json, String jsonPointer, Type type) {
+        return extract(i -> subject.createParser(json), JsonPointerExtractor.of(jsonPointer, type)).value(0);
+    }
+
+    @Override
+    public Map<String, Object> extract(String json, Map<String, ? extends Type> jsonPointers) {
+        requireTextual();
+        return extract(i -> subject.createParser(json), JsonPointerExtractor.of(jsonPointers)).values();
+    }
+
+    @Override
+    public Map<String, Object> extract(byte[] json, Map<String, ? extends Type> jsonPointers) {
+        return extract(i -> subject.createParser(json), JsonPointerExtractor.of(jsonPointers)).values();
+    }
+
+    /**
+     * 二进制格式直接抛出{@link JsonException}，而不是让Jackson在创建解析器或生成器时抛出{@link UnsupportedOperationException}
+     */
+    private void requireTextual() {
+        if (!textual) {
+            throw JacksonCodec.unsupported(subject.getFactory().getFormatName());
+        }
+    }
+
+    /**
+     * 流式的提取json指针所指向的值
+     *
+     * @param parserProvider 创建json的解析器
+     * @param extractor      提取器
+     * @return 已经完成提取的提取器
+     */
+    private JsonPointerExtractor extract(ParserProvider parserProvider, JsonPointerExtractor extractor) {
+        try (JacksonJsonCursor cursor = new JacksonJsonCursor(this, parserProvider.get(0))) {
+            extractor.extract(cursor);
+            return extractor;
+        } catch (IOException e) {
+            throw new JsonException(e.getMessage(), e);
+        }
     }
 
     /**
-     * 将json字符串解析为json树
+     * 流式的比较多个json是否一致
      *
-     * @param json json字符串
-     * @return json树
+     * @param length         json的数量
+     * @param parserProvider 根据索引创建对应json的解析器
+     * @return 所有json是否一致
      */
-    private JsonNode readTree(String json) {
+    private boolean compare(int length, ParserProvider parserProvider) {
+        List<JacksonJsonCursor> cursors = new ArrayList<>(length);
         try {
-            return subject.readTree(json);
-        } catch (JsonProcessingException e) {
+            for (int i = 0; i < length; i++) {
+                cursors.add(new JacksonJsonCursor(this, parserProvider.get(i)));
+            }
+            return JsonComparator.compare(cursors);
+        } catch (IOException e) {
             throw new JsonException(e.getMessage(), e);
+        } finally {
+            for (JacksonJsonCursor cursor : cursors) {
+                try {
+                    cursor.close();
+                } catch (IOException ignored) {
+                }
+            }
         }
     }
+
+    /**
+     * 某个{@link ObjectMapper}配置版本下解析的{@link ObjectReader}和{@link ObjectWriter}
+     */
+    private static final class Cache {
+
+        /**
+         * 缓存对应的配置版本
+         */
+        final int generation;
+
+        /**
+         * 以{@link Type}为键缓存的{@link ObjectReader}
+         */
+        final Map<Type, ObjectReader> readers = new ConcurrentHashMap<>();
+
+        /**
+         * 以{@link Type}为键缓存的{@link ObjectWriter}
+         */
+        final Map<Type, ObjectWriter> writers = new ConcurrentHashMap<>();
+
+        /**
+         * 根据对象运行时类型序列化的{@link ObjectWriter}
+         */
+        volatile ObjectWriter writer;
+
+        Cache(int generation) {
+            this.generation = generation;
+        }
+    }
+
+    /**
+     * 根据索引创建json解析器
+     */
+    @FunctionalInterface
+    private interface ParserProvider {
+
+        JsonParser get(int index) throws IOException;
+    }
 }
@@ -0,0 +1,499 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package red.zyc.toolkit.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.datatype.jsr310.deser.LocalDateDeserializer;
+import com.fasterxml.jackson.datatype.jsr310.deser.LocalDateTimeDeserializer;
+import com.fasterxml.jackson.datatype.jsr310.deser.LocalTimeDeserializer;
+import com.fasterxml.jackson.datatype.jsr310.ser.LocalDateSerializer;
+import com.fasterxml.jackson.datatype.jsr310.ser.LocalDateTimeSerializer;
+import com.fasterxml.jackson.datatype.jsr310.ser.LocalTimeSerializer;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import red.zyc.toolkit.common.constant.TimeFormatConstant;
+
+import java.io.IOException;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * 按照{@link TimeFormatConstant}中固定布局的格式直接读写jdk8时间类型的数字，不经过{@link DateTimeFormatter}。
+ * 只有年份超出4位数或者文本不符合固定布局时才会退回到{@link DateTimeFormatter}，以保证结果与原来基于{@link DateTimeFormatter}的实现完全一致，
+ * 例如2021-02-30这类需要{@link java.time.format.ResolverStyle#SMART}修正的日期。
+ * <p>
+ * 格式化时数字写入每个线程复用的字符缓冲区，Jackson直接从缓冲区写入生成器，不会为每个值分配对象；
+ * Gson的{@link JsonWriter}只接受字符串，所以每个值仍然需要分配一个字符串。
+ * 解析时Jackson直接读取解析器的文本缓冲区，Gson直接读取{@link JsonReader#nextString()}返回的字符串，不会再复制一次文本。
+ *
+ * @author zyc
+ */
+final class JavaTimeCodecs {
+
+    static final DateTimeFormatter DATETIME_FORMATTER = DateTimeFormatter.ofPattern(TimeFormatConstant.DATETIME_FORMAT);
+
+    static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern(TimeFormatConstant.DATE_FORMAT);
+
+    static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern(TimeFormatConstant.TIME_FORMAT);
+
+    /**
+     * yyyy-MM-dd HH:mm:ss.SSS的长度
+     */
+    static final int DATETIME_LENGTH = 23;
+
+    /**
+     * yyyy-MM-dd的长度
+     */
+    static final int DATE_LENGTH = 10;
+
+    /**
+     * HH:mm:ss的长度
+     */
+    static final int TIME_LENGTH = 8;
+
+    /**
+     * 每个线程复用的格式化缓冲区，长度足够容纳所有固定布局
+     */
+    private static final ThreadLocal<char[]> BUFFER = ThreadLocal.withInitial(() -> new char[DATETIME_LENGTH]);
+
+    private JavaTimeCodecs() {
+    }
+
+    /**
+     * Jackson系列操作器共用的jdk8时间类型模块
+     *
+     * @return 按照{@link TimeFormatConstant}中的格式序列化、反序列化jdk8时间类型的模块
+     */
+    static JavaTimeModule jacksonModule() {
+        JavaTimeModule javaTimeModule = new JavaTimeModule();
+
+        javaTimeModule.addSerializer(LocalDateTime.class, new JacksonLocalDateTimeSerializer());
+        javaTimeModule.addSerializer(LocalDate.class, new JacksonLocalDateSerializer());
+        javaTimeModule.addSerializer(LocalTime.class, new JacksonLocalTimeSerializer());
+
+        javaTimeModule.addDeserializer(LocalDateTime.class, new JacksonLocalDateTimeDeserializer());
+        javaTimeModule.addDeserializer(LocalDate.class, new JacksonLocalDateDeserializer());
+        javaTimeModule.addDeserializer(LocalTime.class, new JacksonLocalTimeDeserializer());
+        return javaTimeModule;
+    }
+
+    static String format(LocalDateTime value) {
+        char[] buffer = BUFFER.get();
+        return format(value, buffer) ? new String(buffer, 0, DATETIME_LENGTH) : DATETIME_FORMATTER.format(value);
+    }
+
+    static String format(LocalDate value) {
+        char[] buffer = BUFFER.get();
+        return format(value, buffer) ? new String(buffer, 0, DATE_LENGTH) : DATE_FORMATTER.format(value);
+    }
+
+    static String format(LocalTime value) {
+        char[] buffer = BUFFER.get();
+        format(value, buffer);
+        return new String(buffer, 0, TIME_LENGTH);
+    }
+
+    /**
+     * 以yyyy-MM-dd HH:mm:ss.SSS格式写入缓冲区
+     *
+     * @param value  日期时间
+     * @param buffer 长度至少为{@link #DATETIME_LENGTH}的缓冲区
+     * @return 年份超出4位数时返回false，此时缓冲区中的内容不可用
+     */
+    static boolean format(LocalDateTime value, char[] buffer) {
+        if (!writeDate(value.getYear(), value.getMonthValue(), value.getDayOfMonth(), buffer)) {
+            return false;
+        }
+        buffer[10] = ' ';
+        writeTime(value.getHour(), value.getMinute(), value.getSecond(), buffer, 11);
+        buffer[19] = '.';
+        int millis = value.getNano() / 1_000_000;
+        buffer[20] = (char) ('0' + millis / 100);
+        writeTwoDigits(millis % 100, buffer, 21);
+        return true;
+    }
+
+    /**
+     * 以yyyy-MM-dd格式写入缓冲区
+     *
+     * @param value  日期
+     * @param buffer 长度至少为{@link #DATE_LENGTH}的缓冲区
+     * @return 年份超出4位数时返回false，此时缓冲区中的内容不可用
+     */
+    static boolean format(LocalDate value, char[] buffer) {
+        return writeDate(value.getYear(), value.getMonthValue(), value.getDayOfMonth(), buffer);
+    }
+
+    /**
+     * 以HH:mm:ss格式写入缓冲区
+     *
+     * @param value  时间
+     * @param buffer 长度至少为{@link #TIME_LENGTH}的缓冲区
+     */
+    static void format(LocalTime value, char[] buffer) {
+        writeTime(value.getHour(), value.getMinute(), value.getSecond(), buffer, 0);
+    }
+
+    static LocalDateTime parseLocalDateTime(String text) {
+        LocalDateTime value = null;
+        if (text.length() == DATETIME_LENGTH && isDate(text, 0) && text.charAt(10) == ' ' && isTime(text, 11) && text.charAt(19) == '.') {
+            value = localDateTime(readDigits(text, 0, 4), readDigits(text, 5, 2), readDigits(text, 8, 2),
+                    readDigits(text, 11, 2), readDigits(text, 14, 2), readDigits(text, 17, 2), readDigits(text, 20, 3));
+        }
+        return value != null ? value : LocalDateTime.parse(text, DATETIME_FORMATTER);
+    }
+
+    static LocalDate parseLocalDate(String text) {
+        LocalDate value = null;
+        if (text.length() == DATE_LENGTH && isDate(text, 0)) {
+            value = localDate(readDigits(text, 0, 4), readDigits(text, 5, 2), readDigits(text, 8, 2));
+        }
+        return value != null ? value : LocalDate.parse(text, DATE_FORMATTER);
+    }
+
+    static LocalTime parseLocalTime(String text) {
+        LocalTime value = null;
+        if (text.length() == TIME_LENGTH && isTime(text, 0)) {
+            value = localTime(readDigits(text, 0, 2), readDigits(text, 3, 2), readDigits(text, 6, 2));
+        }
+        return value != null ? value : LocalTime.parse(text, TIME_FORMATTER);
+    }
+
+    /**
+     * 按照yyyy-MM-dd HH:mm:ss.SSS格式解析
+     *
+     * @param chars  字符数组
+     * @param offset 起始位置
+     * @param length 长度
+     * @return 文本不符合固定布局或者不是一个合法的日期时间时返回null，调用方应该退回到{@link #DATETIME_FORMATTER}
+     */
+    static LocalDateTime parseLocalDateTime(char[] chars, int offset, int length) {
+        if (length != DATETIME_LENGTH || !isDate(chars, offset) || chars[offset + 10] != ' ' || !isTime(chars, offset + 11) || chars[offset + 19] != '.') {
+            return null;
+        }
+        return localDateTime(readDigits(chars, offset, 4), readDigits(chars, offset + 5, 2), readDigits(chars, offset + 8, 2),
+                readDigits(chars, offset + 11, 2), readDigits(chars, offset + 14, 2), readDigits(chars, offset + 17, 2), readDigits(chars, offset + 20, 3));
+    }
+
+    /**
+     * 按照yyyy-MM-dd格式解析
+     *
+     * @param chars  字符数组
+     * @param offset 起始位置
+     * @param length 长度
+     * @return 文本不符合固定布局或者不是一个合法的日期时返回null，调用方应该退回到{@link #DATE_FORMATTER}
+     */
+    static LocalDate parseLocalDate(char[] chars, int offset, int length) {
+        if (length != DATE_LENGTH || !isDate(chars, offset)) {
+            return null;
+        }
+        return localDate(readDigits(chars, offset, 4), readDigits(chars, offset + 5, 2), readDigits(chars, offset + 8, 2));
+    }
+
+    /**
+     * 按照HH:mm:ss格式解析
+     *
+     * @param chars  字符数组
+     * @param offset 起始位置
+     * @param length 长度
+     * @return 文本不符合固定布局或者不是一个合法的时间时返回null，调用方应该退回到{@link #TIME_FORMATTER}
+     */
+    static LocalTime parseLocalTime(char[] chars, int offset, int length) {
+        if (length != TIME_LENGTH || !isTime(chars, offset)) {
+            return null;
+        }
+        return localTime(readDigits(chars, offset, 2), readDigits(chars, offset + 3, 2), readDigits(chars, offset + 6, 2));
+    }
+
+    /**
+     * 由读取到的各个字段创建日期时间
+     *
+     * @return 存在非数字字段或者不是一个合法的日期时间时返回null
+     */
+    private static LocalDateTime localDateTime(int year, int month, int day, int hour, int minute, int second, int millis) {
+        if ((year | month | day | hour | minute | second | millis) < 0 || year == 0) {
+            return null;
+        }
+        try {
+            return LocalDateTime.of(year, month, day, hour, minute, second, millis * 1_000_000);
+        } catch (DateTimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 由读取到的各个字段创建日期
+     *
+     * @return 存在非数字字段或者不是一个合法的日期时返回null
+     */
+    private static LocalDate localDate(int year, int month, int day) {
+        if ((year | month | day) < 0 || year == 0) {
+            return null;
+        }
+        try {
+            return LocalDate.of(year, month, day);
+        } catch (DateTimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 由读取到的各个字段创建时间
+     *
+     * @return 存在非数字字段或者不是一个合法的时间时返回null
+     */
+    private static LocalTime localTime(int hour, int minute, int second) {
+        if ((hour | minute | second) < 0) {
+            return null;
+        }
+        try {
+            return LocalTime.of(hour, minute, second);
+        } catch (DateTimeException e) {
+            return null;
+        }
+    }
+
+    private static boolean writeDate(int year, int month, int day, char[] buffer) {
+        if (year < 1 || year > 9999) {
+            return false;
+        }
+        writeTwoDigits(year / 100, buffer, 0);
+        writeTwoDigits(year % 100, buffer, 2);
+        buffer[4] = '-';
+        writeTwoDigits(month, buffer, 5);
+        buffer[7] = '-';
+        writeTwoDigits(day, buffer, 8);
+        return true;
+    }
+
+    private static void writeTime(int hour, int minute, int second, char[] buffer, int offset) {
+        writeTwoDigits(hour, buffer, offset);
+        buffer[offset + 2] = ':';
+        writeTwoDigits(minute, buffer, offset + 3);
+        buffer[offset + 5] = ':';
+        writeTwoDigits(second, buffer, offset + 6);
+    }
+
+    private static void writeTwoDigits(int value, char[] buffer, int offset) {
+        buffer[offset] = (char) ('0' + value / 10);
+        buffer[offset + 1] = (char) ('0' + value % 10);
+    }
+
+    private static boolean isDate(char[] chars, int offset) {
+        return chars[offset + 4] == '-' && chars[offset + 7] == '-';
+    }
+
+    private static boolean isTime(char[] chars, int offset) {
+        return chars[offset + 2] == ':' && chars[offset + 5] == ':';
+    }
+
+    private static boolean isDate(String text, int offset) {
+        return text.charAt(offset + 4) == '-' && text.charAt(offset + 7) == '-';
+    }
+
+    private static boolean isTime(String text, int offset) {
+        return text.charAt(offset + 2) == ':' && text.charAt(offset + 5) == ':';
+    }
+
+    /**
+     * 读取连续的十进制数字
+     *
+     * @return 存在非数字字符时返回-1
+     */
+    private static int readDigits(char[] chars, int offset, int count) {
+        int value = 0;
+        for (int i = offset; i < offset + count; i++) {
+            int digit = chars[i] - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+
+    /**
+     * 读取连续的十进制数字
+     *
+     * @return 存在非数字字符时返回-1
+     */
+    private static int readDigits(String text, int offset, int count) {
+        int value = 0;
+        for (int i = offset; i < offset + count; i++) {
+            int digit = text.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+
+    static final class JacksonLocalDateTimeSerializer extends LocalDateTimeSerializer {
+
+        JacksonLocalDateTimeSerializer() {
+            super(DATETIME_FORMATTER);
+        }
+
+        @Override
+        public void serialize(LocalDateTime value, JsonGenerator g, SerializerProvider provider) throws IOException {
+            char[] buffer = BUFFER.get();
+            if (!useTimestamp(provider) && format(value, buffer)) {
+                g.writeString(buffer, 0, DATETIME_LENGTH);
+            } else {
+                super.serialize(value, g, provider);
+            }
+        }
+    }
+
+    static final class JacksonLocalDateSerializer extends LocalDateSerializer {
+
+        JacksonLocalDateSerializer() {
+            super(DATE_FORMATTER);
+        }
+
+        @Override
+        public void serialize(LocalDate value, JsonGenerator g, SerializerProvider provider) throws IOException {
+            char[] buffer = BUFFER.get();
+            if (!useTimestamp(provider) && format(value, buffer)) {
+                g.writeString(buffer, 0, DATE_LENGTH);
+            } else {
+                super.serialize(value, g, provider);
+            }
+        }
+    }
+
+    static final class JacksonLocalTimeSerializer extends LocalTimeSerializer {
+
+        JacksonLocalTimeSerializer() {
+            super(TIME_FORMATTER);
+        }
+
+        @Override
+        public void serialize(LocalTime value, JsonGenerator g, SerializerProvider provider) throws IOException {
+            if (!useTimestamp(provider)) {
+                char[] buffer = BUFFER.get();
+                format(value, buffer);
+                g.writeString(buffer, 0, TIME_LENGTH);
+            } else {
+                super.serialize(value, g, provider);
+            }
+        }
+    }
+
+    static final class JacksonLocalDateTimeDeserializer extends LocalDateTimeDeserializer {
+
+        JacksonLocalDateTimeDeserializer() {
+            super(DATETIME_FORMATTER);
+        }
+
+        @Override
+        public LocalDateTime deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+            if (p.hasToken(JsonToken.VALUE_STRING)) {
+                LocalDateTime value = parseLocalDateTime(p.getTextCharacters(), p.getTextOffset(), p.getTextLength());
+                if (value != null) {
+                    return value;
+                }
+            }
+            return super.deserialize(p, ctxt);
+        }
+    }
+
+    static final class JacksonLocalDateDeserializer extends LocalDateDeserializer {
+
+        JacksonLocalDateDeserializer() {
+            super(DATE_FORMATTER);
+        }
+
+        @Override
+        public LocalDate deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+            if (p.hasToken(JsonToken.VALUE_STRING)) {
+                LocalDate value = parseLocalDate(p.getTextCharacters(), p.getTextOffset(), p.getTextLength());
+                if (value != null) {
+                    return value;
+                }
+            }
+            return super.deserialize(p, ctxt);
+        }
+    }
+
+    static final class JacksonLocalTimeDeserializer extends LocalTimeDeserializer {
+
+        JacksonLocalTimeDeserializer() {
+            super(TIME_FORMATTER);
+        }
+
+        @Override
+        public LocalTime deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+            if (p.hasToken(JsonToken.VALUE_STRING)) {
+                LocalTime value = parseLocalTime(p.getTextCharacters(), p.getTextOffset(), p.getTextLength());
+                if (value != null) {
+                    return value;
+                }
+            }
+            return super.deserialize(p, ctxt);
+        }
+    }
+
+    static final class GsonLocalDateTimeAdapter extends TypeAdapter<LocalDateTime> {
+
+        @Override
+        public void write(JsonWriter out, LocalDateTime value) throws IOException {
+            out.value(format(value));
+        }
+
+        @Override
+        public LocalDateTime read(JsonReader in) throws IOException {
+            return parseLocalDateTime(in.nextString());
+        }
+    }
+
+    static final class GsonLocalDateAdapter extends TypeAdapter<LocalDate> {
+
+        @Override
+        public void write(JsonWriter out, LocalDate value) throws IOException {
+            out.value(format(value));
+        }
+
+        @Override
+        public LocalDate read(JsonReader in) throws IOException {
+            return parseLocalDate(in.nextString());
+        }
+    }
+
+    static final class GsonLocalTimeAdapter extends TypeAdapter<LocalTime> {
+
+        @Override
+        public void write(JsonWriter out, LocalTime value) throws IOException {
+            out.value(format(value));
+        }
+
+        @Override
+        public LocalTime read(JsonReader in) throws IOException {
+            return parseLocalTime(in.nextString());
+        }
+    }
+}
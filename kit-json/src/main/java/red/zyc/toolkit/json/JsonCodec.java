@@ -0,0 +1,104 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package red.zyc.toolkit.json;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.Writer;
+import java.lang.reflect.Type;
+
+/**
+ * 绑定了某个具体类型的json编解码器，类型解析以及序列化器、反序列化器的查找只会在编解码器创建时进行一次，
+ * 之后的每次编解码都不需要再根据类型查找。编解码器是不可变并且线程安全的，适合作为常量在热点代码中复用，
+ * 注意在编解码器创建之后对json操作主体的修改不会影响已经创建的编解码器。
+ *
+ * @param <T> 编解码的对象类型
+ * @author zyc
+ * @see JsonOperator#codec(Type)
+ */
+public interface JsonCodec<T> {
+
+    /**
+     * @return 编解码器绑定的类型
+     */
+    Type type();
+
+    /**
+     * 将对象编码为json字符串
+     *
+     * @param value 对象
+     * @return json字符串
+     */
+    String encode(T value);
+
+    /**
+     * 将对象编码为UTF-8编码的json字节数组
+     *
+     * @param value 对象
+     * @return json字节数组
+     */
+    byte[] encodeToBytes(T value);
+
+    /**
+     * 将对象以UTF-8编码的json写入到输出流中，该方法会刷新但不会关闭输出流。
+     *
+     * @param value 对象
+     * @param out   输出流
+     */
+    void encode(T value, OutputStream out);
+
+    /**
+     * 将对象以json的形式写入到{@link Writer}中，该方法会刷新但不会关闭{@link Writer}。
+     *
+     * @param value  对象
+     * @param writer 字符输出流
+     */
+    void encode(T value, Writer writer);
+
+    /**
+     * 将json字符串解码为对象
+     *
+     * @param json json字符串
+     * @return 对象
+     */
+    T decode(String json);
+
+    /**
+     * 将UTF-8编码的json字节数组解码为对象
+     *
+     * @param json json字节数组
+     * @return 对象
+     */
+    T decode(byte[] json);
+
+    /**
+     * 从UTF-8编码的json输入流中解码对象，该方法不会关闭输入流。
+     *
+     * @param in json输入流
+     * @return 对象
+     */
+    T decode(InputStream in);
+
+    /**
+     * 从{@link Reader}中解码对象，该方法不会关闭{@link Reader}。
+     *
+     * @param reader json字符输入流
+     * @return 对象
+     */
+    T decode(Reader reader);
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package red.zyc.toolkit.json;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 逐个token同时推进所有{@link JsonCursor}来比较它们所表示的json是否一致，一旦发现不同就立即返回。
+ * 只有当对象的属性顺序不一致时才会将该对象剩余的属性缓存为json树再进行无序比较，
+ * 因此对于不包含重复属性名的json来说，比较的结果与先解析成完整json树再比较的结果相同。
+ * 重复的属性名会按照出现的顺序逐个比较，而不是像json树那样以最后一次出现的值为准。
+ *
+ * @author zyc
+ */
+final class JsonComparator {
+
+    private JsonComparator() {
+    }
+
+    /**
+     * 比较所有游标所表示的json是否一致
+     *
+     * @param cursors 至少包含一个元素的游标集合
+     * @param <N>     json树节点的类型
+     * @return 所有游标所表示的json是否一致
+     * @throws IOException 读取json时发生的异常
+     */
+    static <N> boolean compare(List<? extends JsonCursor<N>> cursors) throws IOException {
+        if (!compareValue(cursors)) {
+            return false;
+        }
+        for (JsonCursor<N> cursor : cursors) {
+            cursor.end();
+        }
+        return true;
+    }
+
+    private static <N> boolean compareValue(List<? extends JsonCursor<N>> cursors) throws IOException {
+        JsonCursor.Kind kind = cursors.get(0).enter();
+        for (int i = 1; i < cursors.size(); i++) {
+            if (cursors.get(i).enter() != kind) {
+                return false;
+            }
+        }
+        switch (kind) {
+            case OBJECT:
+                return compareObject(cursors);
+            case ARRAY:
+                return compareArray(cursors);
+            default:
+                N first = cursors.get(0).readTree();
+                for (int i = 1; i < cursors.size(); i++) {
+                    if (!Objects.equals(first, cursors.get(i).readTree())) {
+                        return false;
+                    }
+                }
+                return true;
+        }
+    }
+
+    private static <N> boolean compareObject(List<? extends JsonCursor<N>> cursors) throws IOException {
+        String[] names = new String[cursors.size()];
+        while (true) {
+            boolean aligned = true;
+            for (int i = 0; i < cursors.size(); i++) {
+                names[i] = cursors.get(i).nextName();
+                aligned &= Objects.equals(names[0], names[i]);
+            }
+            if (!aligned) {
+                return compareMembers(cursors, names);
+            }
+            if (names[0] == null) {
+                return true;
+            }
+            if (!compareValue(cursors)) {
+                return false;
+            }
+        }
+    }
+
+    private static <N> boolean compareArray(List<? extends JsonCursor<N>> cursors) throws IOException {
+        while (true) {
+            boolean hasNext = cursors.get(0).nextElement();
+            for (int i = 1; i < cursors.size(); i++) {
+                if (cursors.get(i).nextElement() != hasNext) {
+                    return false;
+                }
+            }
+            if (!hasNext) {
+                return true;
+            }
+            if (!compareValue(cursors)) {
+                return false;
+            }
+        }
+    }
+
+    /**
+     * 属性顺序不一致时将每个对象剩余的属性读取到{@link Map}中进行无序比较
+     *
+     * @param cursors 游标集合
+     * @param names   每个游标当前已经读取到的属性名
+     * @param <N>     json树节点的类型
+     * @return 剩余的属性是否一致
+     * @throws IOException 读取json时发生的异常
+     */
+    private static <N> boolean compareMembers(List<? extends JsonCursor<N>> cursors, String[] names) throws IOException {
+        Map<String, N> first = readMembers(cursors.get(0), names[0]);
+        for (int i = 1; i < cursors.size(); i++) {
+            if (!first.equals(readMembers(cursors.get(i), names[i]))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static <N> Map<String, N> readMembers(JsonCursor<N> cursor, String name) throws IOException {
+        Map<String, N> members = new HashMap<>();
+        while (name != null) {
+            members.put(name, cursor.readTree());
+            name = cursor.nextName();
+        }
+        return members;
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package red.zyc.toolkit.json;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.lang.reflect.Type;
+
+/**
+ * 对底层流式json解析器的统一抽象，游标总是停留在某个尚未被读取的json值上，
+ * 通过该抽象可以在不构建完整json树的情况下逐层遍历json。
+ *
+ * @param <N> json树节点的类型
+ * @author zyc
+ */
+abstract class JsonCursor<N> implements Closeable {
+
+    /**
+     * 判断游标处json值的种类，如果是对象或者数组的话则进入其内部
+     *
+     * @return json值的种类
+     * @throws IOException 读取json时发生的异常
+     */
+    abstract Kind enter() throws IOException;
+
+    /**
+     * 读取当前对象的下一个属性名并将游标移动到该属性值上
+     *
+     * @return 属性名，如果当前对象已经结束则返回null
+     * @throws IOException 读取json时发生的异常
+     */
+    abstract String nextName() throws IOException;
+
+    /**
+     * 将游标移动到当前数组的下一个元素上
+     *
+     * @return 当前数组是否还有元素
+     * @throws IOException 读取json时发生的异常
+     */
+    abstract boolean nextElement() throws IOException;
+
+    /**
+     * 将游标处的json值完整的读取为json树
+     *
+     * @return json树
+     * @throws IOException 读取json时发生的异常
+     */
+    abstract N readTree() throws IOException;
+
+    /**
+     * 跳过游标处的json值，对象和数组会被整体跳过而不会构建json树
+     *
+     * @throws IOException 读取json时发生的异常
+     */
+    abstract void skip() throws IOException;
+
+    /**
+     * 将游标处的json值直接绑定为指定{@link Type}的java对象
+     *
+     * @param type java对象的{@link Type}
+     * @param <T>  java对象的类型
+     * @return java对象
+     * @throws IOException 读取json时发生的异常
+     */
+    abstract <T> T read(Type type) throws IOException;
+
+    /**
+     * 创建一个遍历指定json树的新游标
+     *
+     * @param tree json树
+     * @return 停留在json树根节点上的游标
+     * @throws IOException 读取json时发生的异常
+     */
+    abstract JsonCursor<N> treeCursor(N tree) throws IOException;
+
+    /**
+     * 校验根json值之后没有多余的内容
+     *
+     * @throws IOException 读取json时发生的异常
+     */
+    void end() throws IOException {
+    }
+
+    /**
+     * 释放解析器占用的资源，注意该方法不会关闭调用方传入的流。
+     *
+     * @throws IOException 关闭解析器时发生的异常
+     */
+    @Override
+    public void close() throws IOException {
+    }
+
+    /**
+     * json值的种类
+     */
+    enum Kind {
+
+        /**
+         * json对象
+         */
+        OBJECT,
+
+        /**
+         * json数组
+         */
+        ARRAY,
+
+        /**
+         * 字符串、数字、布尔值以及null
+         */
+        VALUE
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package red.zyc.toolkit.json;
+
+import java.lang.reflect.Type;
+
+/**
+ * json操作指标的记录器，{@link MeteredJsonOperator}在每次json操作完成后调用该接口，
+ * 实现类可以把指标桥接到任意的监控系统，默认实现为{@link HistogramJsonMetricsRecorder}。
+ * 该方法在json操作的调用线程中同步执行，实现类必须是线程安全的并且应该避免在记录时分配对象。
+ *
+ * @author zyc
+ */
+@FunctionalInterface
+public interface JsonMetricsRecorder {
+
+    /**
+     * 记录一次json操作
+     *
+     * @param operation 操作类型
+     * @param type      操作的目标类型，序列化时为对象的运行时类型，反序列化时为目标{@link Type}
+     * @param nanos     操作耗时，单位纳秒
+     * @param size      json的大小，字节数组和字节流按字节计、字符串和字符流按字符计，无法得知大小时为-1
+     * @param failed    操作是否抛出了异常
+     */
+    void record(Operation operation, Type type, long nanos, long size, boolean failed);
+
+    /**
+     * json操作类型
+     */
+    enum Operation {
+
+        /**
+         * 序列化
+         */
+        SERIALIZE,
+
+        /**
+         * 反序列化
+         */
+        DESERIALIZE,
+
+        /**
+         * 拷贝属性
+         */
+        COPY,
+
+        /**
+         * 比较json，目标类型固定为{@link Object}
+         */
+        COMPARE
+    }
+}
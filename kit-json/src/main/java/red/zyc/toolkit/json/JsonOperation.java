@@ -18,6 +18,10 @@ package red.zyc.toolkit.json;
 
 import red.zyc.toolkit.core.reflect.TypeToken;
 
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.Writer;
 import java.lang.reflect.Type;
 
 /**
@@ -35,6 +39,30 @@ public interface JsonOperation {
      */
     String toJsonString(Object target);
 
+    /**
+     * 将java对象转换为UTF-8编码的json字节数组
+     *
+     * @param target java对象
+     * @return json字节数组
+     */
+    byte[] toJsonBytes(Object target);
+
+    /**
+     * 将java对象以UTF-8编码的json写入到输出流中，该方法会刷新但不会关闭输出流。
+     *
+     * @param target java对象
+     * @param out    输出流
+     */
+    void toJson(Object target, OutputStream out);
+
+    /**
+     * 将java对象以json的形式写入到{@link Writer}中，该方法会刷新但不会关闭{@link Writer}。
+     *
+     * @param target java对象
+     * @param writer 字符输出流
+     */
+    void toJson(Object target, Writer writer);
+
     /**
      * 将json字符串转换成指定{@link Class}的java对象
      *
@@ -65,4 +93,94 @@ public interface JsonOperation {
      */
     <T> T fromJsonString(String json, TypeToken<T> typeToken);
 
+    /**
+     * 将UTF-8编码的json字节数组转换成指定{@link Class}的java对象
+     *
+     * @param json  json字节数组
+     * @param clazz 需要转换成java对象的{@link Class}
+     * @param <T>   需要转换成java对象的类型
+     * @return java对象
+     */
+    <T> T fromJson(byte[] json, Class<T> clazz);
+
+    /**
+     * 将UTF-8编码的json字节数组转换成指定{@link Type}的java对象
+     *
+     * @param json json字节数组
+     * @param type 需要转换成java对象的{@link Type}
+     * @param <T>  需要转换成java对象的类型
+     * @return java对象
+     */
+    <T> T fromJson(byte[] json, Type type);
+
+    /**
+     * 将UTF-8编码的json字节数组转换成指定{@link TypeToken#getType()}的java对象
+     *
+     * @param json      json字节数组
+     * @param typeToken 需要转换成java对象的{@link TypeToken}
+     * @param <T>       需要转换成java对象的类型
+     * @return java对象
+     */
+    <T> T fromJson(byte[] json, TypeToken<T> typeToken);
+
+    /**
+     * 从UTF-8编码的json输入流中读取指定{@link Class}的java对象，该方法不会关闭输入流。
+     *
+     * @param in    json输入流
+     * @param clazz 需要转换成java对象的{@link Class}
+     * @param <T>   需要转换成java对象的类型
+     * @return java对象
+     */
+    <T> T fromJson(InputStream in, Class<T> clazz);
+
+    /**
+     * 从UTF-8编码的json输入流中读取指定{@link Type}的java对象，该方法不会关闭输入流。
+     *
+     * @param in   json输入流
+     * @param type 需要转换成java对象的{@link Type}
+     * @param <T>  需要转换成java对象的类型
+     * @return java对象
+     */
+    <T> T fromJson(InputStream in, Type type);
+
+    /**
+     * 从UTF-8编码的json输入流中读取指定{@link TypeToken#getType()}的java对象，该方法不会关闭输入流。
+     *
+     * @param in        json输入流
+     * @param typeToken 需要转换成java对象的{@link TypeToken}
+     * @param <T>       需要转换成java对象的类型
+     * @return java对象
+     */
+    <T> T fromJson(InputStream in, TypeToken<T> typeToken);
+
+    /**
+     * 从{@link Reader}中读取指定{@link Class}的java对象，该方法不会关闭{@link Reader}。
+     *
+     * @param reader json字符输入流
+     * @param clazz  需要转换成java对象的{@link Class}
+     * @param <T>    需要转换成java对象的类型
+     * @return java对象
+     */
+    <T> T fromJson(Reader reader, Class<T> clazz);
+
+    /**
+     * 从{@link Reader}中读取指定{@link Type}的java对象，该方法不会关闭{@link Reader}。
+     *
+     * @param reader json字符输入流
+     * @param type   需要转换成java对象的{@link Type}
+     * @param <T>    需要转换成java对象的类型
+     * @return java对象
+     */
+    <T> T fromJson(Reader reader, Type type);
+
+    /**
+     * 从{@link Reader}中读取指定{@link TypeToken#getType()}的java对象，该方法不会关闭{@link Reader}。
+     *
+     * @param reader    json字符输入流
+     * @param typeToken 需要转换成java对象的{@link TypeToken}
+     * @param <T>       需要转换成java对象的类型
+     * @return java对象
+     */
+    <T> T fromJson(Reader reader, TypeToken<T> typeToken);
+
 }
@@ -19,29 +19,23 @@ package red.zyc.toolkit.json;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
-import com.fasterxml.jackson.datatype.jsr310.deser.LocalDateDeserializer;
-import com.fasterxml.jackson.datatype.jsr310.deser.LocalDateTimeDeserializer;
-import com.fasterxml.jackson.datatype.jsr310.deser.LocalTimeDeserializer;
-import com.fasterxml.jackson.datatype.jsr310.ser.LocalDateSerializer;
-import com.fasterxml.jackson.datatype.jsr310.ser.LocalDateTimeSerializer;
-import com.fasterxml.jackson.datatype.jsr310.ser.LocalTimeSerializer;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
-import com.google.gson.JsonDeserializer;
-import com.google.gson.JsonPrimitive;
-import com.google.gson.JsonSerializer;
 import red.zyc.toolkit.common.constant.TimeFormatConstant;
 import red.zyc.toolkit.core.reflect.TypeToken;
 
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.lang.reflect.Type;
+import java.nio.file.Path;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
-import java.time.format.DateTimeFormatter;
+import java.util.Map;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
 
 /**
  * json操作器
@@ -118,16 +112,245 @@ public interface JsonOperator<J> extends JsonOperation {
      */
     <T> T copyProperties(Object target, TypeToken<T> typeToken);
 
+    /**
+     * 创建绑定了指定{@link Class}的json编解码器
+     *
+     * @param clazz 编解码的{@link Class}
+     * @param <T>   编解码的对象类型
+     * @return json编解码器
+     */
+    <T> JsonCodec<T> codec(Class<T> clazz);
+
+    /**
+     * 创建绑定了指定{@link Type}的json编解码器，类型解析以及序列化器、反序列化器的查找只会在创建时进行一次，
+     * 返回的编解码器是不可变并且线程安全的，建议作为常量保存下来重复使用。
+     *
+     * @param type 编解码的{@link Type}
+     * @param <T>  编解码的对象类型
+     * @return json编解码器
+     */
+    <T> JsonCodec<T> codec(Type type);
+
+    /**
+     * 创建绑定了指定{@link TypeToken#getType()}的json编解码器
+     *
+     * @param typeToken 编解码的{@link TypeToken}
+     * @param <T>       编解码的对象类型
+     * @return json编解码器
+     */
+    <T> JsonCodec<T> codec(TypeToken<T> typeToken);
+
+    /**
+     * 将UTF-8编码的JSON Lines（每行一个json）输入流惰性的读取为指定{@link Class}对象的{@link Stream}
+     *
+     * @param in    JSON Lines输入流
+     * @param clazz 每行json需要转换成java对象的{@link Class}
+     * @param <T>   每行json需要转换成java对象的类型
+     * @return 对象流
+     * @see #readJsonLines(InputStream, Type)
+     */
+    <T> Stream<T> readJsonLines(InputStream in, Class<T> clazz);
+
+    /**
+     * 将UTF-8编码的JSON Lines（每行一个json）输入流惰性的读取为指定{@link Type}对象的{@link Stream}，
+     * 整个读取过程只会使用一个解析器，每次只会解析出流当前消费到的那个对象，因此内存占用与输入的大小无关。
+     * 关闭返回的{@link Stream}会释放解析器但不会关闭输入流。
+     *
+     * @param in   JSON Lines输入流
+     * @param type 每行json需要转换成java对象的{@link Type}
+     * @param <T>  每行json需要转换成java对象的类型
+     * @return 对象流
+     */
+    <T> Stream<T> readJsonLines(InputStream in, Type type);
+
+    /**
+     * 将UTF-8编码的JSON Lines（每行一个json）输入流惰性的读取为指定{@link TypeToken#getType()}对象的{@link Stream}
+     *
+     * @param in        JSON Lines输入流
+     * @param typeToken 每行json需要转换成java对象的{@link TypeToken}
+     * @param <T>       每行json需要转换成java对象的类型
+     * @return 对象流
+     * @see #readJsonLines(InputStream, Type)
+     */
+    <T> Stream<T> readJsonLines(InputStream in, TypeToken<T> typeToken);
+
+    /**
+     * 将UTF-8编码的JSON Lines文件惰性的读取为指定{@link Class}对象的{@link Stream}，使用完毕后必须关闭返回的{@link Stream}以便关闭文件。
+     *
+     * @param path  JSON Lines文件路径
+     * @param clazz 每行json需要转换成java对象的{@link Class}
+     * @param <T>   每行json需要转换成java对象的类型
+     * @return 对象流
+     * @see #readJsonLines(InputStream, Type)
+     */
+    <T> Stream<T> readJsonLines(Path path, Class<T> clazz);
+
+    /**
+     * 将UTF-8编码的JSON Lines文件惰性的读取为指定{@link Type}对象的{@link Stream}，使用完毕后必须关闭返回的{@link Stream}以便关闭文件。
+     *
+     * @param path JSON Lines文件路径
+     * @param type 每行json需要转换成java对象的{@link Type}
+     * @param <T>  每行json需要转换成java对象的类型
+     * @return 对象流
+     * @see #readJsonLines(InputStream, Type)
+     */
+    <T> Stream<T> readJsonLines(Path path, Type type);
+
+    /**
+     * 将UTF-8编码的JSON Lines文件惰性的读取为指定{@link TypeToken#getType()}对象的{@link Stream}，使用完毕后必须关闭返回的{@link Stream}以便关闭文件。
+     *
+     * @param path      JSON Lines文件路径
+     * @param typeToken 每行json需要转换成java对象的{@link TypeToken}
+     * @param <T>       每行json需要转换成java对象的类型
+     * @return 对象流
+     * @see #readJsonLines(InputStream, Type)
+     */
+    <T> Stream<T> readJsonLines(Path path, TypeToken<T> typeToken);
+
+    /**
+     * 将{@link Stream}中的对象以UTF-8编码的JSON Lines格式写入到输出流中，每个对象都会被序列化为不带缩进的单行json，
+     * 整个写入过程只会使用一个生成器，并且只在全部写完后刷新一次输出流，该方法不会关闭输出流以及{@link Stream}。
+     *
+     * @param values 需要写入的对象流
+     * @param out    输出流
+     */
+    void writeJsonLines(Stream<?> values, OutputStream out);
+
+    /**
+     * 将{@link Stream}中的对象以UTF-8编码的JSON Lines格式写入到文件中，文件已经存在的话会被覆盖。
+     *
+     * @param values 需要写入的对象流
+     * @param path   JSON Lines文件路径
+     * @see #writeJsonLines(Stream, OutputStream)
+     */
+    void writeJsonLines(Stream<?> values, Path path);
+
     /**
      * 比较传入的所有json字符串所表示的json对象是否一致，对于本身就相同的字符串来说，可以直接
      * 通过{@link String#equals}方法直接进行比较，但是有些情况下json字符串可能包含一些
      * 转义字符，此时就可以通过该方法来比较json字符串是否代表相同的json对象。
+     * <p>
+     * 比较时会同时流式的读取所有json，一旦发现不同就立即返回，只有当对象的属性顺序不一致时才会缓存该对象剩余的属性。
+     * 注意重复的属性名不会像解析成json树那样以最后一次出现的值为准，而是按照出现的顺序逐个比较，
+     * 例如<code>{"a":1,"a":2}</code>与<code>{"a":2}</code>会被认为是不一致的。
      *
      * @param jsons 待比较的json字符串数组，数组必须至少包含一个元素。
      * @return 所有json字符串所表示的json对象是否一致
      */
     boolean compare(String... jsons);
 
+    /**
+     * 比较传入的所有UTF-8编码的json字节数组所表示的json对象是否一致
+     *
+     * @param jsons 待比较的json字节数组，数组必须至少包含一个元素。
+     * @return 所有json字节数组所表示的json对象是否一致
+     * @see #compare(String...)
+     */
+    boolean compare(byte[]... jsons);
+
+    /**
+     * 比较传入的所有UTF-8编码的json输入流所表示的json对象是否一致，该方法不会关闭输入流，
+     * 并且发现不同时输入流中剩余的内容不会被读取。
+     *
+     * @param jsons 待比较的json输入流，数组必须至少包含一个元素。
+     * @return 所有json输入流所表示的json对象是否一致
+     * @see #compare(String...)
+     */
+    boolean compare(InputStream... jsons);
+
+    /**
+     * 从json字符串中提取<a href="https://www.rfc-editor.org/rfc/rfc6901">RFC 6901</a> json指针所指向的值并转换为指定{@link Class}的java对象
+     *
+     * @param json        json字符串
+     * @param jsonPointer json指针，例如/order/items/0/sku
+     * @param clazz       需要转换成java对象的{@link Class}
+     * @param <T>         java对象的类型
+     * @return java对象，指针指向的值不存在时返回null
+     * @see #extract(String, String, Type)
+     */
+    <T> T extract(String json, String jsonPointer, Class<T> clazz);
+
+    /**
+     * 从json字符串中提取<a href="https://www.rfc-editor.org/rfc/rfc6901">RFC 6901</a> json指针所指向的值并转换为指定{@link Type}的java对象。
+     * 提取时流式的遍历json，只会进入指针路径上的对象或数组，其余的子树都被直接跳过，读取到指针指向的值后立即停止，
+     * 所以不会校验该值之后的json内容是否合法。
+     *
+     * @param json        json字符串
+     * @param jsonPointer json指针，例如/order/items/0/sku
+     * @param type        需要转换成java对象的{@link Type}
+     * @param <T>         java对象的类型
+     * @return java对象，指针指向的值不存在时返回null
+     */
+    <T> T extract(String json, String jsonPointer, Type type);
+
+    /**
+     * 从json字符串中提取<a href="https://www.rfc-editor.org/rfc/rfc6901">RFC 6901</a> json指针所指向的值并转换为指定{@link TypeToken#getType()}的java对象
+     *
+     * @param json        json字符串
+     * @param jsonPointer json指针，例如/order/items/0/sku
+     * @param typeToken   需要转换成java对象的{@link TypeToken}
+     * @param <T>         java对象的类型
+     * @return java对象，指针指向的值不存在时返回null
+     * @see #extract(String, String, Type)
+     */
+    <T> T extract(String json, String jsonPointer, TypeToken<T> typeToken);
+
+    /**
+     * 从UTF-8编码的json字节数组中提取json指针所指向的值并转换为指定{@link Class}的java对象
+     *
+     * @param json        json字节数组
+     * @param jsonPointer json指针，例如/order/items/0/sku
+     * @param clazz       需要转换成java对象的{@link Class}
+     * @param <T>         java对象的类型
+     * @return java对象，指针指向的值不存在时返回null
+     * @see #extract(String, String, Type)
+     */
+    <T> T extract(byte[] json, String jsonPointer, Class<T> clazz);
+
+    /**
+     * 从UTF-8编码的json字节数组中提取json指针所指向的值并转换为指定{@link Type}的java对象
+     *
+     * @param json        json字节数组
+     * @param jsonPointer json指针，例如/order/items/0/sku
+     * @param type        需要转换成java对象的{@link Type}
+     * @param <T>         java对象的类型
+     * @return java对象，指针指向的值不存在时返回null
+     * @see #extract(String, String, Type)
+     */
+    <T> T extract(byte[] json, String jsonPointer, Type type);
+
+    /**
+     * 从UTF-8编码的json字节数组中提取json指针所指向的值并转换为指定{@link TypeToken#getType()}的java对象
+     *
+     * @param json        json字节数组
+     * @param jsonPointer json指针，例如/order/items/0/sku
+     * @param typeToken   需要转换成java对象的{@link TypeToken}
+     * @param <T>         java对象的类型
+     * @return java对象，指针指向的值不存在时返回null
+     * @see #extract(String, String, Type)
+     */
+    <T> T extract(byte[] json, String jsonPointer, TypeToken<T> typeToken);
+
+    /**
+     * 一次遍历从json字符串中提取多个json指针所指向的值，所有指针的值都读取完毕后立即停止遍历。
+     *
+     * @param json         json字符串
+     * @param jsonPointers 以json指针为键、以需要转换成java对象的{@link Type}为值的{@link Map}
+     * @return 以json指针为键、按照传入的顺序排列的java对象，指向的值不存在的指针不会出现在结果中
+     * @see #extract(String, String, Type)
+     */
+    Map<String, Object> extract(String json, Map<String, ? extends Type> jsonPointers);
+
+    /**
+     * 一次遍历从UTF-8编码的json字节数组中提取多个json指针所指向的值，所有指针的值都读取完毕后立即停止遍历。
+     *
+     * @param json         json字节数组
+     * @param jsonPointers 以json指针为键、以需要转换成java对象的{@link Type}为值的{@link Map}
+     * @return 以json指针为键、按照传入的顺序排列的java对象，指向的值不存在的指针不会出现在结果中
+     * @see #extract(String, String, Type)
+     */
+    Map<String, Object> extract(byte[] json, Map<String, ? extends Type> jsonPointers);
+
     /**
      * 默认配置的Jackson操作器，支持序列化、反序列化jdk8的时间类型以及打印美化后的json字符串。
      *
@@ -136,18 +359,7 @@ public interface JsonOperator<J> extends JsonOperation {
      * @see TimeFormatConstant#TIME_FORMAT
      */
     JacksonOperator JACKSON_OPERATOR = new JacksonOperator(new ObjectMapper()).configure(objectMapper -> {
-
-        JavaTimeModule javaTimeModule = new JavaTimeModule();
-
-        javaTimeModule.addSerializer(LocalDateTime.class, new LocalDateTimeSerializer(DateTimeFormatter.ofPattern(TimeFormatConstant.DATETIME_FORMAT)));
-        javaTimeModule.addSerializer(LocalDate.class, new LocalDateSerializer(DateTimeFormatter.ofPattern(TimeFormatConstant.DATE_FORMAT)));
-        javaTimeModule.addSerializer(LocalTime.class, new LocalTimeSerializer(DateTimeFormatter.ofPattern(TimeFormatConstant.TIME_FORMAT)));
-
-        javaTimeModule.addDeserializer(LocalDateTime.class, new LocalDateTimeDeserializer(DateTimeFormatter.ofPattern(TimeFormatConstant.DATETIME_FORMAT)));
-        javaTimeModule.addDeserializer(LocalDate.class, new LocalDateDeserializer(DateTimeFormatter.ofPattern(TimeFormatConstant.DATE_FORMAT)));
-        javaTimeModule.addDeserializer(LocalTime.class, new LocalTimeDeserializer(DateTimeFormatter.ofPattern(TimeFormatConstant.TIME_FORMAT)));
-        objectMapper.registerModule(javaTimeModule);
-
+        objectMapper.registerModule(JavaTimeCodecs.jacksonModule());
         objectMapper.enable(SerializationFeature.INDENT_OUTPUT).disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
     });
 
@@ -159,14 +371,10 @@ public interface JsonOperator<J> extends JsonOperation {
      * @see TimeFormatConstant#TIME_FORMAT
      */
     GsonOperator GSON_OPERATOR = new GsonOperator(new GsonBuilder()
-            .registerTypeAdapter(LocalDateTime.class, (JsonSerializer<LocalDateTime>) (src, typeOfSrc, context) -> new JsonPrimitive(src.format(DateTimeFormatter.ofPattern(TimeFormatConstant.DATETIME_FORMAT))))
-            .registerTypeAdapter(LocalDate.class, (JsonSerializer<LocalDate>) (src, typeOfSrc, context) -> new JsonPrimitive(src.format(DateTimeFormatter.ofPattern(TimeFormatConstant.DATE_FORMAT))))
-            .registerTypeAdapter(LocalTime.class, (JsonSerializer<LocalTime>) (src, typeOfSrc, context) -> new JsonPrimitive(src.format(DateTimeFormatter.ofPattern(TimeFormatConstant.TIME_FORMAT))))
-            .registerTypeAdapter(LocalDateTime.class, (JsonDeserializer<LocalDateTime>) (json, type, jsonDeserializationContext) -> LocalDateTime.parse(json.getAsString(), DateTimeFormatter.ofPattern(TimeFormatConstant.DATETIME_FORMAT)))
-            .registerTypeAdapter(LocalDate.class, (JsonDeserializer<LocalDate>) (json, type, jsonDeserializationContext) -> LocalDate.parse(json.getAsString(), DateTimeFormatter.ofPattern(TimeFormatConstant.DATE_FORMAT)))
-            .registerTypeAdapter(LocalTime.class, (JsonDeserializer<LocalTime>) (json, type, jsonDeserializationContext) -> LocalTime.parse(json.getAsString(), DateTimeFormatter.ofPattern(TimeFormatConstant.TIME_FORMAT)))
+            .registerTypeAdapter(LocalDateTime.class, new JavaTimeCodecs.GsonLocalDateTimeAdapter().nullSafe())
+            .registerTypeAdapter(LocalDate.class, new JavaTimeCodecs.GsonLocalDateAdapter().nullSafe())
+            .registerTypeAdapter(LocalTime.class, new JavaTimeCodecs.GsonLocalTimeAdapter().nullSafe())
             .serializeNulls()
             .setPrettyPrinting()
             .create());
-
 }
@@ -0,0 +1,298 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package red.zyc.toolkit.json;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 根据一组<a href="https://www.rfc-editor.org/rfc/rfc6901">RFC 6901</a> json指针从json中提取值，
+ * 所有指针会先合并成一棵前缀树，然后在流式遍历json时只进入前缀树中存在的属性或元素，其余的子树都被直接跳过，
+ * 并且所有指针的值都读取完毕后立即停止遍历，不会读取json剩余的内容。
+ *
+ * @author zyc
+ */
+final class JsonPointerExtractor {
+
+    /**
+     * 前缀树的根节点，对应整个json
+     */
+    private final Node root = new Node();
+
+    /**
+     * json指针
+     */
+    private final List<String> pointers;
+
+    /**
+     * 每个指针需要转换成java对象的{@link Type}
+     */
+    private final Type[] types;
+
+    /**
+     * 每个指针提取到的值
+     */
+    private final Object[] values;
+
+    /**
+     * 每个指针是否已经提取到值
+     */
+    private final boolean[] found;
+
+    /**
+     * 尚未提取到值的指针数量
+     */
+    private int remaining;
+
+    /**
+     * @param pointers json指针
+     * @param types    每个指针需要转换成java对象的{@link Type}
+     */
+    JsonPointerExtractor(List<String> pointers, List<Type> types) {
+        this.pointers = pointers;
+        this.types = types.toArray(new Type[0]);
+        this.values = new Object[pointers.size()];
+        this.found = new boolean[pointers.size()];
+        this.remaining = pointers.size();
+        for (int i = 0; i < pointers.size(); i++) {
+            Node node = root;
+            for (String token : parse(pointers.get(i))) {
+                node = node.child(token);
+            }
+            node.targets.add(i);
+        }
+    }
+
+    /**
+     * 从游标处的json中提取所有指针的值
+     *
+     * @param cursor 停留在根json值上的游标
+     * @param <N>    json树节点的类型
+     * @throws IOException 读取json时发生的异常
+     */
+    <N> void extract(JsonCursor<N> cursor) throws IOException {
+        if (remaining > 0) {
+            visit(cursor, root);
+        }
+    }
+
+    /**
+     * @param index 指针的索引
+     * @param <T>   值的类型
+     * @return 指针提取到的值，不存在时为null
+     */
+    @SuppressWarnings("unchecked")
+    <T> T value(int index) {
+        return (T) values[index];
+    }
+
+    /**
+     * @return 以指针为键、按照指针顺序排列的所有提取到的值，不存在的指针不会出现在结果中
+     */
+    Map<String, Object> values() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        for (int i = 0; i < values.length; i++) {
+            if (found[i]) {
+                result.put(pointers.get(i), values[i]);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 根据以指针为键、以{@link Type}为值的{@link Map}创建提取器
+     *
+     * @param jsonPointers 以指针为键、以{@link Type}为值的{@link Map}
+     * @return 提取器
+     */
+    static JsonPointerExtractor of(Map<String, ? extends Type> jsonPointers) {
+        List<String> pointers = new ArrayList<>(jsonPointers.size());
+        List<Type> types = new ArrayList<>(jsonPointers.size());
+        jsonPointers.forEach((pointer, type) -> {
+            pointers.add(pointer);
+            types.add(type);
+        });
+        return new JsonPointerExtractor(pointers, types);
+    }
+
+    /**
+     * 创建只提取一个指针的提取器
+     *
+     * @param jsonPointer json指针
+     * @param type        需要转换成java对象的{@link Type}
+     * @return 提取器
+     */
+    static JsonPointerExtractor of(String jsonPointer, Type type) {
+        return new JsonPointerExtractor(List.of(jsonPointer), List.of(type));
+    }
+
+    /**
+     * 访问游标处的json值
+     *
+     * @return 是否所有指针都已经提取到值
+     */
+    private <N> boolean visit(JsonCursor<N> cursor, Node node) throws IOException {
+        if (node.targets.isEmpty()) {
+            return descend(cursor, node);
+        }
+        // 最常见的情况是只有一个指针指向该值，直接绑定即可
+        if (node.targets.size() == 1 && node.isLeaf()) {
+            int target = node.targets.get(0);
+            values[target] = cursor.read(types[target]);
+            found[target] = true;
+            return --remaining == 0;
+        }
+        // 多个指针指向同一个值或者同时指向该值的内部，先读取为json树再分别提取
+        N tree = cursor.readTree();
+        for (int target : node.targets) {
+            try (JsonCursor<N> treeCursor = cursor.treeCursor(tree)) {
+                values[target] = treeCursor.read(types[target]);
+            }
+            found[target] = true;
+            remaining--;
+        }
+        if (!node.isLeaf()) {
+            try (JsonCursor<N> treeCursor = cursor.treeCursor(tree)) {
+                descend(treeCursor, node);
+            }
+        }
+        return remaining == 0;
+    }
+
+    /**
+     * 进入游标处的对象或数组，只访问前缀树中存在的属性或元素
+     *
+     * @return 是否所有指针都已经提取到值
+     */
+    private <N> boolean descend(JsonCursor<N> cursor, Node node) throws IOException {
+        switch (cursor.enter()) {
+            case OBJECT:
+                String name;
+                while ((name = cursor.nextName()) != null) {
+                    Node child = node.children.get(name);
+                    if (child == null) {
+                        cursor.skip();
+                    } else if (visit(cursor, child)) {
+                        return true;
+                    }
+                }
+                return false;
+            case ARRAY:
+                int index = 0;
+                while (cursor.nextElement()) {
+                    Node child = node.elements.get(index++);
+                    if (child == null) {
+                        cursor.skip();
+                    } else if (visit(cursor, child)) {
+                        return true;
+                    }
+                }
+                return false;
+            default:
+                cursor.skip();
+                return false;
+        }
+    }
+
+    /**
+     * 解析json指针
+     *
+     * @param pointer json指针
+     * @return 解码后的引用令牌
+     */
+    private static List<String> parse(String pointer) {
+        List<String> tokens = new ArrayList<>();
+        if (pointer.isEmpty()) {
+            return tokens;
+        }
+        if (pointer.charAt(0) != '/') {
+            throw new IllegalArgumentException(String.format("json指针必须为空字符串或者以/开头：%s", pointer));
+        }
+        StringBuilder token = new StringBuilder();
+        for (int i = 1; i < pointer.length(); i++) {
+            char c = pointer.charAt(i);
+            if (c == '/') {
+                tokens.add(token.toString());
+                token.setLength(0);
+            } else if (c == '~') {
+                char next = i + 1 < pointer.length() ? pointer.charAt(++i) : 0;
+                if (next == '0') {
+                    token.append('~');
+                } else if (next == '1') {
+                    token.append('/');
+                } else {
+                    throw new IllegalArgumentException(String.format("json指针中的~必须转义为~0或~1：%s", pointer));
+                }
+            } else {
+                token.append(c);
+            }
+        }
+        tokens.add(token.toString());
+        return tokens;
+    }
+
+    /**
+     * 前缀树节点
+     */
+    private static class Node {
+
+        /**
+         * 以属性名为键的子节点
+         */
+        private final Map<String, Node> children = new HashMap<>();
+
+        /**
+         * 以数组下标为键的子节点，只有形如0、12这样的令牌才能匹配数组元素
+         */
+        private final Map<Integer, Node> elements = new HashMap<>();
+
+        /**
+         * 指向该节点的指针的索引
+         */
+        private final List<Integer> targets = new ArrayList<>(1);
+
+        private Node child(String token) {
+            Node child = children.computeIfAbsent(token, t -> new Node());
+            if (isIndex(token)) {
+                elements.put(Integer.parseInt(token), child);
+            }
+            return child;
+        }
+
+        private boolean isLeaf() {
+            return children.isEmpty();
+        }
+
+        private static boolean isIndex(String token) {
+            if (token.isEmpty() || token.length() > 9 || (token.length() > 1 && token.charAt(0) == '0')) {
+                return false;
+            }
+            for (int i = 0; i < token.length(); i++) {
+                char c = token.charAt(i);
+                if (c < '0' || c > '9') {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
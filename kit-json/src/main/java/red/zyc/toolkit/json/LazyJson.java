@@ -0,0 +1,168 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package red.zyc.toolkit.json;
+
+import java.lang.reflect.Type;
+import java.util.function.Supplier;
+
+/**
+ * 延迟反序列化的json值，持有原始的json字符串或字节数组并在第一次调用{@link #get()}时才将其绑定为java对象，
+ * 适用于查询结果中很宽但大多数时候用不到的json列。绑定之后原始的json会被释放。
+ * <p>
+ * 该类是线程安全的，多个线程同时调用{@link #get()}时只会反序列化一次。
+ *
+ * @param <T> java对象的类型
+ * @author zyc
+ */
+public final class LazyJson<T> implements Supplier<T> {
+
+    /**
+     * 反序列化使用的json操作器，已经绑定的值为null
+     */
+    private final JsonOperator<?> jsonOperator;
+
+    /**
+     * java对象的{@link Type}
+     */
+    private final Type type;
+
+    /**
+     * 原始的json字符串或字节数组，绑定之后为null
+     */
+    private Object json;
+
+    /**
+     * 绑定的java对象
+     */
+    private T value;
+
+    /**
+     * 是否已经绑定，{@link #value}在该字段写入之前赋值，所以读到true之后一定能看到{@link #value}
+     */
+    private volatile boolean bound;
+
+    private LazyJson(JsonOperator<?> jsonOperator, Type type, Object json, T value, boolean bound) {
+        this.jsonOperator = jsonOperator;
+        this.type = type;
+        this.json = json;
+        this.value = value;
+        this.bound = bound;
+    }
+
+    /**
+     * 创建一个尚未绑定的json值
+     *
+     * @param json         原始的json字符串
+     * @param jsonOperator 反序列化使用的json操作器
+     * @param type         java对象的{@link Type}
+     * @param <T>          java对象的类型
+     * @return 尚未绑定的json值
+     */
+    public static <T> LazyJson<T> of(String json, JsonOperator<?> jsonOperator, Type type) {
+        if (json == null || jsonOperator == null || type == null) {
+            throw new IllegalArgumentException("json字符串、json操作器以及类型都不能为空");
+        }
+        return new LazyJson<>(jsonOperator, type, json, null, false);
+    }
+
+    /**
+     * 创建一个尚未绑定的json值，字节数组的格式由json操作器决定，例如UTF-8编码的json或者Smile
+     *
+     * @param json         原始的json字节数组
+     * @param jsonOperator 反序列化使用的json操作器
+     * @param type         java对象的{@link Type}
+     * @param <T>          java对象的类型
+     * @return 尚未绑定的json值
+     */
+    public static <T> LazyJson<T> of(byte[] json, JsonOperator<?> jsonOperator, Type type) {
+        if (json == null || jsonOperator == null || type == null) {
+            throw new IllegalArgumentException("json字节数组、json操作器以及类型都不能为空");
+        }
+        return new LazyJson<>(jsonOperator, type, json, null, false);
+    }
+
+    /**
+     * 创建一个已经绑定的json值，通常用于写入数据库
+     *
+     * @param value java对象
+     * @param <T>   java对象的类型
+     * @return 已经绑定的json值
+     */
+    public static <T> LazyJson<T> of(T value) {
+        return new LazyJson<>(null, value == null ? null : value.getClass(), null, value, true);
+    }
+
+    /**
+     * 获取java对象，第一次调用时会反序列化原始的json
+     *
+     * @return java对象
+     */
+    @Override
+    public T get() {
+        if (!bound) {
+            synchronized (this) {
+                if (!bound) {
+                    value = json instanceof String ? jsonOperator.fromJsonString((String) json, type) : jsonOperator.fromJson((byte[]) json, type);
+                    json = null;
+                    bound = true;
+                }
+            }
+        }
+        return value;
+    }
+
+    /**
+     * @return 是否已经绑定为java对象
+     */
+    public boolean isBound() {
+        return bound;
+    }
+
+    /**
+     * 获取原始的json字符串，由于绑定后的java对象可能已经被修改，所以绑定之后无法再获取原始的json字符串
+     *
+     * @return 原始的json字符串，已经绑定或者原始的json是字节数组时返回null
+     */
+    public String raw() {
+        if (bound) {
+            return null;
+        }
+        synchronized (this) {
+            return json instanceof String ? (String) json : null;
+        }
+    }
+
+    /**
+     * 获取原始的json字节数组，返回的是内部数组本身，调用方不应该修改它
+     *
+     * @return 原始的json字节数组，已经绑定或者原始的json是字符串时返回null
+     * @see #raw()
+     */
+    public byte[] rawBytes() {
+        if (bound) {
+            return null;
+        }
+        synchronized (this) {
+            return json instanceof byte[] ? (byte[]) json : null;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return bound ? String.valueOf(value) : "LazyJson(unbound)";
+    }
+}
@@ -0,0 +1,336 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package red.zyc.toolkit.json;
+
+import red.zyc.toolkit.core.reflect.TypeToken;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Type;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * 通过内存映射文件读取一个顶层为json数组的大文件，整个文件不会被读取成字符串。
+ * 读取时首先顺序扫描一遍映射的字节找出顶层数组中每个元素的边界，
+ * 然后返回一个可以按元素均匀拆分的{@link Stream}，在fork-join线程池中并行的将每个元素绑定为java对象，
+ * 每个线程都会通过json操作器创建自己的解析器来读取分配给它的元素。
+ * <pre>
+ *     try (Stream&lt;Person&gt; persons = new MappedJsonArrayReader(JsonOperator.JACKSON_OPERATOR).read(path, Person.class)) {
+ *         persons.filter(...).collect(...);
+ *     }
+ * </pre>
+ * 注意映射的内存会在返回的{@link Stream}不可达之后由垃圾回收器释放。
+ *
+ * @author zyc
+ */
+public class MappedJsonArrayReader {
+
+    /**
+     * 每段映射内存大小的位移，单个{@link MappedByteBuffer}最多只能映射{@link Integer#MAX_VALUE}个字节，所以按1GB分段映射。
+     */
+    private static final int SEGMENT_SHIFT = 30;
+
+    private static final long SEGMENT_SIZE = 1L << SEGMENT_SHIFT;
+
+    private static final long SEGMENT_MASK = SEGMENT_SIZE - 1;
+
+    /**
+     * json操作器
+     */
+    private final JsonOperator<?> jsonOperator;
+
+    public MappedJsonArrayReader(JsonOperator<?> jsonOperator) {
+        this.jsonOperator = jsonOperator;
+    }
+
+    /**
+     * 读取文件中顶层json数组的每个元素为指定{@link Class}的java对象
+     *
+     * @param path  文件路径
+     * @param clazz 元素需要转换成java对象的{@link Class}
+     * @param <T>   元素需要转换成java对象的类型
+     * @return 默认是并行的对象流，调用{@link Stream#sequential()}可以改为在当前线程中绑定
+     * @see #read(Path, Type)
+     */
+    public <T> Stream<T> read(Path path, Class<T> clazz) {
+        return read(path, (Type) clazz);
+    }
+
+    /**
+     * 读取文件中顶层json数组的每个元素为指定{@link Type}的java对象，文件必须是UTF-8编码的。
+     * 元素的边界会在该方法返回之前扫描出来，而元素的绑定则是在消费返回的{@link Stream}时惰性进行的，
+     * 返回的{@link Stream}是{@link Spliterator#SIZED}并且保持元素在数组中的顺序。
+     *
+     * @param path 文件路径
+     * @param type 元素需要转换成java对象的{@link Type}
+     * @param <T>  元素需要转换成java对象的类型
+     * @return 默认是并行的对象流，调用{@link Stream#sequential()}可以改为在当前线程中绑定
+     */
+    public <T> Stream<T> read(Path path, Type type) {
+        MappedByteBuffer[] segments = map(path);
+        long[] separators = scan(segments);
+        JsonCodec<T> codec = jsonOperator.codec(type);
+        return StreamSupport.stream(new ElementSpliterator<>(codec, segments, separators, 0, separators.length - 1), true);
+    }
+
+    /**
+     * 读取文件中顶层json数组的每个元素为指定{@link TypeToken#getType()}的java对象
+     *
+     * @param path      文件路径
+     * @param typeToken 元素需要转换成java对象的{@link TypeToken}
+     * @param <T>       元素需要转换成java对象的类型
+     * @return 默认是并行的对象流，调用{@link Stream#sequential()}可以改为在当前线程中绑定
+     * @see #read(Path, Type)
+     */
+    public <T> Stream<T> read(Path path, TypeToken<T> typeToken) {
+        return read(path, typeToken.getType());
+    }
+
+    /**
+     * 以只读方式分段映射整个文件，映射建立之后文件通道就可以关闭了。
+     *
+     * @param path 文件路径
+     * @return 映射的内存段
+     */
+    private static MappedByteBuffer[] map(Path path) {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            MappedByteBuffer[] segments = new MappedByteBuffer[(int) ((size + SEGMENT_MASK) >>> SEGMENT_SHIFT)];
+            for (int i = 0; i < segments.length; i++) {
+                long position = (long) i << SEGMENT_SHIFT;
+                segments[i] = channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(SEGMENT_SIZE, size - position));
+            }
+            return segments;
+        } catch (IOException e) {
+            throw new JsonException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 顺序扫描映射的字节找出顶层数组中分隔元素的位置，UTF-8编码中多字节字符的每个字节都大于0x7F，
+     * 所以只需要识别字符串以及转义字符就能准确的找到顶层数组中的逗号。
+     *
+     * @param segments 映射的内存段
+     * @return 依次为左中括号、所有分隔元素的逗号以及右中括号的位置，第i个元素位于第i和第i+1个位置之间，空数组只包含左中括号的位置
+     */
+    private static long[] scan(MappedByteBuffer[] segments) {
+        long[] separators = new long[16];
+        int count = 0;
+        int depth = 0;
+        boolean inString = false;
+        boolean escaped = false;
+        boolean hasContent = false;
+        boolean finished = false;
+        long position = 0;
+        for (MappedByteBuffer segment : segments) {
+            int limit = segment.limit();
+            for (int i = 0; i < limit; i++, position++) {
+                byte b = segment.get(i);
+                if (inString) {
+                    if (escaped) {
+                        escaped = false;
+                    } else if (b == '\\') {
+                        escaped = true;
+                    } else if (b == '"') {
+                        inString = false;
+                    }
+                    continue;
+                }
+                if (b == ' ' || b == '\n' || b == '\r' || b == '\t') {
+                    continue;
+                }
+                if (finished) {
+                    throw new JsonException(String.format("顶层json数组之后存在多余的内容，位置：%d", position));
+                }
+                if (depth == 0) {
+                    if (b != '[' && !(position < 3 && isByteOrderMark(position, b))) {
+                        throw new JsonException(String.format("文件内容必须是一个顶层json数组，位置：%d", position));
+                    }
+                    if (b == '[') {
+                        separators[count++] = position;
+                        depth = 1;
+                    }
+                    continue;
+                }
+                if (depth == 1 && (b == ',' || b == ']')) {
+                    if (!hasContent && (b == ',' || count > 1)) {
+                        throw new JsonException(String.format("顶层json数组中存在空元素，位置：%d", position));
+                    }
+                    // 空数组只记录左中括号的位置
+                    if (hasContent) {
+                        if (count == separators.length) {
+                            separators = Arrays.copyOf(separators, count << 1);
+                        }
+                        separators[count++] = position;
+                    }
+                    hasContent = false;
+                    if (b == ']') {
+                        depth = 0;
+                        finished = true;
+                    }
+                    continue;
+                }
+                hasContent = true;
+                if (b == '"') {
+                    inString = true;
+                } else if (b == '{' || b == '[') {
+                    depth++;
+                } else if (b == '}' || b == ']') {
+                    depth--;
+                }
+            }
+        }
+        if (!finished) {
+            throw new JsonException("顶层json数组不完整");
+        }
+        return Arrays.copyOf(separators, count);
+    }
+
+    /**
+     * UTF-8的BOM
+     */
+    private static boolean isByteOrderMark(long position, byte b) {
+        return (position == 0 && b == (byte) 0xEF) || (position == 1 && b == (byte) 0xBB) || (position == 2 && b == (byte) 0xBF);
+    }
+
+    /**
+     * 按元素拆分的{@link Spliterator}，每次拆分都会将剩余的元素对半分开。
+     *
+     * @param <T> 元素的类型
+     */
+    private static class ElementSpliterator<T> implements Spliterator<T> {
+
+        private final JsonCodec<T> codec;
+
+        private final MappedByteBuffer[] segments;
+
+        private final long[] separators;
+
+        private int index;
+
+        private final int fence;
+
+        ElementSpliterator(JsonCodec<T> codec, MappedByteBuffer[] segments, long[] separators, int index, int fence) {
+            this.codec = codec;
+            this.segments = segments;
+            this.separators = separators;
+            this.index = index;
+            this.fence = fence;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            if (index >= fence) {
+                return false;
+            }
+            action.accept(bind(index++));
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super T> action) {
+            for (; index < fence; index++) {
+                action.accept(bind(index));
+            }
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            int middle = (index + fence) >>> 1;
+            if (middle <= index) {
+                return null;
+            }
+            ElementSpliterator<T> prefix = new ElementSpliterator<>(codec, segments, separators, index, middle);
+            index = middle;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return fence - index;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | SIZED | SUBSIZED | IMMUTABLE;
+        }
+
+        /**
+         * 绑定第i个元素
+         */
+        private T bind(int i) {
+            return codec.decode(new SegmentInputStream(segments, separators[i] + 1, separators[i + 1]));
+        }
+    }
+
+    /**
+     * 读取映射内存中某一段字节的输入流
+     */
+    private static class SegmentInputStream extends InputStream {
+
+        private final MappedByteBuffer[] segments;
+
+        private final long end;
+
+        private long position;
+
+        SegmentInputStream(MappedByteBuffer[] segments, long start, long end) {
+            this.segments = segments;
+            this.position = start;
+            this.end = end;
+        }
+
+        @Override
+        public int read() {
+            if (position >= end) {
+                return -1;
+            }
+            byte b = segments[(int) (position >>> SEGMENT_SHIFT)].get((int) (position & SEGMENT_MASK));
+            position++;
+            return b & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (len == 0) {
+                return 0;
+            }
+            if (position >= end) {
+                return -1;
+            }
+            int offset = (int) (position & SEGMENT_MASK);
+            MappedByteBuffer segment = segments[(int) (position >>> SEGMENT_SHIFT)];
+            int n = (int) Math.min(Math.min(len, end - position), segment.limit() - offset);
+            segment.get(offset, b, off, n);
+            position += n;
+            return n;
+        }
+
+        @Override
+        public int available() {
+            return (int) Math.min(Integer.MAX_VALUE, end - position);
+        }
+    }
+}
@@ -0,0 +1,729 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package red.zyc.toolkit.json;
+
+import java.io.FilterInputStream;
+import java.io.FilterOutputStream;
+import java.io.FilterReader;
+import java.io.FilterWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.Writer;
+import java.lang.reflect.Type;
+import java.util.Map;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static red.zyc.toolkit.json.JsonMetricsRecorder.Operation.COMPARE;
+import static red.zyc.toolkit.json.JsonMetricsRecorder.Operation.COPY;
+import static red.zyc.toolkit.json.JsonMetricsRecorder.Operation.DESERIALIZE;
+import static red.zyc.toolkit.json.JsonMetricsRecorder.Operation.SERIALIZE;
+
+/**
+ * 记录json操作指标的装饰器，每次操作完成后把操作类型、目标类型、耗时、json大小以及是否失败交给{@link JsonMetricsRecorder}，
+ * 用来找出到底是哪些类型占用了json处理的cpu时间。
+ * <pre>
+ *     HistogramJsonMetricsRecorder recorder = new HistogramJsonMetricsRecorder();
+ *     JsonOperator&lt;ObjectMapper&gt; jsonOperator = new MeteredJsonOperator&lt;&gt;(JsonOperator.JACKSON_OPERATOR, recorder);
+ *     recorder.snapshot(JsonMetricsRecorder.Operation.SERIALIZE);
+ * </pre>
+ * 装饰器本身只在调用线程中读取两次{@link System#nanoTime()}，不会分配对象。
+ * 读写流时会用一个计数的装饰流包装原来的流，以记录实际读写的字节数或者字符数，这是唯一额外分配的对象。
+ * JSON Lines的读取是惰性的，每读取一个对象记录一次反序列化，由于解析器会预读，单个对象的大小无法得知；
+ * 写入则将整个流记录为一次目标类型为{@link Stream}的序列化。
+ *
+ * @param <J> json操作的主体类型
+ * @author zyc
+ */
+public class MeteredJsonOperator<J> extends AbstractJsonOperator<MeteredJsonOperator<J>, J> {
+
+    /**
+     * 被装饰的json操作器
+     */
+    private final JsonOperator<J> delegate;
+
+    /**
+     * 指标记录器
+     */
+    private final JsonMetricsRecorder recorder;
+
+    public MeteredJsonOperator(JsonOperator<J> delegate, JsonMetricsRecorder recorder) {
+        super(subjectOf(delegate));
+        if (recorder == null) {
+            throw new IllegalArgumentException("指标记录器不能为空");
+        }
+        this.delegate = delegate;
+        this.recorder = recorder;
+    }
+
+    private static <J> J subjectOf(JsonOperator<J> delegate) {
+        if (delegate == null) {
+            throw new IllegalArgumentException("被装饰的json操作器不能为空");
+        }
+        return delegate.subject();
+    }
+
+    /**
+     * @return 被装饰的json操作器
+     */
+    public JsonOperator<J> delegate() {
+        return delegate;
+    }
+
+    @Override
+    public MeteredJsonOperator<J> with(Supplier<J> supplier) {
+        return new MeteredJsonOperator<>(delegate.with(supplier), recorder);
+    }
+
+    @Override
+    public MeteredJsonOperator<J> with(UnaryOperator<J> unaryOperator) {
+        return new MeteredJsonOperator<>(delegate.with(unaryOperator), recorder);
+    }
+
+    @Override
+    public MeteredJsonOperator<J> configure(Consumer<J> consumer) {
+        delegate.configure(consumer);
+        return this;
+    }
+
+    @Override
+    public <T> JsonCodec<T> codec(Type type) {
+        return new MeteredJsonCodec<>(delegate.codec(type), recorder);
+    }
+
+    @Override
+    public String toJsonString(Object target) {
+        long start = System.nanoTime();
+        try {
+            String json = delegate.toJsonString(target);
+            recorder.record(SERIALIZE, typeOf(target), System.nanoTime() - start, json.length(), false);
+            return json;
+        } catch (RuntimeException e) {
+            recorder.record(SERIALIZE, typeOf(target), System.nanoTime() - start, -1, true);
+            throw e;
+        }
+    }
+
+    @Override
+    public byte[] toJsonBytes(Object target) {
+        long start = System.nanoTime();
+        try {
+            byte[] json = delegate.toJsonBytes(target);
+            recorder.record(SERIALIZE, typeOf(target), System.nanoTime() - start, json.length, false);
+            return json;
+        } catch (RuntimeException e) {
+            recorder.record(SERIALIZE, typeOf(target), System.nanoTime() - start, -1, true);
+            throw e;
+        }
+    }
+
+    @Override
+    public void toJson(Object target, OutputStream out) {
+        CountingOutputStream counting = CountingOutputStream.of(out);
+        long start = System.nanoTime();
+        try {
+            delegate.toJson(target, counting);
+            recorder.record(SERIALIZE, typeOf(target), System.nanoTime() - start, size(counting), false);
+        } catch (RuntimeException e) {
+            recorder.record(SERIALIZE, typeOf(target), System.nanoTime() - start, size(counting), true);
+            throw e;
+        }
+    }
+
+    @Override
+    public void toJson(Object target, Writer writer) {
+        CountingWriter counting = CountingWriter.of(writer);
+        long start = System.nanoTime();
+        try {
+            delegate.toJson(target, counting);
+            recorder.record(SERIALIZE, typeOf(target), System.nanoTime() - start, size(counting), false);
+        } catch (RuntimeException e) {
+            recorder.record(SERIALIZE, typeOf(target), System.nanoTime() - start, size(counting), true);
+            throw e;
+        }
+    }
+
+    @Override
+    public <T> T fromJsonString(String json, Class<T> clazz) {
+        return fromJsonString(json, (Type) clazz);
+    }
+
+    @Override
+    public <T> T fromJsonString(String json, Type type) {
+        long start = System.nanoTime();
+        try {
+            T value = delegate.fromJsonString(json, type);
+            recorder.record(DESERIALIZE, type, System.nanoTime() - start, json.length(), false);
+            return value;
+        } catch (RuntimeException e) {
+            recorder.record(DESERIALIZE, type, System.nanoTime() - start, json == null ? -1 : json.length(), true);
+            throw e;
+        }
+    }
+
+    @Override
+    public <T> T fromJson(byte[] json, Type type) {
+        long start = System.nanoTime();
+        try {
+            T value = delegate.fromJson(json, type);
+            recorder.record(DESERIALIZE, type, System.nanoTime() - start, json.length, false);
+            return value;
+        } catch (RuntimeException e) {
+            recorder.record(DESERIALIZE, type, System.nanoTime() - start, json == null ? -1 : json.length, true);
+            throw e;
+        }
+    }
+
+    @Override
+    public <T> T fromJson(InputStream in, Type type) {
+        CountingInputStream counting = CountingInputStream.of(in);
+        long start = System.nanoTime();
+        try {
+            T value = delegate.fromJson(counting, type);
+            recorder.record(DESERIALIZE, type, System.nanoTime() - start, size(counting), false);
+            return value;
+        } catch (RuntimeException e) {
+            recorder.record(DESERIALIZE, type, System.nanoTime() - start, size(counting), true);
+            throw e;
+        }
+    }
+
+    @Override
+    public <T> T fromJson(Reader reader, Type type) {
+        CountingReader counting = CountingReader.of(reader);
+        long start = System.nanoTime();
+        try {
+            T value = delegate.fromJson(counting, type);
+            recorder.record(DESERIALIZE, type, System.nanoTime() - start, size(counting), false);
+            return value;
+        } catch (RuntimeException e) {
+            recorder.record(DESERIALIZE, type, System.nanoTime() - start, size(counting), true);
+            throw e;
+        }
+    }
+
+    @Override
+    public <T> T copyProperties(Object target, Type type) {
+        long start = System.nanoTime();
+        try {
+            T value = delegate.copyProperties(target, type);
+            recorder.record(COPY, type, System.nanoTime() - start, -1, false);
+            return value;
+        } catch (RuntimeException e) {
+            recorder.record(COPY, type, System.nanoTime() - start, -1, true);
+            throw e;
+        }
+    }
+
+    @Override
+    public <T> Stream<T> readJsonLines(InputStream in, Type type) {
+        Stream<T> values = delegate.readJsonLines(in, type);
+        return StreamSupport.stream(new MeteredSpliterator<>(values.spliterator(), type, recorder), false).onClose(values::close);
+    }
+
+    @Override
+    public void writeJsonLines(Stream<?> values, OutputStream out) {
+        CountingOutputStream counting = CountingOutputStream.of(out);
+        long start = System.nanoTime();
+        try {
+            delegate.writeJsonLines(values, counting);
+            recorder.record(SERIALIZE, Stream.class, System.nanoTime() - start, size(counting), false);
+        } catch (RuntimeException e) {
+            recorder.record(SERIALIZE, Stream.class, System.nanoTime() - start, size(counting), true);
+            throw e;
+        }
+    }
+
+    @Override
+    public <T> T extract(String json, String jsonPointer, Type type) {
+        long start = System.nanoTime();
+        try {
+            T value = delegate.extract(json, jsonPointer, type);
+            recorder.record(DESERIALIZE, type, System.nanoTime() - start, json.length(), false);
+            return value;
+        } catch (RuntimeException e) {
+            recorder.record(DESERIALIZE, type, System.nanoTime() - start, json == null ? -1 : json.length(), true);
+            throw e;
+        }
+    }
+
+    @Override
+    public <T> T extract(byte[] json, String jsonPointer, Type type) {
+        long start = System.nanoTime();
+        try {
+            T value = delegate.extract(json, jsonPointer, type);
+            recorder.record(DESERIALIZE, type, System.nanoTime() - start, json.length, false);
+            return value;
+        } catch (RuntimeException e) {
+            recorder.record(DESERIALIZE, type, System.nanoTime() - start, json == null ? -1 : json.length, true);
+            throw e;
+        }
+    }
+
+    @Override
+    public Map<String, Object> extract(String json, Map<String, ? extends Type> jsonPointers) {
+        long start = System.nanoTime();
+        try {
+            Map<String, Object> values = delegate.extract(json, jsonPointers);
+            recorder.record(DESERIALIZE, Map.class, System.nanoTime() - start, json.length(), false);
+            return values;
+        } catch (RuntimeException e) {
+            recorder.record(DESERIALIZE, Map.class, System.nanoTime() - start, json == null ? -1 : json.length(), true);
+            throw e;
+        }
+    }
+
+    @Override
+    public Map<String, Object> extract(byte[] json, Map<String, ? extends Type> jsonPointers) {
+        long start = System.nanoTime();
+        try {
+            Map<String, Object> values = delegate.extract(json, jsonPointers);
+            recorder.record(DESERIALIZE, Map.class, System.nanoTime() - start, json.length, false);
+            return values;
+        } catch (RuntimeException e) {
+            recorder.record(DESERIALIZE, Map.class, System.nanoTime() - start, json == null ? -1 : json.length, true);
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean compare(String... jsons) {
+        long start = System.nanoTime();
+        try {
+            boolean equal = delegate.compare(jsons);
+            recorder.record(COMPARE, Object.class, System.nanoTime() - start, -1, false);
+            return equal;
+        } catch (RuntimeException e) {
+            recorder.record(COMPARE, Object.class, System.nanoTime() - start, -1, true);
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean compare(byte[]... jsons) {
+        long start = System.nanoTime();
+        try {
+            boolean equal = delegate.compare(jsons);
+            recorder.record(COMPARE, Object.class, System.nanoTime() - start, -1, false);
+            return equal;
+        } catch (RuntimeException e) {
+            recorder.record(COMPARE, Object.class, System.nanoTime() - start, -1, true);
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean compare(InputStream... jsons) {
+        long start = System.nanoTime();
+        try {
+            boolean equal = delegate.compare(jsons);
+            recorder.record(COMPARE, Object.class, System.nanoTime() - start, -1, false);
+            return equal;
+        } catch (RuntimeException e) {
+            recorder.record(COMPARE, Object.class, System.nanoTime() - start, -1, true);
+            throw e;
+        }
+    }
+
+    /**
+     * 计数的装饰流读写的字节数或者字符数
+     *
+     * @param counting 计数的装饰流，原来的流为null时为null
+     * @return 读写的字节数或者字符数，原来的流为null时为-1
+     */
+    private static long size(Counting counting) {
+        return counting == null ? -1 : counting.count();
+    }
+
+    /**
+     * 序列化的目标类型为对象的运行时类型，null记为{@link Object}
+     */
+    private static Type typeOf(Object target) {
+        return target == null ? Object.class : target.getClass();
+    }
+
+    /**
+     * 记录JSON Lines中每个对象反序列化指标的{@link Spliterator}，耗时不包含下游处理该对象的时间
+     *
+     * @param <T> 对象类型
+     */
+    private static class MeteredSpliterator<T> implements Spliterator<T>, Consumer<T> {
+
+        private final Spliterator<T> delegate;
+
+        private final Type type;
+
+        private final JsonMetricsRecorder recorder;
+
+        /**
+         * 被装饰的{@link Spliterator}刚刚读取到的对象
+         */
+        private T value;
+
+        private MeteredSpliterator(Spliterator<T> delegate, Type type, JsonMetricsRecorder recorder) {
+            this.delegate = delegate;
+            this.type = type;
+            this.recorder = recorder;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            long start = System.nanoTime();
+            boolean advanced;
+            try {
+                advanced = delegate.tryAdvance(this);
+            } catch (RuntimeException e) {
+                recorder.record(DESERIALIZE, type, System.nanoTime() - start, -1, true);
+                throw e;
+            }
+            if (advanced) {
+                recorder.record(DESERIALIZE, type, System.nanoTime() - start, -1, false);
+                T current = value;
+                value = null;
+                action.accept(current);
+            }
+            return advanced;
+        }
+
+        @Override
+        public void accept(T t) {
+            value = t;
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            return null;
+        }
+
+        @Override
+        public long estimateSize() {
+            return delegate.estimateSize();
+        }
+
+        @Override
+        public int characteristics() {
+            return delegate.characteristics() & ~(Spliterator.SIZED | Spliterator.SUBSIZED);
+        }
+    }
+
+    /**
+     * 记录指标的编解码器，目标类型固定为编解码器绑定的类型
+     *
+     * @param <T> 编解码的对象类型
+     */
+    private static class MeteredJsonCodec<T> implements JsonCodec<T> {
+
+        private final JsonCodec<T> delegate;
+
+        private final JsonMetricsRecorder recorder;
+
+        private MeteredJsonCodec(JsonCodec<T> delegate, JsonMetricsRecorder recorder) {
+            this.delegate = delegate;
+            this.recorder = recorder;
+        }
+
+        @Override
+        public Type type() {
+            return delegate.type();
+        }
+
+        @Override
+        public String encode(T value) {
+            long start = System.nanoTime();
+            try {
+                String json = delegate.encode(value);
+                recorder.record(SERIALIZE, delegate.type(), System.nanoTime() - start, json.length(), false);
+                return json;
+            } catch (RuntimeException e) {
+                recorder.record(SERIALIZE, delegate.type(), System.nanoTime() - start, -1, true);
+                throw e;
+            }
+        }
+
+        @Override
+        public byte[] encodeToBytes(T value) {
+            long start = System.nanoTime();
+            try {
+                byte[] json = delegate.encodeToBytes(value);
+                recorder.record(SERIALIZE, delegate.type(), System.nanoTime() - start, json.length, false);
+                return json;
+            } catch (RuntimeException e) {
+                recorder.record(SERIALIZE, delegate.type(), System.nanoTime() - start, -1, true);
+                throw e;
+            }
+        }
+
+        @Override
+        public void encode(T value, OutputStream out) {
+            CountingOutputStream counting = CountingOutputStream.of(out);
+            long start = System.nanoTime();
+            try {
+                delegate.encode(value, counting);
+                recorder.record(SERIALIZE, delegate.type(), System.nanoTime() - start, size(counting), false);
+            } catch (RuntimeException e) {
+                recorder.record(SERIALIZE, delegate.type(), System.nanoTime() - start, size(counting), true);
+                throw e;
+            }
+        }
+
+        @Override
+        public void encode(T value, Writer writer) {
+            CountingWriter counting = CountingWriter.of(writer);
+            long start = System.nanoTime();
+            try {
+                delegate.encode(value, counting);
+                recorder.record(SERIALIZE, delegate.type(), System.nanoTime() - start, size(counting), false);
+            } catch (RuntimeException e) {
+                recorder.record(SERIALIZE, delegate.type(), System.nanoTime() - start, size(counting), true);
+                throw e;
+            }
+        }
+
+        @Override
+        public T decode(String json) {
+            long start = System.nanoTime();
+            try {
+                T value = delegate.decode(json);
+                recorder.record(DESERIALIZE, delegate.type(), System.nanoTime() - start, json.length(), false);
+                return value;
+            } catch (RuntimeException e) {
+                recorder.record(DESERIALIZE, delegate.type(), System.nanoTime() - start, json == null ? -1 : json.length(), true);
+                throw e;
+            }
+        }
+
+        @Override
+        public T decode(byte[] json) {
+            long start = System.nanoTime();
+            try {
+                T value = delegate.decode(json);
+                recorder.record(DESERIALIZE, delegate.type(), System.nanoTime() - start, json.length, false);
+                return value;
+            } catch (RuntimeException e) {
+                recorder.record(DESERIALIZE, delegate.type(), System.nanoTime() - start, json == null ? -1 : json.length, true);
+                throw e;
+            }
+        }
+
+        @Override
+        public T decode(InputStream in) {
+            CountingInputStream counting = CountingInputStream.of(in);
+            long start = System.nanoTime();
+            try {
+                T value = delegate.decode(counting);
+                recorder.record(DESERIALIZE, delegate.type(), System.nanoTime() - start, size(counting), false);
+                return value;
+            } catch (RuntimeException e) {
+                recorder.record(DESERIALIZE, delegate.type(), System.nanoTime() - start, size(counting), true);
+                throw e;
+            }
+        }
+
+        @Override
+        public T decode(Reader reader) {
+            CountingReader counting = CountingReader.of(reader);
+            long start = System.nanoTime();
+            try {
+                T value = delegate.decode(counting);
+                recorder.record(DESERIALIZE, delegate.type(), System.nanoTime() - start, size(counting), false);
+                return value;
+            } catch (RuntimeException e) {
+                recorder.record(DESERIALIZE, delegate.type(), System.nanoTime() - start, size(counting), true);
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * 记录读写了多少字节或者字符的装饰流
+     */
+    private interface Counting {
+
+        /**
+         * @return 已经读写的字节数或者字符数
+         */
+        long count();
+    }
+
+    private static class CountingOutputStream extends FilterOutputStream implements Counting {
+
+        private long count;
+
+        private CountingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        private static CountingOutputStream of(OutputStream out) {
+            return out == null ? null : new CountingOutputStream(out);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            count += len;
+        }
+
+        @Override
+        public long count() {
+            return count;
+        }
+    }
+
+    private static class CountingWriter extends FilterWriter implements Counting {
+
+        private long count;
+
+        private CountingWriter(Writer out) {
+            super(out);
+        }
+
+        private static CountingWriter of(Writer out) {
+            return out == null ? null : new CountingWriter(out);
+        }
+
+        @Override
+        public void write(int c) throws IOException {
+            out.write(c);
+            count++;
+        }
+
+        @Override
+        public void write(char[] cbuf, int off, int len) throws IOException {
+            out.write(cbuf, off, len);
+            count += len;
+        }
+
+        @Override
+        public void write(String str, int off, int len) throws IOException {
+            out.write(str, off, len);
+            count += len;
+        }
+
+        @Override
+        public long count() {
+            return count;
+        }
+    }
+
+    private static class CountingInputStream extends FilterInputStream implements Counting {
+
+        private long count;
+
+        private CountingInputStream(InputStream in) {
+            super(in);
+        }
+
+        private static CountingInputStream of(InputStream in) {
+            return in == null ? null : new CountingInputStream(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = in.read();
+            if (b >= 0) {
+                count++;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n = in.read(b, off, len);
+            if (n > 0) {
+                count += n;
+            }
+            return n;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = in.skip(n);
+            count += skipped;
+            return skipped;
+        }
+
+        @Override
+        public boolean markSupported() {
+            return false;
+        }
+
+        @Override
+        public long count() {
+            return count;
+        }
+    }
+
+    private static class CountingReader extends FilterReader implements Counting {
+
+        private long count;
+
+        private CountingReader(Reader in) {
+            super(in);
+        }
+
+        private static CountingReader of(Reader in) {
+            return in == null ? null : new CountingReader(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int c = in.read();
+            if (c >= 0) {
+                count++;
+            }
+            return c;
+        }
+
+        @Override
+        public int read(char[] cbuf, int off, int len) throws IOException {
+            int n = in.read(cbuf, off, len);
+            if (n > 0) {
+                count += n;
+            }
+            return n;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = in.skip(n);
+            count += skipped;
+            return skipped;
+        }
+
+        @Override
+        public boolean markSupported() {
+            return false;
+        }
+
+        @Override
+        public long count() {
+            return count;
+        }
+    }
+}
@@ -7,4 +7,6 @@ module kit.json.test {
     requires kit.core;
     requires org.junit.jupiter.api;
     requires kit.json;
+    requires com.google.gson;
+    requires com.fasterxml.jackson.databind;
 }
\ No newline at end of file
@@ -16,16 +16,58 @@
 
 package red.zyc.toolkit.json.test;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import org.junit.jupiter.api.Test;
 import red.zyc.toolkit.core.reflect.TypeToken;
+import red.zyc.toolkit.json.AsyncJsonOperator;
+import red.zyc.toolkit.json.BinaryJsonOperators;
+import red.zyc.toolkit.json.GsonOperator;
+import red.zyc.toolkit.json.HistogramJsonMetricsRecorder;
+import red.zyc.toolkit.json.JacksonOperator;
+import red.zyc.toolkit.json.JsonCodec;
+import red.zyc.toolkit.json.JsonException;
+import red.zyc.toolkit.json.JsonMetricsRecorder;
+import red.zyc.toolkit.json.JsonOperator;
+import red.zyc.toolkit.json.LazyJson;
+import red.zyc.toolkit.json.MappedJsonArrayReader;
+import red.zyc.toolkit.json.MeteredJsonOperator;
 import red.zyc.toolkit.json.test.model.Person;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static red.zyc.toolkit.json.JsonOperator.GSON_OPERATOR;
 import static red.zyc.toolkit.json.JsonOperator.JACKSON_OPERATOR;
@@ -53,6 +95,7 @@ class JsonTest {
         List<Person> copy = JACKSON_OPERATOR.copyProperties(PERSONS, TYPE_TOKEN);
         System.out.println(JACKSON_OPERATOR.toJsonString(copy));
         assertEquals(PERSONS, copy);
+        assertNotSame(PERSONS.get(0), copy.get(0));
     }
 
     @Test
@@ -60,6 +103,83 @@ class JsonTest {
         assertTrue(JACKSON_OPERATOR.compare(GSON_OPERATOR.toJsonString(PERSONS), JACKSON_OPERATOR.toJsonString(PERSONS)));
     }
 
+    @Test
+    void testJacksonStreamingCompare() {
+        assertTrue(JACKSON_OPERATOR.compare("{\"a\":1,\"b\":[1,{\"c\":null}]}", "{\"b\":[1,{\"c\":null}],\"a\":1}", "{\"a\":1,\"b\":[1,{\"c\":null}]}"));
+        assertFalse(JACKSON_OPERATOR.compare("{\"a\":1,\"b\":[1,2]}", "{\"a\":1,\"b\":[2,1]}"));
+        assertFalse(JACKSON_OPERATOR.compare("{\"a\":1}", "{\"a\":1.0}"));
+        assertFalse(JACKSON_OPERATOR.compare("{\"a\":1}", "{\"a\":1,\"b\":2}"));
+        assertFalse(JACKSON_OPERATOR.compare("[1]", "{\"a\":1}"));
+        assertTrue(JACKSON_OPERATOR.compare("{\"a\":1,\"a\":2}", "{\"a\":1,\"a\":2}"));
+        assertFalse(JACKSON_OPERATOR.compare("{\"a\":1,\"a\":2}", "{\"a\":2}"));
+        assertTrue(JACKSON_OPERATOR.compare(GSON_OPERATOR.toJsonBytes(PERSONS), JACKSON_OPERATOR.toJsonBytes(PERSONS)));
+        assertTrue(JACKSON_OPERATOR.compare(new ByteArrayInputStream(GSON_OPERATOR.toJsonBytes(PERSONS)), new ByteArrayInputStream(JACKSON_OPERATOR.toJsonBytes(PERSONS))));
+    }
+
+    @Test
+    void testJacksonCodec() {
+        JsonCodec<List<Person>> codec = JACKSON_OPERATOR.codec(TYPE_TOKEN);
+        assertEquals(JACKSON_OPERATOR.toJsonString(PERSONS), codec.encode(PERSONS));
+        assertEquals(PERSONS, codec.decode(codec.encode(PERSONS)));
+        assertEquals(PERSONS, codec.decode(codec.encodeToBytes(PERSONS)));
+    }
+
+    @Test
+    void testJacksonJsonLines() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        JACKSON_OPERATOR.writeJsonLines(PERSONS.stream(), out);
+        String jsonLines = out.toString(StandardCharsets.UTF_8);
+        assertEquals(PERSONS.size(), jsonLines.lines().count());
+        assertTrue(jsonLines.lines().allMatch(line -> line.startsWith("{") && line.endsWith("}")));
+        assertTrue(jsonLines.endsWith("\n"));
+        try (Stream<Person> persons = JACKSON_OPERATOR.readJsonLines(new ByteArrayInputStream(out.toByteArray()), Person.class)) {
+            assertEquals(PERSONS, persons.collect(Collectors.toList()));
+        }
+    }
+
+    @Test
+    void testJacksonDerive() {
+        JacksonOperator compact = JACKSON_OPERATOR.derive(UnaryOperator.identity(), writer -> writer.without(SerializationFeature.INDENT_OUTPUT));
+        assertSame(JACKSON_OPERATOR.subject(), compact.subject());
+        String json = compact.toJsonString(PERSONS);
+        assertFalse(json.contains("\n"));
+        assertTrue(JACKSON_OPERATOR.toJsonString(PERSONS).contains("\n"));
+        assertEquals(json, compact.codec(TYPE_TOKEN).encode(PERSONS));
+        assertEquals(PERSONS, compact.fromJsonString(json, TYPE_TOKEN));
+    }
+
+    @Test
+    void testJacksonConfigure() {
+        JacksonOperator operator = JACKSON_OPERATOR.with(ObjectMapper::copy);
+        JacksonOperator compact = operator.derive(UnaryOperator.identity(), UnaryOperator.identity());
+        assertTrue(compact.toJsonString(PERSONS).contains("\n"));
+        assertTrue(compact.codec(TYPE_TOKEN).encode(PERSONS).contains("\n"));
+        compact.configure(objectMapper -> objectMapper.disable(SerializationFeature.INDENT_OUTPUT));
+        assertFalse(operator.toJsonString(PERSONS).contains("\n"));
+        assertFalse(compact.toJsonString(PERSONS).contains("\n"));
+        assertFalse(compact.codec(TYPE_TOKEN).encode(PERSONS).contains("\n"));
+    }
+
+    @Test
+    void testJacksonMappedArray() throws IOException {
+        testMappedArray(JACKSON_OPERATOR);
+    }
+
+    @Test
+    void testJacksonBinaryConversion() {
+        byte[] bytes = JACKSON_OPERATOR.toJsonBytes(PERSONS);
+        assertEquals(JACKSON_OPERATOR.toJsonString(PERSONS), new String(bytes, StandardCharsets.UTF_8));
+        assertEquals(PERSONS, JACKSON_OPERATOR.fromJson(bytes, TYPE_TOKEN));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        JACKSON_OPERATOR.toJson(PERSONS, out);
+        assertEquals(PERSONS, JACKSON_OPERATOR.fromJson(new ByteArrayInputStream(out.toByteArray()), TYPE_TOKEN));
+
+        StringWriter writer = new StringWriter();
+        JACKSON_OPERATOR.toJson(PERSONS, writer);
+        assertEquals(PERSONS, JACKSON_OPERATOR.fromJson(new StringReader(writer.toString()), TYPE_TOKEN));
+    }
+
     @Test
     void testGsonConversion() {
         String json = GSON_OPERATOR.toJsonString(PERSONS);
@@ -67,11 +187,81 @@ class JsonTest {
         assertEquals(PERSONS, GSON_OPERATOR.fromJsonString(json, TYPE_TOKEN));
     }
 
+    @Test
+    void testGsonStreamingCompare() {
+        assertTrue(GSON_OPERATOR.compare("{\"a\":1,\"b\":[1,{\"c\":null}]}", "{\"b\":[1,{\"c\":null}],\"a\":1}", "{\"a\":1,\"b\":[1,{\"c\":null}]}"));
+        assertFalse(GSON_OPERATOR.compare("{\"a\":1,\"b\":[1,2]}", "{\"a\":1,\"b\":[2,1]}"));
+        assertTrue(GSON_OPERATOR.compare("{\"a\":1}", "{\"a\":1.0}"));
+        assertFalse(GSON_OPERATOR.compare("{\"a\":1}", "{\"a\":1,\"b\":2}"));
+        assertFalse(GSON_OPERATOR.compare("[1]", "{\"a\":1}"));
+        assertTrue(GSON_OPERATOR.compare("{\"a\":1,\"a\":2}", "{\"a\":1,\"a\":2}"));
+        assertFalse(GSON_OPERATOR.compare("{\"a\":1,\"a\":2}", "{\"a\":2}"));
+        assertTrue(GSON_OPERATOR.compare(GSON_OPERATOR.toJsonBytes(PERSONS), JACKSON_OPERATOR.toJsonBytes(PERSONS)));
+        assertTrue(GSON_OPERATOR.compare(new ByteArrayInputStream(GSON_OPERATOR.toJsonBytes(PERSONS)), new ByteArrayInputStream(JACKSON_OPERATOR.toJsonBytes(PERSONS))));
+    }
+
+    @Test
+    void testGsonCodec() {
+        JsonCodec<List<Person>> codec = GSON_OPERATOR.codec(TYPE_TOKEN);
+        assertEquals(GSON_OPERATOR.toJsonString(PERSONS), codec.encode(PERSONS));
+        assertEquals(PERSONS, codec.decode(codec.encode(PERSONS)));
+        assertEquals(PERSONS, codec.decode(codec.encodeToBytes(PERSONS)));
+    }
+
+    @Test
+    void testGsonJsonLines() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        GSON_OPERATOR.writeJsonLines(PERSONS.stream(), out);
+        String jsonLines = out.toString(StandardCharsets.UTF_8);
+        assertEquals(PERSONS.size(), jsonLines.lines().count());
+        assertTrue(jsonLines.lines().allMatch(line -> line.startsWith("{") && line.endsWith("}")));
+        assertTrue(jsonLines.endsWith("\n"));
+        try (Stream<Person> persons = GSON_OPERATOR.readJsonLines(new ByteArrayInputStream(out.toByteArray()), Person.class)) {
+            assertEquals(PERSONS, persons.collect(Collectors.toList()));
+        }
+    }
+
+    @Test
+    void testGsonDerive() {
+        GsonOperator compact = GSON_OPERATOR.derive(writer -> writer.setIndent(""));
+        GsonOperator withoutNulls = compact.derive(writer -> writer.setSerializeNulls(false));
+        assertSame(GSON_OPERATOR.subject(), withoutNulls.subject());
+        Person person = new Person(null, 18, "12345678900", LocalDateTime.of(2021, 1, 15, 12, 0, 0));
+        String json = compact.toJsonString(person);
+        assertFalse(json.contains("\n"));
+        assertTrue(json.contains("\"name\":null"));
+        assertTrue(GSON_OPERATOR.toJsonString(person).contains("\n"));
+        assertFalse(withoutNulls.toJsonString(person).contains("name"));
+        assertEquals(json, compact.codec(Person.class).encode(person));
+        assertEquals(person, compact.fromJsonString(json, Person.class));
+    }
+
+    @Test
+    void testGsonMappedArray() throws IOException {
+        testMappedArray(GSON_OPERATOR);
+    }
+
+    @Test
+    void testGsonBinaryConversion() {
+        byte[] bytes = GSON_OPERATOR.toJsonBytes(PERSONS);
+        assertEquals(GSON_OPERATOR.toJsonString(PERSONS), new String(bytes, StandardCharsets.UTF_8));
+        assertEquals(PERSONS, GSON_OPERATOR.fromJson(bytes, TYPE_TOKEN));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        GSON_OPERATOR.toJson(PERSONS, out);
+        assertEquals(PERSONS, GSON_OPERATOR.fromJson(new ByteArrayInputStream(out.toByteArray()), TYPE_TOKEN));
+
+        StringWriter writer = new StringWriter();
+        GSON_OPERATOR.toJson(PERSONS, writer);
+        assertEquals(PERSONS, GSON_OPERATOR.fromJson(new StringReader(writer.toString()), TYPE_TOKEN));
+    }
+
     @Test
     void testGsonCopy() {
         List<Person> copy = GSON_OPERATOR.copyProperties(PERSONS, TYPE_TOKEN);
         System.out.println(GSON_OPERATOR.toJsonString(copy));
         assertEquals(PERSONS, copy);
+        assertNotSame(PERSONS.get(0), copy.get(0));
     }
 
     @Test
@@ -79,4 +269,206 @@ class JsonTest {
         assertTrue(GSON_OPERATOR.compare(GSON_OPERATOR.toJsonString(PERSONS), JACKSON_OPERATOR.toJsonString(PERSONS)));
     }
 
+
+    @Test
+    void testJavaTime() {
+        for (JsonOperator<?> jsonOperator : List.of(JACKSON_OPERATOR, GSON_OPERATOR)) {
+            LocalDateTime dateTime = LocalDateTime.of(2021, 1, 5, 3, 4, 5, 6_789_000);
+            assertEquals("\"2021-01-05 03:04:05.006\"", jsonOperator.toJsonString(dateTime));
+            assertEquals(dateTime.withNano(6_000_000), jsonOperator.fromJsonString("\"2021-01-05 03:04:05.006\"", LocalDateTime.class));
+            assertEquals("\"0987-12-31\"", jsonOperator.toJsonString(LocalDate.of(987, 12, 31)));
+            assertEquals(LocalDate.of(2021, 2, 28), jsonOperator.fromJsonString("\"2021-02-30\"", LocalDate.class));
+            assertEquals("\"23:59:01\"", jsonOperator.toJsonString(LocalTime.of(23, 59, 1, 999)));
+            assertEquals(LocalTime.of(23, 59, 1), jsonOperator.fromJsonString("\"23:59:01\"", LocalTime.class));
+            assertThrows(RuntimeException.class, () -> jsonOperator.fromJsonString("\"2021-01-05T03:04:05\"", LocalDateTime.class));
+        }
+    }
+
+    @Test
+    void testAsync() throws Exception {
+        AsyncJsonOperator<ObjectMapper> asyncJsonOperator = new AsyncJsonOperator<>(JACKSON_OPERATOR);
+        String json = asyncJsonOperator.toJsonString(PERSONS).get();
+        assertEquals(PERSONS, asyncJsonOperator.fromJsonString(json, TYPE_TOKEN).get());
+        StringWriter writer = new StringWriter();
+        asyncJsonOperator.toJson(PERSONS, writer).get();
+        assertEquals(json, writer.toString());
+        assertEquals(PERSONS, asyncJsonOperator.fromJson(new StringReader(json), TYPE_TOKEN).get());
+
+        CountDownLatch latch = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            AsyncJsonOperator<ObjectMapper> bounded = new AsyncJsonOperator<>(JACKSON_OPERATOR, executor, 1);
+            executor.execute(() -> {
+                try {
+                    latch.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            CompletableFuture<String> first = bounded.toJsonString(PERSONS);
+            ExecutionException e = assertThrows(ExecutionException.class, () -> bounded.toJsonString(PERSONS).get());
+            assertTrue(e.getCause() instanceof RejectedExecutionException);
+            latch.countDown();
+            assertEquals(json, first.get());
+            assertEquals(0, bounded.inFlight());
+            e = assertThrows(ExecutionException.class, () -> bounded.fromJsonString("{", Person.class).get());
+            assertTrue(e.getCause() instanceof JsonException);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void testMetered() {
+        HistogramJsonMetricsRecorder recorder = new HistogramJsonMetricsRecorder();
+        MeteredJsonOperator<ObjectMapper> jsonOperator = new MeteredJsonOperator<>(JACKSON_OPERATOR, recorder);
+        String json = jsonOperator.toJsonString(PERSONS.get(0));
+        for (int i = 0; i < 100; i++) {
+            assertEquals(PERSONS.get(0), jsonOperator.fromJsonString(json, Person.class));
+        }
+        assertThrows(JsonException.class, () -> jsonOperator.fromJsonString("{", Person.class));
+
+        HistogramJsonMetricsRecorder.Snapshot serialize = recorder.snapshot(JsonMetricsRecorder.Operation.SERIALIZE, Person.class);
+        assertEquals(1, serialize.getCount());
+        assertEquals(json.length(), serialize.getBytes());
+        HistogramJsonMetricsRecorder.Snapshot deserialize = recorder.snapshot(JsonMetricsRecorder.Operation.DESERIALIZE).get(Person.class);
+        assertEquals(101, deserialize.getCount());
+        assertEquals(1, deserialize.getErrors());
+        assertTrue(deserialize.getP50() > 0 && deserialize.getP50() <= deserialize.getP99() && deserialize.getP99() <= deserialize.getP999());
+        assertTrue(deserialize.getSizeP50() >= json.length() && deserialize.getSizeP50() <= json.length() * 1.125);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        jsonOperator.writeJsonLines(PERSONS.stream(), out);
+        assertEquals(1, recorder.snapshot(JsonMetricsRecorder.Operation.SERIALIZE, Stream.class).getCount());
+        try (Stream<Person> persons = jsonOperator.readJsonLines(new ByteArrayInputStream(out.toByteArray()), Person.class)) {
+            assertEquals(PERSONS, persons.collect(Collectors.toList()));
+        }
+        assertEquals(101 + PERSONS.size(), recorder.snapshot(JsonMetricsRecorder.Operation.DESERIALIZE, Person.class).getCount());
+        assertEquals(out.size(), recorder.snapshot(JsonMetricsRecorder.Operation.SERIALIZE, Stream.class).getBytes());
+
+        // 读写流时记录实际读写的大小
+        HistogramJsonMetricsRecorder streamRecorder = new HistogramJsonMetricsRecorder();
+        MeteredJsonOperator<ObjectMapper> streamOperator = new MeteredJsonOperator<>(JACKSON_OPERATOR, streamRecorder);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        streamOperator.toJson(PERSONS, bytes);
+        StringWriter writer = new StringWriter();
+        streamOperator.toJson(PERSONS, writer);
+        assertEquals(bytes.size() + writer.toString().length(), streamRecorder.snapshot(JsonMetricsRecorder.Operation.SERIALIZE, PERSONS.getClass()).getBytes());
+        assertEquals(PERSONS, streamOperator.fromJson(new ByteArrayInputStream(bytes.toByteArray()), TYPE_TOKEN));
+        assertEquals(PERSONS, streamOperator.fromJson(new StringReader(writer.toString()), TYPE_TOKEN));
+        assertEquals(bytes.size() + writer.toString().length(), streamRecorder.snapshot(JsonMetricsRecorder.Operation.DESERIALIZE, TYPE_TOKEN.getType()).getBytes());
+        assertThrows(IllegalArgumentException.class, () -> new MeteredJsonOperator<>(null, streamRecorder));
+    }
+
+    @Test
+    void testSmile() {
+        testBinary(BinaryJsonOperators.smile());
+    }
+
+    @Test
+    void testCbor() {
+        testBinary(BinaryJsonOperators.cbor());
+    }
+
+    @Test
+    void testExtract() {
+        String json = "{\"skip\":{\"deep\":[1,{\"x\":\"]}\"}]},\"a/b\":{\"m~n\":7},\"persons\":" + JACKSON_OPERATOR.toJsonString(PERSONS) + ",\"tail\":[1,2,3]}";
+        for (JsonOperator<?> jsonOperator : List.of(JACKSON_OPERATOR, GSON_OPERATOR)) {
+            assertEquals(PERSONS.get(1), jsonOperator.extract(json, "/persons/1", Person.class));
+            assertEquals("李四", jsonOperator.extract(json.getBytes(StandardCharsets.UTF_8), "/persons/1/name", String.class));
+            assertEquals(7, jsonOperator.<Integer>extract(json, "/a~1b/m~0n", Integer.class));
+            assertEquals(PERSONS, jsonOperator.extract(json, "/persons", TYPE_TOKEN));
+            assertNull(jsonOperator.extract(json, "/persons/2", Person.class));
+            assertNull(jsonOperator.extract(json, "/missing/0", Person.class));
+
+            Map<String, Type> pointers = new LinkedHashMap<>();
+            pointers.put("/persons/0/age", Integer.class);
+            pointers.put("/persons/0", Person.class);
+            pointers.put("/tail/2", Integer.class);
+            pointers.put("/nothing", String.class);
+            Map<String, Object> values = jsonOperator.extract(json, pointers);
+            assertEquals(List.of("/persons/0/age", "/persons/0", "/tail/2"), List.copyOf(values.keySet()));
+            assertEquals(18, values.get("/persons/0/age"));
+            assertEquals(PERSONS.get(0), values.get("/persons/0"));
+            assertEquals(3, values.get("/tail/2"));
+
+            // 读取到指针指向的值之后不会再解析剩余的内容
+            assertEquals("v", jsonOperator.extract("{\"k\":\"v\",\"broken\":", "/k", String.class));
+            assertThrows(IllegalArgumentException.class, () -> jsonOperator.extract(json, "persons", Person.class));
+        }
+    }
+
+    @Test
+    void testLazyJson() throws Exception {
+        String json = JACKSON_OPERATOR.toJsonString(PERSONS);
+        LazyJson<List<Person>> lazyJson = LazyJson.of(json, JACKSON_OPERATOR, TYPE_TOKEN.getType());
+        assertFalse(lazyJson.isBound());
+        assertEquals(json, lazyJson.raw());
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<List<Person>>> futures = executor.invokeAll(Collections.nCopies(8, lazyJson::get));
+            for (Future<List<Person>> future : futures) {
+                assertSame(futures.get(0).get(), future.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertTrue(lazyJson.isBound());
+        assertNull(lazyJson.raw());
+        assertEquals(PERSONS, lazyJson.get());
+        assertTrue(LazyJson.of(PERSONS).isBound());
+
+        byte[] bytes = BinaryJsonOperators.smile().toJsonBytes(PERSONS);
+        LazyJson<List<Person>> binary = LazyJson.of(bytes, BinaryJsonOperators.smile(), TYPE_TOKEN.getType());
+        assertNull(binary.raw());
+        assertSame(bytes, binary.rawBytes());
+        assertEquals(PERSONS, binary.get());
+        assertNull(binary.rawBytes());
+    }
+
+    private void testMappedArray(JsonOperator<?> jsonOperator) throws IOException {
+        List<Person> persons = IntStream.range(0, 1000).mapToObj(i -> new Person("张三,[\\\"" + i + "\\\"]{", i, "1234567890" + i, LocalDateTime.of(2021, 1, 15, 12, 0, 0))).collect(Collectors.toList());
+        Path path = Files.createTempFile("persons", ".json");
+        try {
+            Files.write(path, jsonOperator.toJsonBytes(persons));
+            MappedJsonArrayReader reader = new MappedJsonArrayReader(jsonOperator);
+            try (Stream<Person> stream = reader.read(path, Person.class)) {
+                assertTrue(stream.isParallel());
+                assertEquals(persons, stream.collect(Collectors.toList()));
+            }
+            Files.writeString(path, " [ ] ");
+            assertEquals(0, reader.read(path, Person.class).count());
+            Files.writeString(path, "[1,,2]");
+            assertThrows(JsonException.class, () -> reader.read(path, Integer.class));
+            Files.writeString(path, "{\"a\":1}");
+            assertThrows(JsonException.class, () -> reader.read(path, Integer.class));
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+    private void testBinary(JacksonOperator jsonOperator) {
+        byte[] bytes = jsonOperator.toJsonBytes(PERSONS);
+        assertTrue(bytes.length < JACKSON_OPERATOR.toJsonBytes(PERSONS).length);
+        assertEquals(PERSONS, jsonOperator.fromJson(bytes, TYPE_TOKEN));
+        assertEquals(PERSONS, jsonOperator.codec(TYPE_TOKEN).decode(jsonOperator.codec(TYPE_TOKEN).encodeToBytes(PERSONS)));
+        assertEquals(PERSONS, jsonOperator.copyProperties(PERSONS, TYPE_TOKEN));
+        assertTrue(jsonOperator.compare(bytes, jsonOperator.toJsonBytes(PERSONS)));
+        assertFalse(jsonOperator.compare(bytes, jsonOperator.toJsonBytes(PERSONS.subList(0, 1))));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        jsonOperator.writeJsonLines(PERSONS.stream(), out);
+        try (Stream<Person> persons = jsonOperator.readJsonLines(new ByteArrayInputStream(out.toByteArray()), Person.class)) {
+            assertEquals(PERSONS, persons.collect(Collectors.toList()));
+        }
+
+        assertThrows(JsonException.class, () -> jsonOperator.toJsonString(PERSONS));
+        assertThrows(JsonException.class, () -> jsonOperator.toJson(PERSONS, new StringWriter()));
+        assertThrows(JsonException.class, () -> jsonOperator.fromJsonString("[]", TYPE_TOKEN));
+        assertThrows(JsonException.class, () -> jsonOperator.fromJson(new StringReader("[]"), TYPE_TOKEN));
+        assertThrows(JsonException.class, () -> jsonOperator.compare("[]", "[]"));
+        assertThrows(JsonException.class, () -> jsonOperator.codec(TYPE_TOKEN).encode(PERSONS));
+        assertThrows(JsonException.class, () -> jsonOperator.codec(TYPE_TOKEN).decode("[]"));
+    }
 }
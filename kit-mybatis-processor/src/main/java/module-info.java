@@ -0,0 +1,8 @@
+/**
+ * @author zyc
+ */
+module kit.mybatis.processor {
+    exports red.zyc.toolkit.mybatis.processor;
+    requires java.compiler;
+    provides javax.annotation.processing.Processor with red.zyc.toolkit.mybatis.processor.JsonTypeHandlerProcessor;
+}
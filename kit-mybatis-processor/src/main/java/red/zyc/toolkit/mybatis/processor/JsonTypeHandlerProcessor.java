@@ -0,0 +1,237 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package red.zyc.toolkit.mybatis.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 根据{@code RegisterJsonTypeHandler}在编译时生成{@code JsonTypeHandlerRegistration}，
+ * 并写入{@code META-INF/services}，启动时不需要扫描类路径或者逐个手动注册类型处理器。
+ * 生成的类位于第一个被标记类型所在的包中，以该类型的名称加上{@value #CLASS_NAME_SUFFIX}命名，
+ * 所以不同模块、不同编译单元生成的类不会冲突。
+ * <p>
+ * 该处理器是一个单独的构件，只需要在编译时通过{@code annotationProcessorPaths}或者{@code provided}作用域引入，
+ * 不会出现在运行时的依赖中，也不会被依赖kit-mybatis的其它模块的javac自动发现。
+ *
+ * @author zyc
+ */
+@SupportedAnnotationTypes(JsonTypeHandlerProcessor.ANNOTATION)
+public class JsonTypeHandlerProcessor extends AbstractProcessor {
+
+    static final String ANNOTATION = "red.zyc.toolkit.mybatis.handler.RegisterJsonTypeHandler";
+
+    private static final String REGISTRATION = "red.zyc.toolkit.mybatis.handler.JsonTypeHandlerRegistration";
+
+    private static final String JSON_TYPE_HANDLERS = "red.zyc.toolkit.mybatis.handler.JsonTypeHandlers";
+
+    private static final String DEFAULT_HANDLER = "red.zyc.toolkit.mybatis.handler.SimpleJsonTypeHandler";
+
+    private static final String SERVICE = "META-INF/services/" + REGISTRATION;
+
+    private static final String CLASS_NAME_SUFFIX = "JsonTypeHandlerRegistration";
+
+    /**
+     * 已生成的{@code JsonTypeHandlerRegistration}的全限定类名
+     */
+    private final Set<String> registrations = new LinkedHashSet<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (roundEnv.processingOver()) {
+            if (!registrations.isEmpty()) {
+                writeServices();
+            }
+            return false;
+        }
+        TypeElement annotation = processingEnv.getElementUtils().getTypeElement(ANNOTATION);
+        if (annotation == null) {
+            return false;
+        }
+        List<TypeElement> types = new ArrayList<>();
+        List<TypeElement> handlers = new ArrayList<>();
+        for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+            TypeElement type = (TypeElement) element;
+            TypeElement handler = handler(type, annotation);
+            if (accessible(type) && valid(type, handler)) {
+                types.add(type);
+                handlers.add(handler);
+            }
+        }
+        if (!types.isEmpty()) {
+            generate(types, handlers);
+        }
+        return true;
+    }
+
+    /**
+     * 获取{@code RegisterJsonTypeHandler#value()}，编译时不能直接读取注解中的{@link Class}
+     *
+     * @param type       被标记的类型
+     * @param annotation {@code RegisterJsonTypeHandler}
+     * @return 类型处理器
+     */
+    private TypeElement handler(TypeElement type, TypeElement annotation) {
+        for (AnnotationMirror mirror : type.getAnnotationMirrors()) {
+            if (mirror.getAnnotationType().asElement().equals(annotation)) {
+                for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : processingEnv.getElementUtils().getElementValuesWithDefaults(mirror).entrySet()) {
+                    if (entry.getKey().getSimpleName().contentEquals("value")) {
+                        return (TypeElement) ((DeclaredType) entry.getValue().getValue()).asElement();
+                    }
+                }
+            }
+        }
+        return processingEnv.getElementUtils().getTypeElement(DEFAULT_HANDLER);
+    }
+
+    private boolean accessible(TypeElement type) {
+        for (Element element = type; element instanceof TypeElement; element = element.getEnclosingElement()) {
+            if (!element.getModifiers().contains(Modifier.PUBLIC)) {
+                error(type, "被@RegisterJsonTypeHandler标记的类型" + type.getQualifiedName() + "以及它的外部类型必须是public的");
+                return false;
+            }
+        }
+        if (type.getKind() == ElementKind.ANNOTATION_TYPE) {
+            error(type, "@RegisterJsonTypeHandler不能标记注解类型" + type.getQualifiedName());
+            return false;
+        }
+        return true;
+    }
+
+    private boolean valid(TypeElement type, TypeElement handler) {
+        if (!handler.getModifiers().contains(Modifier.PUBLIC) || handler.getModifiers().contains(Modifier.ABSTRACT)) {
+            error(type, "类型处理器" + handler.getQualifiedName() + "必须是public的非抽象类");
+            return false;
+        }
+        for (ExecutableElement constructor : ElementFilter.constructorsIn(handler.getEnclosedElements())) {
+            if (constructor.getModifiers().contains(Modifier.PUBLIC) && constructor.getParameters().size() == 1) {
+                TypeMirror parameter = processingEnv.getTypeUtils().erasure(constructor.getParameters().get(0).asType());
+                if (parameter.getKind() == TypeKind.DECLARED && ((TypeElement) ((DeclaredType) parameter).asElement()).getQualifiedName().contentEquals(Class.class.getName())) {
+                    return true;
+                }
+            }
+        }
+        error(type, "类型处理器" + handler.getQualifiedName() + "必须有一个参数为Class的public构造器");
+        return false;
+    }
+
+    /**
+     * 生成{@code JsonTypeHandlerRegistration}
+     *
+     * @param types    被标记的类型
+     * @param handlers 类型对应的类型处理器
+     */
+    private void generate(List<TypeElement> types, List<TypeElement> handlers) {
+        PackageElement packageElement = processingEnv.getElementUtils().getPackageOf(types.get(0));
+        String packageName = packageElement.isUnnamed() ? "" : packageElement.getQualifiedName().toString();
+        // 嵌套类型以外部类型的名称作为前缀，每一轮处理的第一个类型都不相同，所以生成的类名不会重复
+        String simpleName = types.get(0).getQualifiedName().toString().substring(packageName.isEmpty() ? 0 : packageName.length() + 1).replace('.', '_') + CLASS_NAME_SUFFIX;
+        String qualifiedName = packageName.isEmpty() ? simpleName : packageName + "." + simpleName;
+        Filer filer = processingEnv.getFiler();
+        try (PrintWriter out = new PrintWriter(filer.createSourceFile(qualifiedName, types.toArray(new Element[0])).openWriter())) {
+            if (!packageName.isEmpty()) {
+                out.println("package " + packageName + ";");
+                out.println();
+            }
+            out.println("/**");
+            out.println(" * 由" + JsonTypeHandlerProcessor.class.getName() + "生成，请勿修改");
+            out.println(" */");
+            out.println("public final class " + simpleName + " implements " + REGISTRATION + " {");
+            out.println();
+            out.println("    @Override");
+            out.println("    @SuppressWarnings({\"rawtypes\", \"unchecked\"})");
+            out.println("    public void register(org.apache.ibatis.type.TypeHandlerRegistry registry) {");
+            for (int i = 0; i < types.size(); i++) {
+                String type = types.get(i).getQualifiedName() + ".class";
+                TypeElement handler = handlers.get(i);
+                String diamond = handler.getTypeParameters().isEmpty() ? "" : "<>";
+                out.println("        " + JSON_TYPE_HANDLERS + ".register(registry, " + type + ", new " + handler.getQualifiedName() + diamond + "(" + type + "));");
+            }
+            out.println("    }");
+            out.println("}");
+        } catch (IOException e) {
+            error(types.get(0), "无法生成" + qualifiedName + "：" + e.getMessage());
+            return;
+        }
+        registrations.add(qualifiedName);
+    }
+
+    /**
+     * 写入{@code META-INF/services}，保留增量编译时已经存在的条目，
+     * 但是被标记的类型被重命名或者删除之后已经不存在的类会被去掉，否则{@link java.util.ServiceLoader}会加载失败
+     */
+    private void writeServices() {
+        Filer filer = processingEnv.getFiler();
+        Set<String> services = new LinkedHashSet<>();
+        try {
+            FileObject existing = filer.getResource(StandardLocation.CLASS_OUTPUT, "", SERVICE);
+            try (BufferedReader reader = new BufferedReader(existing.openReader(true))) {
+                reader.lines().map(String::trim)
+                        .filter(line -> !line.isEmpty() && !line.startsWith("#"))
+                        .filter(line -> processingEnv.getElementUtils().getTypeElement(line) != null)
+                        .forEach(services::add);
+            }
+        } catch (IOException ignored) {
+            // 之前没有生成过
+        }
+        services.addAll(registrations);
+        try (Writer writer = filer.createResource(StandardLocation.CLASS_OUTPUT, "", SERVICE).openWriter()) {
+            for (String service : services) {
+                writer.write(service);
+                writer.write(System.lineSeparator());
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "无法写入" + SERVICE + "：" + e.getMessage());
+        }
+    }
+
+    private void error(Element element, String message) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+    }
+}
@@ -0,0 +1,9 @@
+/**
+ * @author zyc
+ */
+module kit.mybatis.processor.test {
+    opens red.zyc.toolkit.mybatis.processor.test;
+    requires kit.mybatis.processor;
+    requires java.compiler;
+    requires org.junit.jupiter.api;
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package red.zyc.toolkit.mybatis.processor.test;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import red.zyc.toolkit.mybatis.processor.JsonTypeHandlerProcessor;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.StandardLocation;
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author zyc
+ */
+class JsonTypeHandlerProcessorTest {
+
+    @TempDir
+    Path output;
+
+    @Test
+    void testGenerate() throws IOException {
+        DiagnosticCollector<JavaFileObject> diagnostics = compile(
+                source("com.example.Address", "package com.example;\n"
+                        + "@red.zyc.toolkit.mybatis.handler.RegisterJsonTypeHandler\n"
+                        + "public class Address {\n"
+                        + "    @red.zyc.toolkit.mybatis.handler.RegisterJsonTypeHandler(red.zyc.toolkit.mybatis.handler.ClobJsonTypeHandler.class)\n"
+                        + "    public static class Line {}\n"
+                        + "}\n"));
+        assertTrue(errors(diagnostics).isEmpty(), errors(diagnostics).toString());
+
+        Path generated = output.resolve("com/example/AddressJsonTypeHandlerRegistration.java");
+        assertTrue(Files.exists(generated));
+        String content = Files.readString(generated);
+        assertTrue(content.contains("new red.zyc.toolkit.mybatis.handler.SimpleJsonTypeHandler<>(com.example.Address.class)"), content);
+        assertTrue(content.contains("new red.zyc.toolkit.mybatis.handler.ClobJsonTypeHandler<>(com.example.Address.Line.class)"), content);
+        assertTrue(Files.exists(output.resolve("com/example/AddressJsonTypeHandlerRegistration.class")));
+        assertEquals(List.of("com.example.AddressJsonTypeHandlerRegistration"),
+                Files.readAllLines(output.resolve("META-INF/services/red.zyc.toolkit.mybatis.handler.JsonTypeHandlerRegistration")));
+    }
+
+    @Test
+    void testUniqueName() throws IOException {
+        // 同一个包中的类型分别编译时生成的类不会相互覆盖
+        assertTrue(errors(compile(source("com.example.Address", "package com.example;\n"
+                + "@red.zyc.toolkit.mybatis.handler.RegisterJsonTypeHandler public class Address {}\n"))).isEmpty());
+        assertTrue(errors(compile(source("com.example.Profile", "package com.example;\n"
+                + "@red.zyc.toolkit.mybatis.handler.RegisterJsonTypeHandler public class Profile {}\n"))).isEmpty());
+        assertTrue(Files.exists(output.resolve("com/example/AddressJsonTypeHandlerRegistration.class")));
+        assertTrue(Files.exists(output.resolve("com/example/ProfileJsonTypeHandlerRegistration.class")));
+        // 增量编译时保留已经存在的条目
+        assertEquals(List.of("com.example.AddressJsonTypeHandlerRegistration", "com.example.ProfileJsonTypeHandlerRegistration"),
+                Files.readAllLines(output.resolve("META-INF/services/red.zyc.toolkit.mybatis.handler.JsonTypeHandlerRegistration")));
+    }
+
+    @Test
+    void testPruneRemoved() throws IOException {
+        assertTrue(errors(compile(source("com.example.Address", "package com.example;\n"
+                + "@red.zyc.toolkit.mybatis.handler.RegisterJsonTypeHandler public class Address {}\n"))).isEmpty());
+        assertTrue(errors(compile(source("com.example.Profile", "package com.example;\n"
+                + "@red.zyc.toolkit.mybatis.handler.RegisterJsonTypeHandler public class Profile {}\n"))).isEmpty());
+        // Profile被删除之后生成的类也随之被清理，增量编译时不应该保留它的条目
+        Files.delete(output.resolve("com/example/Profile.class"));
+        Files.delete(output.resolve("com/example/ProfileJsonTypeHandlerRegistration.java"));
+        Files.delete(output.resolve("com/example/ProfileJsonTypeHandlerRegistration.class"));
+        assertTrue(errors(compile(source("com.example.Order", "package com.example;\n"
+                + "@red.zyc.toolkit.mybatis.handler.RegisterJsonTypeHandler public class Order {}\n"))).isEmpty());
+        assertEquals(List.of("com.example.AddressJsonTypeHandlerRegistration", "com.example.OrderJsonTypeHandlerRegistration"),
+                Files.readAllLines(output.resolve("META-INF/services/red.zyc.toolkit.mybatis.handler.JsonTypeHandlerRegistration")));
+    }
+
+    @Test
+    void testInvalid() throws IOException {
+        List<Diagnostic<? extends JavaFileObject>> errors = errors(compile(source("com.example.Address", "package com.example;\n"
+                + "public class Address {\n"
+                + "    @red.zyc.toolkit.mybatis.handler.RegisterJsonTypeHandler\n"
+                + "    static class Line {}\n"
+                + "}\n")));
+        assertEquals(1, errors.size());
+        assertTrue(errors.get(0).getMessage(null).contains("必须是public的"), errors.get(0).getMessage(null));
+        assertFalse(Files.exists(output.resolve("com/example/AddressJsonTypeHandlerRegistration.java")));
+    }
+
+    private DiagnosticCollector<JavaFileObject> compile(JavaFileObject source) throws IOException {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnostics, null, StandardCharsets.UTF_8)) {
+            fileManager.setLocationFromPaths(StandardLocation.CLASS_OUTPUT, List.of(output));
+            fileManager.setLocationFromPaths(StandardLocation.SOURCE_OUTPUT, List.of(output));
+            List<String> options = List.of("-classpath", classpath() + File.pathSeparator + output);
+            JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, diagnostics, options, null, List.of(source));
+            task.setProcessors(List.of(new JsonTypeHandlerProcessor()));
+            task.call();
+        }
+        return diagnostics;
+    }
+
+    /**
+     * 编译生成的类需要kit-mybatis以及它的依赖，以模块方式运行测试时它们位于模块路径中
+     */
+    private static String classpath() {
+        return Stream.of(System.getProperty("jdk.module.path"), System.getProperty("java.class.path"))
+                .filter(Objects::nonNull)
+                .collect(Collectors.joining(File.pathSeparator));
+    }
+
+    private static List<Diagnostic<? extends JavaFileObject>> errors(DiagnosticCollector<JavaFileObject> diagnostics) {
+        List<Diagnostic<? extends JavaFileObject>> errors = new ArrayList<>();
+        for (Diagnostic<? extends JavaFileObject> diagnostic : diagnostics.getDiagnostics()) {
+            if (diagnostic.getKind() == Diagnostic.Kind.ERROR) {
+                errors.add(diagnostic);
+            }
+        }
+        return errors;
+    }
+
+    private static JavaFileObject source(String className, String code) {
+        return new SimpleJavaFileObject(URI.create("string:///" + className.replace('.', '/') + JavaFileObject.Kind.SOURCE.extension), JavaFileObject.Kind.SOURCE) {
+            @Override
+            public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+                return code;
+            }
+        };
+    }
+}
@@ -3,8 +3,12 @@
  */
 module kit.mybatis {
     exports red.zyc.toolkit.mybatis.handler;
+    exports red.zyc.toolkit.mybatis.result;
+    requires kit.core;
     requires kit.json;
     requires org.mybatis;
     requires java.sql;
+    requires jdk.jfr;
     requires com.fasterxml.jackson.databind;
+    uses red.zyc.toolkit.mybatis.handler.JsonTypeHandlerRegistration;
 }
\ No newline at end of file
@@ -25,10 +25,11 @@ import java.sql.CallableStatement;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.util.Optional;
 
 /**
  * json类型处理器基类，提供了一些基本方法序列化反序列对象。
+ * 列的读写方式由{@link ColumnAccess}决定，默认为{@link ColumnAccess#STRING}。
+ * 对于不可变的类型可以指定一个{@link JsonValueCache}，内容相同的列只会反序列化一次。
  *
  * @param <T> mapper方法返回实体的类型
  * @param <J> json操作的主体类型
@@ -46,29 +47,106 @@ public abstract class AbstractJsonTypeHandler<T, J> extends BaseTypeHandler<T> {
      */
     private final Type type;
 
+    /**
+     * 列的读写方式
+     */
+    private final ColumnAccess columnAccess;
+
+    /**
+     * 反序列化结果的缓存，为null时不缓存
+     */
+    private final JsonValueCache<T> cache;
+
     public AbstractJsonTypeHandler(JsonOperator<J> jsonOperator, Type type) {
+        this(jsonOperator, type, ColumnAccess.STRING);
+    }
+
+    public AbstractJsonTypeHandler(JsonOperator<J> jsonOperator, Type type, ColumnAccess columnAccess) {
+        this(jsonOperator, type, columnAccess, null);
+    }
+
+    /**
+     * @param jsonOperator json操作器
+     * @param type         返回实体的类型
+     * @param columnAccess 列的读写方式，使用缓存时只能是{@link ColumnAccess#STRING}或者{@link ColumnAccess#BYTES}
+     * @param cache        反序列化结果的缓存，只能用于不可变的类型，为null时不缓存
+     */
+    public AbstractJsonTypeHandler(JsonOperator<J> jsonOperator, Type type, ColumnAccess columnAccess, JsonValueCache<T> cache) {
+        if (cache != null && columnAccess != ColumnAccess.STRING && columnAccess != ColumnAccess.BYTES) {
+            throw new IllegalArgumentException("列的读写方式" + columnAccess + "不支持缓存");
+        }
         this.jsonOperator = jsonOperator;
         this.type = type;
+        this.columnAccess = columnAccess;
+        this.cache = cache;
+    }
+
+    /**
+     * 预先解析返回实体的类型对应的序列化器和反序列化器，避免第一次查询时才解析
+     */
+    public void warmUp() {
+        jsonOperator.codec(type);
     }
 
     @Override
     public void setNonNullParameter(PreparedStatement ps, int i, T parameter, JdbcType jdbcType) throws SQLException {
-        ps.setString(i, jsonOperator.toJsonString(parameter));
+        JsonTypeHandlerEvent event = new JsonTypeHandlerEvent();
+        event.begin();
+        Object payload = null;
+        try {
+            payload = columnAccess.serialize(jsonOperator, parameter);
+        } finally {
+            event.complete(JsonTypeHandlerEvent.SERIALIZE, type, null, i, payload == null ? -1 : columnAccess.length(payload), columnAccess.textual(), payload != null);
+        }
+        columnAccess.set(ps, i, payload);
     }
 
     @Override
     public T getNullableResult(ResultSet rs, String columnName) throws SQLException {
-        return Optional.ofNullable(rs.getString(columnName)).map(s -> jsonOperator.<T>fromJsonString(s, type)).orElse(null);
+        return deserialize(columnAccess.get(rs, columnName), columnName, -1);
     }
 
     @Override
     public T getNullableResult(ResultSet rs, int columnIndex) throws SQLException {
-        return Optional.ofNullable(rs.getString(columnIndex)).map(s -> jsonOperator.<T>fromJsonString(s, type)).orElse(null);
+        return deserialize(columnAccess.get(rs, columnIndex), null, columnIndex);
     }
 
     @Override
     public T getNullableResult(CallableStatement cs, int columnIndex) throws SQLException {
-        return Optional.ofNullable(cs.getString(columnIndex)).map(s -> jsonOperator.<T>fromJsonString(s, type)).orElse(null);
+        return deserialize(columnAccess.get(cs, columnIndex), null, columnIndex);
+    }
+
+    /**
+     * 反序列化从列中读取到的内容，只有反序列化本身会被计入{@link JsonTypeHandlerEvent}的持续时间，命中缓存时不会产生事件。
+     *
+     * @param source      从列中读取到的内容
+     * @param columnName  列名，没有列名时为null
+     * @param columnIndex 列的索引
+     * @return 对象
+     * @throws SQLException 关闭从列中读取到的流时发生的异常
+     */
+    private T deserialize(Object source, String columnName, int columnIndex) throws SQLException {
+        if (source == null) {
+            return null;
+        }
+        Object key = null;
+        if (cache != null) {
+            key = columnAccess.cacheKey(source);
+            T cached = cache.get(key);
+            if (cached != null) {
+                return cached;
+            }
+        }
+        JsonTypeHandlerEvent event = new JsonTypeHandlerEvent();
+        event.begin();
+        boolean succeeded = false;
+        try {
+            T value = columnAccess.deserialize(jsonOperator, source, type);
+            succeeded = true;
+            return key == null || value == null ? value : cache.put(key, value);
+        } finally {
+            event.complete(JsonTypeHandlerEvent.DESERIALIZE, type, columnName, columnIndex, columnAccess.length(source), columnAccess.textual(), succeeded);
+        }
     }
 
 }
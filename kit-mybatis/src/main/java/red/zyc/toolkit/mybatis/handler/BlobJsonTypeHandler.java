@@ -0,0 +1,33 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package red.zyc.toolkit.mybatis.handler;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * 通过简单配置的{@link ObjectMapper}以字节流的方式读写BLOB、bytea等二进制类型中UTF-8编码的大json列，读取时不会先把整列读取成字符串。
+ *
+ * @param <T> mapper方法返回实体的类型
+ * @author zyc
+ * @see ColumnAccess#BINARY_STREAM
+ */
+public class BlobJsonTypeHandler<T> extends AbstractJsonTypeHandler<T, ObjectMapper> {
+
+    public BlobJsonTypeHandler(Class<T> clazz) {
+        super(SimpleJsonTypeHandler.JACKSON_OPERATOR, clazz, ColumnAccess.BINARY_STREAM);
+    }
+}
@@ -0,0 +1,34 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package red.zyc.toolkit.mybatis.handler;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * 通过简单配置的{@link ObjectMapper}序列化反序列对象，内容相同的列共享同一个反序列化后的对象。
+ * 适用于配置、特性开关、模板等在大量行中重复出现的json列，只能用于不可变的类型。
+ *
+ * @param <T> mapper方法返回实体的类型
+ * @author zyc
+ * @see JsonValueCache
+ */
+public class CachedJsonTypeHandler<T> extends AbstractJsonTypeHandler<T, ObjectMapper> {
+
+    public CachedJsonTypeHandler(Class<T> clazz) {
+        super(SimpleJsonTypeHandler.JACKSON_OPERATOR, clazz, ColumnAccess.STRING, new JsonValueCache<>());
+    }
+}
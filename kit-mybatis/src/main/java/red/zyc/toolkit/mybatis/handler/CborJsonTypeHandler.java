@@ -0,0 +1,33 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package red.zyc.toolkit.mybatis.handler;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import red.zyc.toolkit.json.BinaryJsonOperators;
+
+/**
+ * 通过{@link BinaryJsonOperators#cbor()}将对象以CBOR二进制格式保存在BLOB、bytea等二进制类型的列中，需要引入jackson-dataformat-cbor依赖。
+ *
+ * @param <T> mapper方法返回实体的类型
+ * @author zyc
+ */
+public class CborJsonTypeHandler<T> extends AbstractJsonTypeHandler<T, ObjectMapper> {
+
+    public CborJsonTypeHandler(Class<T> clazz) {
+        super(BinaryJsonOperators.cbor(), clazz, ColumnAccess.BYTES);
+    }
+}
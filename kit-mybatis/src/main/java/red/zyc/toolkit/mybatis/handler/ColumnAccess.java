@@ -0,0 +1,406 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package red.zyc.toolkit.mybatis.handler;
+
+import red.zyc.toolkit.json.JsonOperator;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.CharArrayReader;
+import java.io.CharArrayWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.lang.reflect.Type;
+import java.sql.Blob;
+import java.sql.CallableStatement;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * json类型处理器读写列的方式
+ * <p>
+ * 读取时{@link #CHARACTER_STREAM}和{@link #BINARY_STREAM}直接把jdbc驱动返回的流交给json解析器，不会先把整列读取成字符串。
+ * 由于jdbc以拉取的方式读取参数，写入时无法让json生成器直接写入数据库，所以流式的写入会先序列化到一个缓冲区中，
+ * 再把该缓冲区本身作为流交给jdbc驱动，相比{@link #STRING}少了一次字符串的复制。
+ *
+ * @author zyc
+ * @see AbstractJsonTypeHandler
+ */
+public enum ColumnAccess {
+
+    /**
+     * 通过{@link PreparedStatement#setString(int, String)}和{@link ResultSet#getString(int)}读写
+     */
+    STRING(true) {
+        @Override
+        Object serialize(JsonOperator<?> jsonOperator, Object value) {
+            return jsonOperator.toJsonString(value);
+        }
+
+        @Override
+        long length(Object payload) {
+            return ((String) payload).length();
+        }
+
+        @Override
+        void set(PreparedStatement ps, int i, Object payload) throws SQLException {
+            ps.setString(i, (String) payload);
+        }
+
+        @Override
+        Object get(ResultSet rs, String columnName) throws SQLException {
+            return rs.getString(columnName);
+        }
+
+        @Override
+        Object get(ResultSet rs, int columnIndex) throws SQLException {
+            return rs.getString(columnIndex);
+        }
+
+        @Override
+        Object get(CallableStatement cs, int columnIndex) throws SQLException {
+            return cs.getString(columnIndex);
+        }
+
+        @Override
+        <T> T deserialize(JsonOperator<?> jsonOperator, Object source, Type type) {
+            return jsonOperator.fromJsonString((String) source, type);
+        }
+
+        @Override
+        Object cacheKey(Object source) {
+            return ContentKey.of((String) source);
+        }
+    },
+
+    /**
+     * 通过{@link PreparedStatement#setCharacterStream(int, Reader, long)}和{@link ResultSet#getCharacterStream(int)}读写，
+     * 适用于CLOB、TEXT等文本类型的大json列
+     */
+    CHARACTER_STREAM(true) {
+        @Override
+        Object serialize(JsonOperator<?> jsonOperator, Object value) {
+            CharArrayBuffer buffer = new CharArrayBuffer();
+            jsonOperator.toJson(value, buffer);
+            return buffer;
+        }
+
+        @Override
+        long length(Object payload) {
+            return payload instanceof CharArrayBuffer ? ((CharArrayBuffer) payload).size() : -1;
+        }
+
+        @Override
+        void set(PreparedStatement ps, int i, Object payload) throws SQLException {
+            CharArrayBuffer buffer = (CharArrayBuffer) payload;
+            ps.setCharacterStream(i, buffer.reader(), buffer.size());
+        }
+
+        @Override
+        Object get(ResultSet rs, String columnName) throws SQLException {
+            return rs.getCharacterStream(columnName);
+        }
+
+        @Override
+        Object get(ResultSet rs, int columnIndex) throws SQLException {
+            return rs.getCharacterStream(columnIndex);
+        }
+
+        @Override
+        Object get(CallableStatement cs, int columnIndex) throws SQLException {
+            return cs.getCharacterStream(columnIndex);
+        }
+
+        @Override
+        <T> T deserialize(JsonOperator<?> jsonOperator, Object source, Type type) throws SQLException {
+            try (Reader reader = (Reader) source) {
+                return jsonOperator.fromJson(reader, type);
+            } catch (IOException e) {
+                throw new SQLException(e.getMessage(), e);
+            }
+        }
+
+        @Override
+        Object retain(Object source) throws SQLException {
+            StringWriter writer = new StringWriter();
+            try (Reader reader = (Reader) source) {
+                reader.transferTo(writer);
+            } catch (IOException e) {
+                throw new SQLException(e.getMessage(), e);
+            }
+            return writer.toString();
+        }
+
+        @Override
+        void setRaw(PreparedStatement ps, int i, Object raw) throws SQLException {
+            String json = (String) raw;
+            ps.setCharacterStream(i, new StringReader(json), json.length());
+        }
+    },
+
+    /**
+     * 通过{@link PreparedStatement#setBinaryStream(int, InputStream, long)}和{@link ResultSet#getBinaryStream(int)}读写UTF-8编码的json，
+     * 适用于BLOB、bytea等二进制类型的大json列
+     */
+    BINARY_STREAM(false) {
+        @Override
+        Object serialize(JsonOperator<?> jsonOperator, Object value) {
+            ByteArrayBuffer buffer = new ByteArrayBuffer();
+            jsonOperator.toJson(value, buffer);
+            return buffer;
+        }
+
+        @Override
+        long length(Object payload) {
+            return payload instanceof ByteArrayBuffer ? ((ByteArrayBuffer) payload).size() : -1;
+        }
+
+        @Override
+        void set(PreparedStatement ps, int i, Object payload) throws SQLException {
+            ByteArrayBuffer buffer = (ByteArrayBuffer) payload;
+            ps.setBinaryStream(i, buffer.inputStream(), buffer.size());
+        }
+
+        @Override
+        Object get(ResultSet rs, String columnName) throws SQLException {
+            return rs.getBinaryStream(columnName);
+        }
+
+        @Override
+        Object get(ResultSet rs, int columnIndex) throws SQLException {
+            return rs.getBinaryStream(columnIndex);
+        }
+
+        @Override
+        Object get(CallableStatement cs, int columnIndex) throws SQLException {
+            Blob blob = cs.getBlob(columnIndex);
+            return blob == null ? null : blob.getBinaryStream();
+        }
+
+        @Override
+        <T> T deserialize(JsonOperator<?> jsonOperator, Object source, Type type) throws SQLException {
+            try (InputStream in = (InputStream) source) {
+                return jsonOperator.fromJson(in, type);
+            } catch (IOException e) {
+                throw new SQLException(e.getMessage(), e);
+            }
+        }
+
+        @Override
+        Object retain(Object source) throws SQLException {
+            try (InputStream in = (InputStream) source) {
+                return in.readAllBytes();
+            } catch (IOException e) {
+                throw new SQLException(e.getMessage(), e);
+            }
+        }
+
+        @Override
+        void setRaw(PreparedStatement ps, int i, Object raw) throws SQLException {
+            byte[] json = (byte[]) raw;
+            ps.setBinaryStream(i, new ByteArrayInputStream(json), json.length);
+        }
+    },
+
+    /**
+     * 通过{@link PreparedStatement#setBytes(int, byte[])}和{@link ResultSet#getBytes(int)}读写，
+     * 适用于Smile、CBOR等二进制格式或者不大的二进制json列
+     */
+    BYTES(false) {
+        @Override
+        Object serialize(JsonOperator<?> jsonOperator, Object value) {
+            return jsonOperator.toJsonBytes(value);
+        }
+
+        @Override
+        long length(Object payload) {
+            return ((byte[]) payload).length;
+        }
+
+        @Override
+        void set(PreparedStatement ps, int i, Object payload) throws SQLException {
+            ps.setBytes(i, (byte[]) payload);
+        }
+
+        @Override
+        Object get(ResultSet rs, String columnName) throws SQLException {
+            return rs.getBytes(columnName);
+        }
+
+        @Override
+        Object get(ResultSet rs, int columnIndex) throws SQLException {
+            return rs.getBytes(columnIndex);
+        }
+
+        @Override
+        Object get(CallableStatement cs, int columnIndex) throws SQLException {
+            return cs.getBytes(columnIndex);
+        }
+
+        @Override
+        <T> T deserialize(JsonOperator<?> jsonOperator, Object source, Type type) {
+            return jsonOperator.fromJson((byte[]) source, type);
+        }
+
+        @Override
+        Object cacheKey(Object source) {
+            return ContentKey.of((byte[]) source);
+        }
+    };
+
+    /**
+     * 是否为文本列
+     */
+    private final boolean textual;
+
+    ColumnAccess(boolean textual) {
+        this.textual = textual;
+    }
+
+    /**
+     * @return 是否为文本列，文本列的长度按字符计，二进制列的长度按字节计
+     */
+    boolean textual() {
+        return textual;
+    }
+
+    /**
+     * 序列化对象
+     *
+     * @param jsonOperator json操作器
+     * @param value        对象
+     * @return 需要写入列的内容
+     */
+    abstract Object serialize(JsonOperator<?> jsonOperator, Object value);
+
+    /**
+     * 需要写入列的内容或者从列中读取到的内容的长度，文本列按字符计，二进制列按字节计
+     *
+     * @param payload 需要写入列的内容或者从列中读取到的内容
+     * @return 长度，无法得知时为-1
+     */
+    abstract long length(Object payload);
+
+    /**
+     * 写入列
+     *
+     * @param ps      {@link PreparedStatement}
+     * @param i       参数的索引
+     * @param payload 需要写入列的内容
+     * @throws SQLException 写入时发生的异常
+     */
+    abstract void set(PreparedStatement ps, int i, Object payload) throws SQLException;
+
+    /**
+     * 读取列
+     *
+     * @param rs         {@link ResultSet}
+     * @param columnName 列名
+     * @return 读取到的内容，SQL NULL时为null
+     * @throws SQLException 读取时发生的异常
+     */
+    abstract Object get(ResultSet rs, String columnName) throws SQLException;
+
+    /**
+     * 读取列
+     *
+     * @param rs          {@link ResultSet}
+     * @param columnIndex 列的索引
+     * @return 读取到的内容，SQL NULL时为null
+     * @throws SQLException 读取时发生的异常
+     */
+    abstract Object get(ResultSet rs, int columnIndex) throws SQLException;
+
+    /**
+     * 读取存储过程的输出参数
+     *
+     * @param cs          {@link CallableStatement}
+     * @param columnIndex 参数的索引
+     * @return 读取到的内容，SQL NULL时为null
+     * @throws SQLException 读取时发生的异常
+     */
+    abstract Object get(CallableStatement cs, int columnIndex) throws SQLException;
+
+    /**
+     * 反序列化从列中读取到的内容，读取到的内容为流时无论成功与否都会关闭该流
+     *
+     * @param jsonOperator json操作器
+     * @param source       从列中读取到的内容
+     * @param type         对象的{@link Type}
+     * @param <T>          对象的类型
+     * @return 对象
+     * @throws SQLException 关闭流时发生的异常
+     */
+    abstract <T> T deserialize(JsonOperator<?> jsonOperator, Object source, Type type) throws SQLException;
+
+    /**
+     * 从列中读取到的内容作为{@link JsonValueCache}的键，键只持有内容的摘要，哈希和比较不会再遍历内容
+     *
+     * @param source 从列中读取到的内容
+     * @return 按内容摘要比较的键，流式读取时无法作为键为null
+     */
+    Object cacheKey(Object source) {
+        return null;
+    }
+
+    /**
+     * 将从列中读取到的内容转换为在结果集移动到下一行之后仍然可以持有的原始json，流式读取的内容会被完整的读取出来
+     *
+     * @param source 从列中读取到的内容
+     * @return {@link #STRING}和{@link #CHARACTER_STREAM}为json字符串，{@link #BINARY_STREAM}和{@link #BYTES}为json字节数组
+     * @throws SQLException 读取流时发生的异常
+     */
+    Object retain(Object source) throws SQLException {
+        return source;
+    }
+
+    /**
+     * 将{@link #retain(Object)}返回的原始json写入列
+     *
+     * @param ps  {@link PreparedStatement}
+     * @param i   参数的索引
+     * @param raw 原始的json字符串或者字节数组
+     * @throws SQLException 写入时发生的异常
+     */
+    void setRaw(PreparedStatement ps, int i, Object raw) throws SQLException {
+        set(ps, i, raw);
+    }
+
+    /**
+     * 可以直接以自身内部数组作为{@link Reader}的{@link CharArrayWriter}，避免{@link CharArrayWriter#toCharArray()}的复制
+     */
+    private static class CharArrayBuffer extends CharArrayWriter {
+
+        private Reader reader() {
+            return new CharArrayReader(buf, 0, count);
+        }
+    }
+
+    /**
+     * 可以直接以自身内部数组作为{@link InputStream}的{@link ByteArrayOutputStream}，避免{@link ByteArrayOutputStream#toByteArray()}的复制
+     */
+    private static class ByteArrayBuffer extends ByteArrayOutputStream {
+
+        private InputStream inputStream() {
+            return new ByteArrayInputStream(buf, 0, count);
+        }
+    }
+}
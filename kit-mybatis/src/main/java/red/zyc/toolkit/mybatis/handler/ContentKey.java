@@ -0,0 +1,119 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package red.zyc.toolkit.mybatis.handler;
+
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * 以列内容的SHA-256摘要作为{@link JsonValueCache}的键，摘要在创建键时计算一次，之后的哈希和比较都只涉及摘要本身，
+ * 缓存也不会因此持有列的原始内容。SHA-256的碰撞在实际中不可能出现，所以不再比较原始内容。
+ *
+ * @author zyc
+ * @see ColumnAccess#cacheKey(Object)
+ */
+final class ContentKey {
+
+    /**
+     * 每个线程复用的摘要算法以及把字符转换为字节的缓冲区
+     */
+    private static final ThreadLocal<Digester> DIGESTER = ThreadLocal.withInitial(Digester::new);
+
+    private final long h0;
+
+    private final long h1;
+
+    private final long h2;
+
+    private final long h3;
+
+    private ContentKey(byte[] digest) {
+        ByteBuffer buffer = ByteBuffer.wrap(digest);
+        this.h0 = buffer.getLong();
+        this.h1 = buffer.getLong();
+        this.h2 = buffer.getLong();
+        this.h3 = buffer.getLong();
+    }
+
+    /**
+     * @param content 文本列的内容
+     * @return 按UTF-16编码计算摘要的键
+     */
+    static ContentKey of(String content) {
+        return new ContentKey(DIGESTER.get().digest(content));
+    }
+
+    /**
+     * @param content 二进制列的内容
+     * @return 键
+     */
+    static ContentKey of(byte[] content) {
+        return new ContentKey(DIGESTER.get().digest(content));
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof ContentKey)) {
+            return false;
+        }
+        ContentKey that = (ContentKey) o;
+        return h0 == that.h0 && h1 == that.h1 && h2 == that.h2 && h3 == that.h3;
+    }
+
+    @Override
+    public int hashCode() {
+        return (int) (h0 ^ (h0 >>> 32));
+    }
+
+    private static final class Digester {
+
+        private final MessageDigest messageDigest;
+
+        private final byte[] buffer = new byte[8192];
+
+        private Digester() {
+            try {
+                this.messageDigest = MessageDigest.getInstance("SHA-256");
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException("当前jdk不支持SHA-256", e);
+            }
+        }
+
+        private byte[] digest(String content) {
+            int length = content.length();
+            for (int start = 0; start < length; start += buffer.length / 2) {
+                int end = Math.min(length, start + buffer.length / 2);
+                int position = 0;
+                for (int i = start; i < end; i++) {
+                    char c = content.charAt(i);
+                    buffer[position++] = (byte) (c >>> 8);
+                    buffer[position++] = (byte) c;
+                }
+                messageDigest.update(buffer, 0, position);
+            }
+            return messageDigest.digest();
+        }
+
+        private byte[] digest(byte[] content) {
+            return messageDigest.digest(content);
+        }
+    }
+}
@@ -24,7 +24,9 @@ import red.zyc.toolkit.json.JsonOperator;
 /**
  * 通过配置的{@link ObjectMapper}将对象的类型信息保存在json字符串中以便反序列化时能够准确的还原原始对象。
  * 支持泛型对象的序列化和反序列化。
+ * 子类可以通过{@link #GenericJsonTypeHandler(Class, TypeIdRegistry)}指定{@link TypeIdRegistry}，以简短的类型id代替全限定类名。
  *
+ * @param <T> mapper方法返回实体的类型
  * @author zyc
  * @see GenericJsonTypeHandler#JACKSON_OPERATOR
  */
@@ -39,4 +41,12 @@ public class GenericJsonTypeHandler<T> extends AbstractJsonTypeHandler<T, Object
     public GenericJsonTypeHandler(Class<T> clazz) {
         super(JACKSON_OPERATOR, clazz);
     }
+
+    /**
+     * @param clazz    返回实体的类型
+     * @param registry 类型id注册表，同一个注册表的处理器共享同一个由注册表持有的json操作器
+     */
+    protected GenericJsonTypeHandler(Class<T> clazz, TypeIdRegistry registry) {
+        super(registry.genericJacksonOperator(), clazz);
+    }
 }
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package red.zyc.toolkit.mybatis.handler;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+import java.lang.reflect.Type;
+
+/**
+ * json类型处理器序列化或反序列化一个字段的JFR事件，事件的持续时间只包含序列化或反序列化本身，不包含读写数据库的时间。
+ * 默认关闭，需要在JFR配置中开启，例如：
+ * <pre>
+ *     java -XX:StartFlightRecording:red.zyc.toolkit.mybatis.JsonTypeHandler#enabled=true ...
+ * </pre>
+ *
+ * @author zyc
+ * @see AbstractJsonTypeHandler
+ */
+@Name(JsonTypeHandlerEvent.NAME)
+@Label("Json Type Handler")
+@Description("MyBatis json类型处理器序列化或反序列化一个字段")
+@Category({"Toolkit", "MyBatis"})
+@Enabled(false)
+@StackTrace(false)
+final class JsonTypeHandlerEvent extends Event {
+
+    static final String NAME = "red.zyc.toolkit.mybatis.JsonTypeHandler";
+
+    static final String SERIALIZE = "serialize";
+
+    static final String DESERIALIZE = "deserialize";
+
+    @Label("Operation")
+    @Description("serialize或者deserialize")
+    String operation;
+
+    @Label("Type")
+    @Description("字段映射的java类型")
+    String type;
+
+    @Label("Column")
+    @Description("列名，没有列名时为参数或列的索引")
+    String column;
+
+    static final String CHARS = "chars";
+
+    static final String BYTES = "bytes";
+
+    @Label("Payload Length")
+    @Description("json的长度，单位见Payload Unit，流式读取时无法得知长度为-1")
+    long payloadLength;
+
+    @Label("Payload Unit")
+    @Description("json长度的单位，文本列为chars，二进制列为bytes")
+    String payloadUnit;
+
+    @Label("Succeeded")
+    boolean succeeded;
+
+    /**
+     * 结束事件，并在事件开启时提交，事件的字段只在需要提交时才会计算。
+     *
+     * @param operation   序列化或反序列化
+     * @param type        字段映射的java类型
+     * @param columnName  列名，没有列名时为null
+     * @param columnIndex 参数或列的索引
+     * @param length      json的长度，序列化失败时为-1
+     * @param textual     是否为文本列，文本列的长度按字符计，二进制列的长度按字节计
+     * @param succeeded   操作是否成功
+     */
+    void complete(String operation, Type type, String columnName, int columnIndex, long length, boolean textual, boolean succeeded) {
+        end();
+        if (shouldCommit()) {
+            this.operation = operation;
+            this.type = type.getTypeName();
+            this.column = columnName != null ? columnName : String.valueOf(columnIndex);
+            this.payloadLength = length;
+            this.payloadUnit = textual ? CHARS : BYTES;
+            this.succeeded = succeeded;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,36 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package red.zyc.toolkit.mybatis.handler;
+
+import org.apache.ibatis.type.TypeHandlerRegistry;
+
+/**
+ * json类型处理器的注册，通常由{@code red.zyc.toolkit.mybatis.processor.JsonTypeHandlerProcessor}根据{@link RegisterJsonTypeHandler}生成，
+ * 并通过{@link java.util.ServiceLoader}加载。
+ *
+ * @author zyc
+ * @see JsonTypeHandlers#registerAll(TypeHandlerRegistry)
+ */
+public interface JsonTypeHandlerRegistration {
+
+    /**
+     * 注册类型处理器
+     *
+     * @param registry {@link TypeHandlerRegistry}
+     */
+    void register(TypeHandlerRegistry registry);
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package red.zyc.toolkit.mybatis.handler;
+
+import org.apache.ibatis.type.TypeHandlerRegistry;
+
+import java.util.ServiceLoader;
+
+/**
+ * json类型处理器的注册工具
+ *
+ * @author zyc
+ */
+public final class JsonTypeHandlers {
+
+    private JsonTypeHandlers() {
+    }
+
+    /**
+     * 通过当前线程的上下文类加载器加载所有{@link JsonTypeHandlerRegistration}并注册类型处理器
+     *
+     * @param registry {@link TypeHandlerRegistry}
+     */
+    public static void registerAll(TypeHandlerRegistry registry) {
+        registerAll(registry, Thread.currentThread().getContextClassLoader());
+    }
+
+    /**
+     * 通过指定的类加载器加载所有{@link JsonTypeHandlerRegistration}并注册类型处理器。
+     * 模块化的应用需要在module-info中通过{@code provides}声明生成的{@link JsonTypeHandlerRegistration}。
+     *
+     * @param registry    {@link TypeHandlerRegistry}
+     * @param classLoader 类加载器
+     */
+    public static void registerAll(TypeHandlerRegistry registry, ClassLoader classLoader) {
+        ServiceLoader.load(JsonTypeHandlerRegistration.class, classLoader).forEach(registration -> registration.register(registry));
+    }
+
+    /**
+     * 预先解析类型对应的序列化器和反序列化器后注册类型处理器
+     *
+     * @param registry {@link TypeHandlerRegistry}
+     * @param javaType 类型
+     * @param handler  类型处理器
+     * @param <T>      类型
+     */
+    public static <T> void register(TypeHandlerRegistry registry, Class<T> javaType, AbstractJsonTypeHandler<T, ?> handler) {
+        handler.warmUp();
+        registry.register(javaType, handler);
+    }
+}
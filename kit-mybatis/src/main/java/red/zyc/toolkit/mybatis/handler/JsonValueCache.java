@@ -0,0 +1,391 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package red.zyc.toolkit.mybatis.handler;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 以列的原始内容为键缓存反序列化结果的有界缓存，内容相同的行共享同一个反序列化后的对象，
+ * 所以只能用于不可变的类型。
+ * <p>
+ * 淘汰策略参照W-TinyLFU：新的条目先进入容量约为1%的LRU窗口，被挤出窗口的条目作为候选者，
+ * 只有当它的访问频率（由4-bit的Count-Min Sketch估算）高于主空间SLRU中受试区最久未访问的条目时才会被接纳，
+ * 否则直接被淘汰。这样一次性出现的内容不会把反复出现的配置、模板等内容挤出缓存。
+ * <p>
+ * 查找通过{@link ConcurrentHashMap}完成，不需要加锁。访问记录先写入一个有损的环形缓冲区，
+ * 再由获得锁的线程批量更新频率和队列顺序，锁被占用时读取方不会等待，缓冲区满时丢弃的只是部分访问记录。
+ * 只有写入和淘汰需要加锁，而写入发生在反序列化之后，相比反序列化本身锁的开销可以忽略。
+ * <p>
+ * {@link ColumnAccess}以列内容的SHA-256摘要作为键，摘要在加锁之前计算一次，缓存不会持有列的原始内容，
+ * 所以按条目数限制缓存的大小就足够了。
+ *
+ * @param <T> 缓存对象的类型
+ * @author zyc
+ * @see AbstractJsonTypeHandler
+ */
+public final class JsonValueCache<T> {
+
+    /**
+     * 默认的最大条目数
+     */
+    public static final int DEFAULT_MAXIMUM_SIZE = 1024;
+
+    /**
+     * 访问记录缓冲区的大小，必须是2的幂
+     */
+    private static final int READ_BUFFER_SIZE = 64;
+
+    /**
+     * 每记录多少次访问尝试批量处理一次
+     */
+    private static final int DRAIN_INTERVAL = 16;
+
+    /**
+     * 所有的条目
+     */
+    private final Map<Object, Node<T>> data;
+
+    /**
+     * 访问频率
+     */
+    private final FrequencySketch sketch;
+
+    /**
+     * LRU窗口
+     */
+    private final Queue<T> window = new Queue<>();
+
+    /**
+     * 主空间的受试区
+     */
+    private final Queue<T> probation = new Queue<>();
+
+    /**
+     * 主空间的保护区
+     */
+    private final Queue<T> protection = new Queue<>();
+
+    /**
+     * 最大条目数
+     */
+    private final int maximumSize;
+
+    /**
+     * 窗口的最大条目数
+     */
+    private final int windowMaximum;
+
+    /**
+     * 保护区的最大条目数
+     */
+    private final int protectionMaximum;
+
+    /**
+     * 保护频率、队列以及写入的锁
+     */
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /**
+     * 尚未处理的访问记录
+     */
+    private final AtomicReferenceArray<Object> readBuffer = new AtomicReferenceArray<>(READ_BUFFER_SIZE);
+
+    /**
+     * 已经记录的访问次数
+     */
+    private final AtomicLong reads = new AtomicLong();
+
+    public JsonValueCache() {
+        this(DEFAULT_MAXIMUM_SIZE);
+    }
+
+    public JsonValueCache(int maximumSize) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("最大条目数必须大于0：" + maximumSize);
+        }
+        this.maximumSize = maximumSize;
+        this.windowMaximum = Math.max(1, maximumSize / 100);
+        this.protectionMaximum = (int) ((maximumSize - windowMaximum) * 0.8);
+        this.data = new ConcurrentHashMap<>(Math.min(maximumSize, 1 << 16) * 4 / 3 + 1);
+        this.sketch = new FrequencySketch(maximumSize);
+    }
+
+    /**
+     * 获取缓存的对象，同时记录一次访问
+     *
+     * @param key 列内容的键
+     * @return 缓存的对象，不存在时为null
+     */
+    public T get(Object key) {
+        Node<T> node = data.get(key);
+        long read = reads.getAndIncrement();
+        readBuffer.lazySet((int) read & (READ_BUFFER_SIZE - 1), key);
+        if ((read & (DRAIN_INTERVAL - 1)) == DRAIN_INTERVAL - 1 && lock.tryLock()) {
+            try {
+                drainReads();
+            } finally {
+                lock.unlock();
+            }
+        }
+        return node == null ? null : node.value;
+    }
+
+    /**
+     * 缓存对象，如果已经有相同键的对象则返回已经存在的对象
+     *
+     * @param key   列内容的键
+     * @param value 对象
+     * @return 缓存中与键关联的对象
+     */
+    public T put(Object key, T value) {
+        lock.lock();
+        try {
+            drainReads();
+            Node<T> node = data.get(key);
+            if (node != null) {
+                return node.value;
+            }
+            node = new Node<>(key, value);
+            data.put(key, node);
+            window.addLast(node);
+            if (window.size > windowMaximum) {
+                Node<T> candidate = window.removeFirst();
+                probation.addLast(candidate);
+                if (data.size() > maximumSize) {
+                    Node<T> victim = probation.head.next;
+                    Node<T> evicted = victim != candidate && sketch.frequency(candidate.key) > sketch.frequency(victim.key) ? victim : candidate;
+                    probation.remove(evicted);
+                    data.remove(evicted.key);
+                }
+            }
+            return value;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return 当前的条目数
+     */
+    public int size() {
+        return data.size();
+    }
+
+    /**
+     * 清空缓存
+     */
+    public void clear() {
+        lock.lock();
+        try {
+            data.clear();
+            window.clear();
+            probation.clear();
+            protection.clear();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 在持有锁时处理缓冲区中的访问记录：增加频率并把命中的条目移动到所在队列的末尾
+     */
+    private void drainReads() {
+        for (int i = 0; i < READ_BUFFER_SIZE; i++) {
+            Object key = readBuffer.getAndSet(i, null);
+            if (key == null) {
+                continue;
+            }
+            sketch.increment(key);
+            Node<T> node = data.get(key);
+            if (node == null || node.queue == null) {
+                continue;
+            }
+            if (node.queue == window) {
+                window.moveToLast(node);
+            } else if (node.queue == probation) {
+                probation.remove(node);
+                protection.addLast(node);
+                if (protection.size > protectionMaximum) {
+                    probation.addLast(protection.removeFirst());
+                }
+            } else {
+                protection.moveToLast(node);
+            }
+        }
+    }
+
+    /**
+     * 缓存条目
+     *
+     * @param <T> 缓存对象的类型
+     */
+    private static final class Node<T> {
+
+        private final Object key;
+
+        private final T value;
+
+        private Node<T> prev;
+
+        private Node<T> next;
+
+        /**
+         * 条目所在的队列
+         */
+        private Queue<T> queue;
+
+        private Node(Object key, T value) {
+            this.key = key;
+            this.value = value;
+        }
+    }
+
+    /**
+     * 以哨兵节点实现的双向链表，头部是最久未访问的条目
+     *
+     * @param <T> 缓存对象的类型
+     */
+    private static final class Queue<T> {
+
+        private final Node<T> head = new Node<>(null, null);
+
+        private int size;
+
+        private Queue() {
+            clear();
+        }
+
+        private void addLast(Node<T> node) {
+            node.prev = head.prev;
+            node.next = head;
+            head.prev.next = node;
+            head.prev = node;
+            node.queue = this;
+            size++;
+        }
+
+        private Node<T> removeFirst() {
+            Node<T> node = head.next;
+            remove(node);
+            return node;
+        }
+
+        private void remove(Node<T> node) {
+            node.prev.next = node.next;
+            node.next.prev = node.prev;
+            node.prev = node.next = null;
+            node.queue = null;
+            size--;
+        }
+
+        private void moveToLast(Node<T> node) {
+            remove(node);
+            addLast(node);
+        }
+
+        private void clear() {
+            head.prev = head.next = head;
+            size = 0;
+        }
+    }
+
+    /**
+     * 4-bit计数器的Count-Min Sketch，每个键对应4个计数器，频率取其中的最小值。
+     * 累计增加的次数达到采样数时所有计数器减半，使频率能够随时间衰减。
+     */
+    private static final class FrequencySketch {
+
+        private static final long[] SEEDS = {0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L};
+
+        private static final long RESET_MASK = 0x7777777777777777L;
+
+        private final long[] table;
+
+        private final int sampleSize;
+
+        private int additions;
+
+        private FrequencySketch(int maximumSize) {
+            int length = Integer.highestOneBit(Math.max(64, Math.min(maximumSize, 1 << 24)) - 1) << 1;
+            this.table = new long[length];
+            this.sampleSize = (int) Math.min(10L * maximumSize, Integer.MAX_VALUE);
+        }
+
+        private void increment(Object key) {
+            int hash = spread(key.hashCode());
+            boolean added = false;
+            for (int i = 0; i < SEEDS.length; i++) {
+                added |= incrementAt(hash, i);
+            }
+            if (added && ++additions >= sampleSize) {
+                reset();
+            }
+        }
+
+        private int frequency(Object key) {
+            int hash = spread(key.hashCode());
+            int frequency = Integer.MAX_VALUE;
+            for (int i = 0; i < SEEDS.length; i++) {
+                long h = indexHash(hash, i);
+                int shift = offset(h);
+                frequency = Math.min(frequency, (int) ((table[index(h)] >>> shift) & 0xfL));
+            }
+            return frequency;
+        }
+
+        private boolean incrementAt(int hash, int i) {
+            long h = indexHash(hash, i);
+            int index = index(h);
+            int shift = offset(h);
+            long mask = 0xfL << shift;
+            if ((table[index] & mask) != mask) {
+                table[index] += 1L << shift;
+                return true;
+            }
+            return false;
+        }
+
+        private void reset() {
+            for (int i = 0; i < table.length; i++) {
+                table[i] = (table[i] >>> 1) & RESET_MASK;
+            }
+            additions >>>= 1;
+        }
+
+        private long indexHash(int hash, int i) {
+            long h = (hash + SEEDS[i]) * SEEDS[i];
+            return h + (h >>> 32);
+        }
+
+        private int index(long h) {
+            return (int) h & (table.length - 1);
+        }
+
+        private int offset(long h) {
+            return (int) (h >>> 60) << 2;
+        }
+
+        private static int spread(int hash) {
+            hash = ((hash >>> 16) ^ hash) * 0x45d9f3b;
+            return (hash >>> 16) ^ hash;
+        }
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package red.zyc.toolkit.mybatis.handler;
+
+import org.apache.ibatis.type.BaseTypeHandler;
+import org.apache.ibatis.type.JdbcType;
+import red.zyc.toolkit.core.reflect.ClassMetadata;
+import red.zyc.toolkit.json.JsonOperator;
+import red.zyc.toolkit.json.LazyJson;
+
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.sql.CallableStatement;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * 延迟反序列化json列的类型处理器，读取时只保留原始的json，直到第一次调用{@link LazyJson#get()}时才反序列化。
+ * 写入时如果{@link LazyJson}从未被绑定则直接写回原始的json，否则序列化绑定的java对象。
+ * 列的读写方式由{@link ColumnAccess}决定，由于结果集移动到下一行之后流就不能再读取了，
+ * {@link ColumnAccess#CHARACTER_STREAM}和{@link ColumnAccess#BINARY_STREAM}会在读取时把整列读取为原始的json，
+ * 它们只是让jdbc驱动以流的方式返回CLOB、BLOB这类列，并不能避免原始的json占用内存。
+ * <p>
+ * MyBatis只会把属性的原始类型{@link LazyJson}传给类型处理器，所以需要通过子类的泛型参数指定json需要转换成的类型：
+ * <pre>
+ *     public class AddressLazyJsonTypeHandler extends LazyJsonTypeHandler&lt;Address&gt; {
+ *     }
+ * </pre>
+ *
+ * @param <T> json需要转换成的java对象类型
+ * @author zyc
+ */
+public class LazyJsonTypeHandler<T> extends BaseTypeHandler<LazyJson<T>> {
+
+    /**
+     * json操作器
+     */
+    private final JsonOperator<?> jsonOperator;
+
+    /**
+     * json需要转换成的java对象类型
+     */
+    private final Type type;
+
+    /**
+     * 列的读写方式
+     */
+    private final ColumnAccess columnAccess;
+
+    /**
+     * 原始的json是否是字符串
+     */
+    private final boolean textual;
+
+    /**
+     * 以{@link ColumnAccess#STRING}的方式读写列
+     *
+     * @see #LazyJsonTypeHandler(ColumnAccess)
+     */
+    protected LazyJsonTypeHandler() {
+        this(ColumnAccess.STRING);
+    }
+
+    /**
+     * 使用与{@link SimpleJsonTypeHandler}共享的json操作器，并以子类的泛型参数作为json需要转换成的类型
+     *
+     * @param columnAccess 列的读写方式
+     */
+    protected LazyJsonTypeHandler(ColumnAccess columnAccess) {
+        this.jsonOperator = SimpleJsonTypeHandler.JACKSON_OPERATOR;
+        this.type = capture();
+        this.columnAccess = columnAccess;
+        this.textual = columnAccess == ColumnAccess.STRING || columnAccess == ColumnAccess.CHARACTER_STREAM;
+    }
+
+    public LazyJsonTypeHandler(JsonOperator<?> jsonOperator, Type type) {
+        this(jsonOperator, type, ColumnAccess.STRING);
+    }
+
+    /**
+     * @param jsonOperator json操作器
+     * @param type         json需要转换成的java对象类型
+     * @param columnAccess 列的读写方式
+     */
+    public LazyJsonTypeHandler(JsonOperator<?> jsonOperator, Type type, ColumnAccess columnAccess) {
+        this.jsonOperator = jsonOperator;
+        this.type = type;
+        this.columnAccess = columnAccess;
+        this.textual = columnAccess == ColumnAccess.STRING || columnAccess == ColumnAccess.CHARACTER_STREAM;
+    }
+
+    @Override
+    public void setNonNullParameter(PreparedStatement ps, int i, LazyJson<T> parameter, JdbcType jdbcType) throws SQLException {
+        Object raw = textual ? parameter.raw() : parameter.rawBytes();
+        if (raw != null) {
+            columnAccess.setRaw(ps, i, raw);
+        } else {
+            columnAccess.set(ps, i, columnAccess.serialize(jsonOperator, parameter.get()));
+        }
+    }
+
+    @Override
+    public LazyJson<T> getNullableResult(ResultSet rs, String columnName) throws SQLException {
+        return lazy(columnAccess.get(rs, columnName));
+    }
+
+    @Override
+    public LazyJson<T> getNullableResult(ResultSet rs, int columnIndex) throws SQLException {
+        return lazy(columnAccess.get(rs, columnIndex));
+    }
+
+    @Override
+    public LazyJson<T> getNullableResult(CallableStatement cs, int columnIndex) throws SQLException {
+        return lazy(columnAccess.get(cs, columnIndex));
+    }
+
+    private LazyJson<T> lazy(Object source) throws SQLException {
+        if (source == null) {
+            return null;
+        }
+        Object raw = columnAccess.retain(source);
+        return textual ? LazyJson.of((String) raw, jsonOperator, type) : LazyJson.of((byte[]) raw, jsonOperator, type);
+    }
+
+    /**
+     * 获取子类指定的泛型参数
+     *
+     * @return json需要转换成的java对象类型
+     */
+    private Type capture() {
+        Type supertype = ClassMetadata.of(getClass()).supertype(LazyJsonTypeHandler.class);
+        if (!(supertype instanceof ParameterizedType) || ((ParameterizedType) supertype).getActualTypeArguments()[0] instanceof TypeVariable) {
+            throw new IllegalArgumentException(String.format("%s必须继承%s并指定泛型参数", getClass(), LazyJsonTypeHandler.class.getSimpleName()));
+        }
+        return ((ParameterizedType) supertype).getActualTypeArguments()[0];
+    }
+}
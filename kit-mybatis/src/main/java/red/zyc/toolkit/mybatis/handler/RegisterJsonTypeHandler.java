@@ -0,0 +1,44 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package red.zyc.toolkit.mybatis.handler;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 标记需要以json保存在列中的类型，编译时由{@code red.zyc.toolkit.mybatis.processor.JsonTypeHandlerProcessor}
+ * 生成对应的{@link JsonTypeHandlerRegistration}，启动时通过{@link JsonTypeHandlers#registerAll}注册。
+ * 被标记的类型必须是public的。
+ * <p>
+ * 处理器位于单独的kit-mybatis-processor构件中，需要通过{@code annotationProcessorPaths}等方式在编译时引入。
+ *
+ * @author zyc
+ */
+@Documented
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.TYPE)
+public @interface RegisterJsonTypeHandler {
+
+    /**
+     * @return 类型处理器，必须有一个以{@link Class}为参数的public构造器
+     */
+    @SuppressWarnings("rawtypes")
+    Class<? extends AbstractJsonTypeHandler> value() default SimpleJsonTypeHandler.class;
+}
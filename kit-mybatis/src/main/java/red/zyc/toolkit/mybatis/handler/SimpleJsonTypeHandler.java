@@ -17,17 +17,24 @@
 package red.zyc.toolkit.mybatis.handler;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import red.zyc.toolkit.json.JacksonOperator;
 import red.zyc.toolkit.json.JsonOperator;
 
 /**
  * 通过简单配置的{@link ObjectMapper}序列化反序列对象。
+ * 所有实例共享同一个json操作器，每种类型的序列化器和反序列化器只会解析一次。
  *
  * @param <T> mapper方法返回实体的类型
  * @author zyc
  */
 public class SimpleJsonTypeHandler<T> extends AbstractJsonTypeHandler<T, ObjectMapper> {
 
+    /**
+     * json操作器，{@link ClobJsonTypeHandler}等同样以简单配置的{@link ObjectMapper}序列化反序列对象的处理器也共享该操作器
+     */
+    static final JacksonOperator JACKSON_OPERATOR = JsonOperator.JACKSON_OPERATOR.with(ObjectMapper::copy);
+
     public SimpleJsonTypeHandler(Class<T> clazz) {
-        super(JsonOperator.JACKSON_OPERATOR.with(ObjectMapper::copy), clazz);
+        super(JACKSON_OPERATOR, clazz);
     }
 }
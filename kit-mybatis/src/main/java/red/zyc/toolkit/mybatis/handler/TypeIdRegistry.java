@@ -0,0 +1,236 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package red.zyc.toolkit.mybatis.handler;
+
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.databind.DatabindContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.cfg.MapperConfig;
+import com.fasterxml.jackson.databind.jsontype.NamedType;
+import com.fasterxml.jackson.databind.jsontype.PolymorphicTypeValidator;
+import com.fasterxml.jackson.databind.jsontype.TypeIdResolver;
+import com.fasterxml.jackson.databind.jsontype.impl.TypeIdResolverBase;
+import red.zyc.toolkit.json.JacksonOperator;
+import red.zyc.toolkit.json.JsonOperator;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 类型与简短类型id之间的注册表，用于代替{@link ObjectMapper#activateDefaultTyping}在json中保存的全限定类名。
+ * <p>
+ * 两个方向的映射都在创建时预先计算好并且不可变，序列化时通过类型直接查找类型id，
+ * 反序列化时通过类型id直接查找预先构造好的{@link JavaType}。没有注册的类型仍然以全限定类名保存，
+ * 反序列化时也仍然可以解析之前以全限定类名保存的json。类型id不能包含{@code .}，所以不会与任何类名混淆。
+ * 类型id一旦用于保存数据就不应该再修改。
+ *
+ * @author zyc
+ * @see GenericJsonTypeHandler
+ */
+public final class TypeIdRegistry {
+
+    /**
+     * 类型到类型id的映射
+     */
+    private final Map<Class<?>, String> classToId;
+
+    /**
+     * 类型id到类型的映射
+     */
+    private final Map<String, Class<?>> idToClass;
+
+    /**
+     * {@link GenericJsonTypeHandler}使用的json操作器，第一次使用时创建，与注册表的生命周期相同
+     */
+    private volatile JacksonOperator genericJacksonOperator;
+
+    private TypeIdRegistry(Map<Class<?>, String> classToId, Map<String, Class<?>> idToClass) {
+        this.classToId = Map.copyOf(classToId);
+        this.idToClass = Map.copyOf(idToClass);
+    }
+
+    /**
+     * 创建注册表
+     *
+     * @param ids 类型到类型id的映射
+     * @return 注册表
+     */
+    public static TypeIdRegistry of(Map<Class<?>, String> ids) {
+        Map<String, Class<?>> idToClass = new HashMap<>(ids.size() * 4 / 3 + 1);
+        ids.forEach((clazz, id) -> {
+            if (id == null || id.isEmpty() || id.indexOf('.') >= 0) {
+                throw new IllegalArgumentException("无效的类型id：'" + id + "'（" + clazz + "），类型id不能为空并且不能包含'.'");
+            }
+            Class<?> previous = idToClass.put(id, clazz);
+            if (previous != null) {
+                throw new IllegalArgumentException("重复的类型id：'" + id + "'（" + previous + "和" + clazz + "）");
+            }
+        });
+        return new TypeIdRegistry(ids, idToClass);
+    }
+
+    /**
+     * @param clazz 类型
+     * @return 类型对应的类型id，没有注册时为null
+     */
+    public String id(Class<?> clazz) {
+        return classToId.get(clazz);
+    }
+
+    /**
+     * @param id 类型id
+     * @return 类型id对应的类型，没有注册时为null
+     */
+    public Class<?> type(String id) {
+        return idToClass.get(id);
+    }
+
+    /**
+     * 以类型id保存类型信息的json操作器，同一个注册表的{@link GenericJsonTypeHandler}共享同一个json操作器
+     *
+     * @return json操作器
+     */
+    JacksonOperator genericJacksonOperator() {
+        JacksonOperator operator = genericJacksonOperator;
+        if (operator == null) {
+            synchronized (this) {
+                operator = genericJacksonOperator;
+                if (operator == null) {
+                    operator = JsonOperator.JACKSON_OPERATOR.with(ObjectMapper::copy)
+                            .configure(objectMapper -> activateDefaultTyping(objectMapper, ObjectMapper.DefaultTyping.NON_FINAL, JsonTypeInfo.As.PROPERTY));
+                    genericJacksonOperator = operator;
+                }
+            }
+        }
+        return operator;
+    }
+
+    /**
+     * 与{@link ObjectMapper#activateDefaultTyping(PolymorphicTypeValidator, ObjectMapper.DefaultTyping, JsonTypeInfo.As)}相同，
+     * 只是已注册的类型会以类型id代替全限定类名。
+     *
+     * @param objectMapper  {@link ObjectMapper}
+     * @param applicability 需要保存类型信息的类型
+     * @param includeAs     类型信息的保存方式
+     * @return 参数中的{@link ObjectMapper}
+     */
+    public ObjectMapper activateDefaultTyping(ObjectMapper objectMapper, ObjectMapper.DefaultTyping applicability, JsonTypeInfo.As includeAs) {
+        return objectMapper.setDefaultTyping(new CompactTypeResolverBuilder(this, applicability, objectMapper.getPolymorphicTypeValidator())
+                .init(JsonTypeInfo.Id.CLASS, null)
+                .inclusion(includeAs));
+    }
+
+    /**
+     * 为每个基础类型创建{@link CompactTypeIdResolver}的{@link ObjectMapper.DefaultTypeResolverBuilder}
+     */
+    private static final class CompactTypeResolverBuilder extends ObjectMapper.DefaultTypeResolverBuilder {
+
+        private static final long serialVersionUID = 1L;
+
+        private final TypeIdRegistry registry;
+
+        private CompactTypeResolverBuilder(TypeIdRegistry registry, ObjectMapper.DefaultTyping applicability, PolymorphicTypeValidator validator) {
+            super(applicability, validator);
+            this.registry = registry;
+        }
+
+        private CompactTypeResolverBuilder(CompactTypeResolverBuilder base, Class<?> defaultImpl) {
+            super(base, defaultImpl);
+            this.registry = base.registry;
+        }
+
+        @Override
+        public CompactTypeResolverBuilder withDefaultImpl(Class<?> defaultImpl) {
+            return _defaultImpl == defaultImpl ? this : new CompactTypeResolverBuilder(this, defaultImpl);
+        }
+
+        @Override
+        protected TypeIdResolver idResolver(MapperConfig<?> config, JavaType baseType, PolymorphicTypeValidator subtypeValidator,
+                                            Collection<NamedType> subtypes, boolean forSer, boolean forDeser) {
+            return new CompactTypeIdResolver(registry, config, baseType, super.idResolver(config, baseType, subtypeValidator, subtypes, forSer, forDeser));
+        }
+    }
+
+    /**
+     * 先查找注册表，没有注册的类型再交给基于类名的{@link TypeIdResolver}处理
+     */
+    private static final class CompactTypeIdResolver extends TypeIdResolverBase {
+
+        private final TypeIdRegistry registry;
+
+        /**
+         * 类型id到基础类型的子类型的映射，在创建时预先构造
+         */
+        private final Map<String, JavaType> subtypes;
+
+        private final TypeIdResolver delegate;
+
+        private CompactTypeIdResolver(TypeIdRegistry registry, MapperConfig<?> config, JavaType baseType, TypeIdResolver delegate) {
+            super(baseType, config.getTypeFactory());
+            this.registry = registry;
+            this.delegate = delegate;
+            Map<String, JavaType> subtypes = new HashMap<>(registry.idToClass.size() * 4 / 3 + 1);
+            registry.idToClass.forEach((id, clazz) -> {
+                if (baseType.getRawClass().isAssignableFrom(clazz)) {
+                    subtypes.put(id, config.getTypeFactory().constructSpecializedType(baseType, clazz));
+                }
+            });
+            this.subtypes = Map.copyOf(subtypes);
+        }
+
+        @Override
+        public void init(JavaType baseType) {
+            delegate.init(baseType);
+        }
+
+        @Override
+        public String idFromValue(Object value) {
+            String id = registry.classToId.get(value.getClass());
+            return id == null ? delegate.idFromValue(value) : id;
+        }
+
+        @Override
+        public String idFromValueAndType(Object value, Class<?> suggestedType) {
+            String id = registry.classToId.get(suggestedType);
+            return id == null ? delegate.idFromValueAndType(value, suggestedType) : id;
+        }
+
+        @Override
+        public String idFromBaseType() {
+            return delegate.idFromBaseType();
+        }
+
+        @Override
+        public JavaType typeFromId(DatabindContext context, String id) throws IOException {
+            JavaType type = subtypes.get(id);
+            return type == null ? delegate.typeFromId(context, id) : type;
+        }
+
+        @Override
+        public String getDescForKnownTypeIds() {
+            return delegate.getDescForKnownTypeIds();
+        }
+
+        @Override
+        public JsonTypeInfo.Id getMechanism() {
+            return JsonTypeInfo.Id.CUSTOM;
+        }
+    }
+}
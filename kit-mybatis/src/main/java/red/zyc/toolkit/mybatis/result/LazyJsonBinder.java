@@ -0,0 +1,276 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package red.zyc.toolkit.mybatis.result;
+
+import org.apache.ibatis.javassist.util.proxy.Proxy;
+import org.apache.ibatis.reflection.ReflectionException;
+import red.zyc.toolkit.core.reflect.ClassMetadata;
+import red.zyc.toolkit.json.LazyJson;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+/**
+ * 在线程池中并行绑定结果集中尚未绑定的{@link LazyJson}。
+ * 会递归查找结果中的{@link Collection}、{@link Map}的值、数组以及对象的属性，
+ * 所以多结果集返回的嵌套列表以及嵌套映射（association、collection）中的{@link LazyJson}也会被绑定，
+ * 同一个对象只会被查找一次，循环引用不会导致死循环。
+ * 属性通过{@link ClassMetadata}读取，jdk中的类型不会被查找。绑定只会修改{@link LazyJson}本身，所以结果的顺序不会改变。
+ * <p>
+ * MyBatis延迟加载的代理对象调用getter会触发嵌套查询，所以代理对象直接读取字段而不调用getter。
+ * 尚未加载的属性此时为null，它们在被加载时会经过各自查询的{@link ParallelJsonInterceptor}绑定。
+ * <p>
+ * 非public的结果类型的属性同样会被查找，但是以模块方式运行时结果类型所在的包需要对kit.mybatis开放（{@code opens}），
+ * 否则无法访问的属性会被忽略。
+ *
+ * @author zyc
+ */
+final class LazyJsonBinder {
+
+    /**
+     * 读取类型中可能含有{@link LazyJson}的属性的方式
+     */
+    private static final ClassValue<PropertyReader[]> READERS = new ClassValue<>() {
+        @Override
+        protected PropertyReader[] computeValue(Class<?> type) {
+            if (isJdkType(type)) {
+                return new PropertyReader[0];
+            }
+            if (isLazyLoadingProxy(type)) {
+                return fieldReaders(type.getSuperclass());
+            }
+            return ClassMetadata.of(type).properties().stream()
+                    .filter(property -> mayContainLazyJson(property.rawType()))
+                    .map(ClassMetadata.Property::getter)
+                    .filter(Method::trySetAccessible)
+                    .map(getter -> new PropertyReader(getter, null))
+                    .toArray(PropertyReader[]::new);
+        }
+    };
+
+    /**
+     * 执行绑定的线程池
+     */
+    private final Executor executor;
+
+    /**
+     * 每个任务绑定的{@link LazyJson}的数量
+     */
+    private final int batchSize;
+
+    LazyJsonBinder(Executor executor, int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("每个任务绑定的数量必须大于0：" + batchSize);
+        }
+        this.executor = executor;
+        this.batchSize = batchSize;
+    }
+
+    int batchSize() {
+        return batchSize;
+    }
+
+    /**
+     * 并行绑定结果中所有尚未绑定的{@link LazyJson}，数量不超过{@link #batchSize}时直接在当前线程绑定。
+     *
+     * @param results 结果
+     */
+    void bind(Collection<?> results) {
+        List<LazyJson<?>> unbound = collect(results);
+        if (unbound.size() <= batchSize) {
+            unbound.forEach(LazyJson::get);
+            return;
+        }
+        List<CompletableFuture<Void>> futures = new ArrayList<>(unbound.size() / batchSize + 1);
+        for (int from = 0; from < unbound.size(); from += batchSize) {
+            List<LazyJson<?>> batch = unbound.subList(from, Math.min(from + batchSize, unbound.size()));
+            futures.add(CompletableFuture.runAsync(() -> batch.forEach(LazyJson::get), executor));
+        }
+        join(CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])));
+    }
+
+    /**
+     * 在线程池中以一个任务绑定结果中所有尚未绑定的{@link LazyJson}
+     *
+     * @param results 结果
+     * @return 绑定完成的{@link CompletableFuture}
+     */
+    CompletableFuture<Void> bindAsync(Collection<?> results) {
+        return CompletableFuture.runAsync(() -> collect(results).forEach(LazyJson::get), executor);
+    }
+
+    /**
+     * 等待绑定完成，绑定失败时抛出原始的异常
+     *
+     * @param future 绑定完成的{@link CompletableFuture}
+     */
+    static void join(CompletableFuture<Void> future) {
+        try {
+            future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 收集结果中所有尚未绑定的{@link LazyJson}
+     *
+     * @param results 结果
+     * @return 尚未绑定的{@link LazyJson}
+     */
+    private List<LazyJson<?>> collect(Collection<?> results) {
+        List<LazyJson<?>> unbound = new ArrayList<>(results.size());
+        Set<Object> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Object result : results) {
+            collect(result, unbound, visited);
+        }
+        return unbound;
+    }
+
+    private static void collect(Object value, List<LazyJson<?>> unbound, Set<Object> visited) {
+        if (value == null) {
+            return;
+        }
+        if (value instanceof LazyJson) {
+            LazyJson<?> lazyJson = (LazyJson<?>) value;
+            if (!lazyJson.isBound()) {
+                unbound.add(lazyJson);
+            }
+            return;
+        }
+        Class<?> type = value.getClass();
+        if (value instanceof Collection || value instanceof Map || type.isArray()) {
+            if (!mayContainLazyJson(type) || !visited.add(value)) {
+                return;
+            }
+            Iterable<?> elements = value instanceof Collection ? (Collection<?>) value
+                    : value instanceof Map ? ((Map<?, ?>) value).values() : Arrays.asList((Object[]) value);
+            for (Object element : elements) {
+                collect(element, unbound, visited);
+            }
+            return;
+        }
+        PropertyReader[] readers = READERS.get(type);
+        if (readers.length == 0 || !visited.add(value)) {
+            return;
+        }
+        for (PropertyReader reader : readers) {
+            try {
+                collect(reader.read(value), unbound, visited);
+            } catch (IllegalAccessException | InvocationTargetException e) {
+                throw new ReflectionException("无法读取" + type + "的属性" + reader.name(), e);
+            }
+        }
+    }
+
+    /**
+     * 直接读取字段，用于不能调用getter的延迟加载代理对象
+     *
+     * @param type 被代理的类型
+     * @return 类型以及父类型中可能含有{@link LazyJson}的字段
+     */
+    private static PropertyReader[] fieldReaders(Class<?> type) {
+        List<PropertyReader> readers = new ArrayList<>();
+        for (Class<?> c = type; c != null && !isJdkType(c); c = c.getSuperclass()) {
+            for (Field field : c.getDeclaredFields()) {
+                if (!Modifier.isStatic(field.getModifiers()) && mayContainLazyJson(field.getType()) && field.trySetAccessible()) {
+                    readers.add(new PropertyReader(null, field));
+                }
+            }
+        }
+        return readers.toArray(new PropertyReader[0]);
+    }
+
+    /**
+     * @param type 类型
+     * @return 是否是MyBatis创建的延迟加载代理类型
+     */
+    private static boolean isLazyLoadingProxy(Class<?> type) {
+        if (Proxy.class.isAssignableFrom(type)) {
+            return true;
+        }
+        for (Class<?> i : type.getInterfaces()) {
+            if ("net.sf.cglib.proxy.Factory".equals(i.getName())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @param type 类型
+     * @return 该类型的值是否可能含有{@link LazyJson}
+     */
+    private static boolean mayContainLazyJson(Class<?> type) {
+        if (type.isArray()) {
+            return mayContainLazyJson(type.getComponentType());
+        }
+        return Collection.class.isAssignableFrom(type) || Map.class.isAssignableFrom(type)
+               || type.isInterface() || type == Object.class || !isJdkType(type) && !type.isEnum();
+    }
+
+    /**
+     * @param type 类型
+     * @return 是否是jdk中的类型
+     */
+    private static boolean isJdkType(Class<?> type) {
+        String module = type.getModule().getName();
+        return module != null && (module.startsWith("java.") || module.startsWith("jdk."));
+    }
+
+    /**
+     * 通过getter或者字段读取属性
+     */
+    private static final class PropertyReader {
+
+        private final Method getter;
+
+        private final Field field;
+
+        private PropertyReader(Method getter, Field field) {
+            this.getter = getter;
+            this.field = field;
+        }
+
+        private String name() {
+            return getter != null ? getter.getName() : field.getName();
+        }
+
+        private Object read(Object bean) throws IllegalAccessException, InvocationTargetException {
+            return getter != null ? getter.invoke(bean) : field.get(bean);
+        }
+    }
+}
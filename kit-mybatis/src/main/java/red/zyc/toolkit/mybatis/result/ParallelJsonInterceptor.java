@@ -0,0 +1,188 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package red.zyc.toolkit.mybatis.result;
+
+import org.apache.ibatis.executor.resultset.ResultSetHandler;
+import org.apache.ibatis.mapping.Discriminator;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.ResultMap;
+import org.apache.ibatis.mapping.ResultMapping;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Plugin;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.reflection.MetaObject;
+import org.apache.ibatis.reflection.SystemMetaObject;
+import org.apache.ibatis.session.Configuration;
+import red.zyc.toolkit.core.reflect.ClassMetadata;
+import red.zyc.toolkit.json.LazyJson;
+import red.zyc.toolkit.mybatis.handler.LazyJsonTypeHandler;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+import java.sql.Statement;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * 在{@link ResultSetHandler#handleResultSets(Statement)}返回之前并行绑定结果中的{@link LazyJson}的拦截器。
+ * <p>
+ * 结果集中的json列通过{@link LazyJsonTypeHandler}映射为{@link LazyJson}时，JDBC线程只需要读取原始的json字符串，
+ * 反序列化则按批次分配到线程池中并行执行，结果的顺序与结果集的顺序相同。
+ * 多结果集返回的嵌套列表、嵌套映射（association、collection）的对象中的{@link LazyJson}同样会被绑定。
+ * 以模块方式运行时结果类型所在的包需要对kit.mybatis开放（{@code opens}），否则无法访问的属性中的{@link LazyJson}不会被绑定。
+ * <p>
+ * 每个{@link MappedStatement}的结果映射（包括嵌套的结果映射和鉴别器）中是否含有{@link LazyJson}只会判断一次并按id缓存，
+ * 不含{@link LazyJson}的查询不会遍历结果。遍历时不会调用延迟加载代理对象的getter，所以不会触发延迟加载的嵌套查询。
+ * 反序列化是CPU密集型的工作，所以默认使用{@link ForkJoinPool#commonPool()}。
+ * 可以通过{@code batchSize}属性配置每个任务绑定的数量，默认为{@value #DEFAULT_BATCH_SIZE}。
+ *
+ * @author zyc
+ * @see ParallelJsonResultHandler
+ */
+@Intercepts(@Signature(type = ResultSetHandler.class, method = "handleResultSets", args = Statement.class))
+public class ParallelJsonInterceptor implements Interceptor {
+
+    /**
+     * 默认每个任务绑定的数量
+     */
+    public static final int DEFAULT_BATCH_SIZE = 256;
+
+    /**
+     * 执行绑定的线程池
+     */
+    private final Executor executor;
+
+    /**
+     * 以{@link MappedStatement}的id为键，查询结果是否可能含有{@link LazyJson}
+     */
+    private final Map<String, Boolean> statements = new ConcurrentHashMap<>();
+
+    private volatile LazyJsonBinder binder;
+
+    public ParallelJsonInterceptor() {
+        this(ForkJoinPool.commonPool(), DEFAULT_BATCH_SIZE);
+    }
+
+    public ParallelJsonInterceptor(Executor executor, int batchSize) {
+        this.executor = executor;
+        this.binder = new LazyJsonBinder(executor, batchSize);
+    }
+
+    @Override
+    public Object intercept(Invocation invocation) throws Throwable {
+        Object result = invocation.proceed();
+        if (result instanceof List && mayContainLazyJson(invocation.getTarget())) {
+            binder.bind((List<?>) result);
+        }
+        return result;
+    }
+
+    /**
+     * @param resultSetHandler 被拦截的{@link ResultSetHandler}
+     * @return 结果是否可能含有{@link LazyJson}，无法得知查询对应的{@link MappedStatement}时为true
+     */
+    private boolean mayContainLazyJson(Object resultSetHandler) {
+        MappedStatement mappedStatement = mappedStatement(resultSetHandler);
+        return mappedStatement == null || statements.computeIfAbsent(mappedStatement.getId(),
+                id -> containsLazyJson(mappedStatement.getConfiguration(), mappedStatement.getResultMaps(), new HashSet<>()));
+    }
+
+    /**
+     * 获取{@link ResultSetHandler}处理的查询，被其它插件代理时获取最内层的{@link ResultSetHandler}
+     *
+     * @param resultSetHandler 被拦截的{@link ResultSetHandler}
+     * @return 对应的{@link MappedStatement}，无法获取时为null
+     */
+    private static MappedStatement mappedStatement(Object resultSetHandler) {
+        try {
+            Object target = resultSetHandler;
+            while (Proxy.isProxyClass(target.getClass())) {
+                InvocationHandler handler = Proxy.getInvocationHandler(target);
+                if (!(handler instanceof Plugin)) {
+                    return null;
+                }
+                target = SystemMetaObject.forObject(handler).getValue("target");
+            }
+            MetaObject metaObject = SystemMetaObject.forObject(target);
+            if (!metaObject.hasGetter("mappedStatement")) {
+                return null;
+            }
+            Object mappedStatement = metaObject.getValue("mappedStatement");
+            return mappedStatement instanceof MappedStatement ? (MappedStatement) mappedStatement : null;
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 结果映射中是否有映射为{@link LazyJson}的列，包括嵌套的结果映射、鉴别器以及自动映射的属性。
+     * 嵌套查询（{@code select}）的结果由该查询自己的拦截处理，所以不需要判断。
+     *
+     * @param configuration 配置
+     * @param resultMaps    结果映射
+     * @param visited       已经判断过的结果映射的id
+     * @return 是否可能含有{@link LazyJson}
+     */
+    private static boolean containsLazyJson(Configuration configuration, Collection<ResultMap> resultMaps, Set<String> visited) {
+        for (ResultMap resultMap : resultMaps) {
+            if (!visited.add(resultMap.getId())) {
+                continue;
+            }
+            boolean autoMapped = ClassMetadata.of(resultMap.getType()).properties().stream()
+                    .anyMatch(property -> LazyJson.class.isAssignableFrom(property.rawType()));
+            if (autoMapped) {
+                return true;
+            }
+            for (ResultMapping resultMapping : resultMap.getResultMappings()) {
+                if (resultMapping.getTypeHandler() instanceof LazyJsonTypeHandler
+                    || resultMapping.getJavaType() != null && LazyJson.class.isAssignableFrom(resultMapping.getJavaType())) {
+                    return true;
+                }
+                String nested = resultMapping.getNestedResultMapId();
+                if (nested != null && configuration.hasResultMap(nested) && containsLazyJson(configuration, List.of(configuration.getResultMap(nested)), visited)) {
+                    return true;
+                }
+            }
+            Discriminator discriminator = resultMap.getDiscriminator();
+            if (discriminator != null) {
+                for (String id : discriminator.getDiscriminatorMap().values()) {
+                    if (configuration.hasResultMap(id) && containsLazyJson(configuration, List.of(configuration.getResultMap(id)), visited)) {
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public void setProperties(Properties properties) {
+        String batchSize = properties.getProperty("batchSize");
+        if (batchSize != null) {
+            binder = new LazyJsonBinder(executor, Integer.parseInt(batchSize.trim()));
+        }
+    }
+}
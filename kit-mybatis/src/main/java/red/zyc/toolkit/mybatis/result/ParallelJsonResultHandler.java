@@ -0,0 +1,164 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package red.zyc.toolkit.mybatis.result;
+
+import org.apache.ibatis.executor.result.DefaultResultContext;
+import org.apache.ibatis.session.ResultContext;
+import org.apache.ibatis.session.ResultHandler;
+import red.zyc.toolkit.json.LazyJson;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * 以批次并行绑定结果中的{@link LazyJson}，再按原始顺序交给另一个{@link ResultHandler}的结果处理器，
+ * 适用于通过{@link ResultHandler}流式处理大量行的查询。
+ * <p>
+ * 每凑满一个批次就提交到线程池中绑定，同时JDBC线程继续读取后面的行，
+ * 正在绑定的批次超过{@code maxInFlight}个时才会等待最早的批次绑定完成并交给下游。
+ * 由于MyBatis不会通知结果集读取结束，查询结束后必须调用{@link #flush()}处理剩余的结果。
+ * 下游调用{@link ResultContext#stop()}后不会再收到任何结果。
+ * <p>
+ * 该类不是线程安全的，每次查询都需要一个新的实例。
+ *
+ * @param <T> 结果的类型
+ * @author zyc
+ * @see ParallelJsonInterceptor
+ */
+public class ParallelJsonResultHandler<T> implements ResultHandler<T> {
+
+    /**
+     * 下游的结果处理器
+     */
+    private final ResultHandler<? super T> delegate;
+
+    private final LazyJsonBinder binder;
+
+    /**
+     * 最多同时绑定的批次数
+     */
+    private final int maxInFlight;
+
+    /**
+     * 正在绑定的批次，按结果的顺序排列
+     */
+    private final Deque<Batch<T>> inFlight = new ArrayDeque<>();
+
+    /**
+     * 交给下游的结果上下文
+     */
+    private final DefaultResultContext<T> context = new DefaultResultContext<>();
+
+    /**
+     * 上游的结果上下文，下游停止时用来停止上游
+     */
+    private ResultContext<? extends T> upstream;
+
+    /**
+     * 正在凑的批次
+     */
+    private List<T> results;
+
+    public ParallelJsonResultHandler(ResultHandler<? super T> delegate) {
+        this(delegate, ForkJoinPool.commonPool(), ParallelJsonInterceptor.DEFAULT_BATCH_SIZE, Runtime.getRuntime().availableProcessors());
+    }
+
+    public ParallelJsonResultHandler(ResultHandler<? super T> delegate, Executor executor, int batchSize, int maxInFlight) {
+        if (maxInFlight <= 0) {
+            throw new IllegalArgumentException("同时绑定的批次数量必须大于0：" + maxInFlight);
+        }
+        this.delegate = delegate;
+        this.binder = new LazyJsonBinder(executor, batchSize);
+        this.maxInFlight = maxInFlight;
+        this.results = new ArrayList<>(batchSize);
+    }
+
+    @Override
+    public void handleResult(ResultContext<? extends T> resultContext) {
+        if (context.isStopped()) {
+            resultContext.stop();
+            return;
+        }
+        upstream = resultContext;
+        results.add(resultContext.getResultObject());
+        if (results.size() >= binder.batchSize()) {
+            submit();
+            while (inFlight.size() > maxInFlight) {
+                deliver(inFlight.poll());
+            }
+        }
+    }
+
+    /**
+     * 等待所有批次绑定完成并按顺序交给下游
+     */
+    public void flush() {
+        if (context.isStopped()) {
+            return;
+        }
+        if (!results.isEmpty()) {
+            submit();
+        }
+        while (!inFlight.isEmpty()) {
+            deliver(inFlight.poll());
+        }
+    }
+
+    private void submit() {
+        inFlight.add(new Batch<>(results, binder.bindAsync(results)));
+        results = new ArrayList<>(binder.batchSize());
+    }
+
+    private void deliver(Batch<T> batch) {
+        LazyJsonBinder.join(batch.future);
+        for (T result : batch.results) {
+            if (context.isStopped()) {
+                break;
+            }
+            context.nextResultObject(result);
+            delegate.handleResult(context);
+        }
+        if (context.isStopped()) {
+            inFlight.clear();
+            if (upstream != null) {
+                upstream.stop();
+            }
+        }
+    }
+
+    /**
+     * 正在绑定的批次
+     *
+     * @param <T> 结果的类型
+     */
+    private static final class Batch<T> {
+
+        private final List<T> results;
+
+        private final CompletableFuture<Void> future;
+
+        private Batch(List<T> results, CompletableFuture<Void> future) {
+            this.results = results;
+            this.future = future;
+        }
+    }
+}
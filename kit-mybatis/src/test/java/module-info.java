@@ -0,0 +1,15 @@
+/**
+ * @author zyc
+ */
+module kit.mybatis.test {
+    opens red.zyc.toolkit.mybatis.test;
+    opens red.zyc.toolkit.mybatis.test.model;
+    requires kit.core;
+    requires kit.json;
+    requires kit.mybatis;
+    requires org.mybatis;
+    requires java.sql;
+    requires org.junit.jupiter.api;
+    requires com.fasterxml.jackson.databind;
+    requires com.fasterxml.jackson.dataformat.smile;
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package red.zyc.toolkit.mybatis.test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 内存中的jdbc桩，{@link PreparedStatement}把参数保存为字符串或者字节数组，{@link ResultSet}只有一行并以同样的形式返回列。
+ *
+ * @author zyc
+ */
+final class Jdbc {
+
+    private Jdbc() {
+    }
+
+    /**
+     * 像jdbc驱动一样在设置参数时就读取完流
+     *
+     * @param parameters 以参数索引为键保存写入的值
+     * @return {@link PreparedStatement}
+     */
+    static PreparedStatement preparedStatement(Map<Integer, Object> parameters) {
+        return (PreparedStatement) Proxy.newProxyInstance(Jdbc.class.getClassLoader(), new Class<?>[]{PreparedStatement.class}, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "setString":
+                case "setBytes":
+                    parameters.put((Integer) args[0], args[1]);
+                    return null;
+                case "setCharacterStream":
+                    parameters.put((Integer) args[0], read((Reader) args[1]));
+                    return null;
+                case "setBinaryStream":
+                    parameters.put((Integer) args[0], ((InputStream) args[1]).readAllBytes());
+                    return null;
+                default:
+                    throw new UnsupportedOperationException(method.toString());
+            }
+        });
+    }
+
+    /**
+     * @param column 列名
+     * @param value  第1列的值，字符串或者字节数组，SQL NULL为null
+     * @return 只有一行一列的{@link ResultSet}
+     */
+    static ResultSet resultSet(String column, Object value) {
+        return resultSet(column, value, new AtomicInteger());
+    }
+
+    /**
+     * @param column   列名
+     * @param value    第1列的值，字符串或者字节数组，SQL NULL为null
+     * @param unclosed 返回的流中还没有被关闭的数量
+     * @return 只有一行一列的{@link ResultSet}
+     */
+    static ResultSet resultSet(String column, Object value, AtomicInteger unclosed) {
+        return (ResultSet) Proxy.newProxyInstance(Jdbc.class.getClassLoader(), new Class<?>[]{ResultSet.class}, (proxy, method, args) -> {
+            if (args == null || !(args[0] instanceof Integer && (Integer) args[0] == 1 || column.equals(args[0]))) {
+                throw new UnsupportedOperationException(method.toString());
+            }
+            if (value == null) {
+                return null;
+            }
+            switch (method.getName()) {
+                case "getString":
+                    return value instanceof String ? value : new String((byte[]) value, StandardCharsets.UTF_8);
+                case "getCharacterStream":
+                    unclosed.incrementAndGet();
+                    return new StringReader(value instanceof String ? (String) value : new String((byte[]) value, StandardCharsets.UTF_8)) {
+
+                        private boolean closed;
+
+                        @Override
+                        public void close() {
+                            if (!closed) {
+                                closed = true;
+                                unclosed.decrementAndGet();
+                            }
+                            super.close();
+                        }
+                    };
+                case "getBytes":
+                    return value instanceof byte[] ? value : ((String) value).getBytes(StandardCharsets.UTF_8);
+                case "getBinaryStream":
+                    unclosed.incrementAndGet();
+                    return new ByteArrayInputStream(value instanceof byte[] ? (byte[]) value : ((String) value).getBytes(StandardCharsets.UTF_8)) {
+
+                        private boolean closed;
+
+                        @Override
+                        public void close() {
+                            if (!closed) {
+                                closed = true;
+                                unclosed.decrementAndGet();
+                            }
+                        }
+                    };
+                default:
+                    throw new UnsupportedOperationException(method.toString());
+            }
+        });
+    }
+
+    private static String read(Reader reader) {
+        StringWriter writer = new StringWriter();
+        try {
+            reader.transferTo(writer);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return writer.toString();
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package red.zyc.toolkit.mybatis.test;
+
+import org.apache.ibatis.type.BaseTypeHandler;
+import org.junit.jupiter.api.Test;
+import red.zyc.toolkit.json.JsonException;
+import red.zyc.toolkit.json.JsonOperator;
+import red.zyc.toolkit.json.LazyJson;
+import red.zyc.toolkit.mybatis.handler.BlobJsonTypeHandler;
+import red.zyc.toolkit.mybatis.handler.ClobJsonTypeHandler;
+import red.zyc.toolkit.mybatis.handler.ColumnAccess;
+import red.zyc.toolkit.mybatis.handler.LazyJsonTypeHandler;
+import red.zyc.toolkit.mybatis.handler.SimpleJsonTypeHandler;
+import red.zyc.toolkit.mybatis.handler.SmileJsonTypeHandler;
+import red.zyc.toolkit.mybatis.test.model.Person;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author zyc
+ */
+class JsonTypeHandlerTest {
+
+    private static final Person PERSON = new Person("张三", 18);
+
+    @Test
+    void testStringColumn() throws SQLException {
+        Object column = write(new SimpleJsonTypeHandler<>(Person.class), PERSON);
+        assertInstanceOf(String.class, column);
+        assertEquals(PERSON, read(new SimpleJsonTypeHandler<>(Person.class), column));
+    }
+
+    @Test
+    void testCharacterStreamColumn() throws SQLException {
+        Object column = write(new ClobJsonTypeHandler<>(Person.class), PERSON);
+        assertInstanceOf(String.class, column);
+        assertTrue(JsonOperator.JACKSON_OPERATOR.compare(JsonOperator.JACKSON_OPERATOR.toJsonString(PERSON), (String) column));
+        assertEquals(PERSON, read(new ClobJsonTypeHandler<>(Person.class), column));
+    }
+
+    @Test
+    void testBinaryStreamColumn() throws SQLException {
+        Object column = write(new BlobJsonTypeHandler<>(Person.class), PERSON);
+        assertInstanceOf(byte[].class, column);
+        assertEquals(PERSON, JsonOperator.JACKSON_OPERATOR.fromJsonString(new String((byte[]) column, StandardCharsets.UTF_8), Person.class));
+        assertEquals(PERSON, read(new BlobJsonTypeHandler<>(Person.class), column));
+    }
+
+    @Test
+    void testStreamColumnClosed() throws SQLException {
+        AtomicInteger unclosed = new AtomicInteger();
+        Object clob = write(new ClobJsonTypeHandler<>(Person.class), PERSON);
+        assertEquals(PERSON, new ClobJsonTypeHandler<>(Person.class).getNullableResult(Jdbc.resultSet("json", clob, unclosed), 1));
+        Object blob = write(new BlobJsonTypeHandler<>(Person.class), PERSON);
+        assertEquals(PERSON, new BlobJsonTypeHandler<>(Person.class).getNullableResult(Jdbc.resultSet("json", blob, unclosed), "json"));
+        // 反序列化失败时同样关闭流
+        assertThrows(JsonException.class, () -> new BlobJsonTypeHandler<>(Person.class).getNullableResult(Jdbc.resultSet("json", "{", unclosed), 1));
+        assertEquals(0, unclosed.get());
+    }
+
+    @Test
+    void testBytesColumn() throws SQLException {
+        Object column = write(new SmileJsonTypeHandler<>(Person.class), PERSON);
+        assertInstanceOf(byte[].class, column);
+        // Smile的头部以":)\n"开始
+        assertEquals(':', ((byte[]) column)[0]);
+        assertEquals(PERSON, read(new SmileJsonTypeHandler<>(Person.class), column));
+    }
+
+    @Test
+    void testNullColumn() throws SQLException {
+        assertNull(read(new SimpleJsonTypeHandler<>(Person.class), null));
+        assertNull(read(new ClobJsonTypeHandler<>(Person.class), null));
+        assertNull(read(new BlobJsonTypeHandler<>(Person.class), null));
+        assertNull(read(new SmileJsonTypeHandler<>(Person.class), null));
+    }
+
+    @Test
+    void testLazyJsonColumn() throws SQLException {
+        for (ColumnAccess columnAccess : ColumnAccess.values()) {
+            LazyJsonTypeHandler<Person> handler = new LazyJsonTypeHandler<>(JsonOperator.JACKSON_OPERATOR, Person.class, columnAccess);
+            Object column = write(handler, LazyJson.of(PERSON));
+            LazyJson<Person> lazyJson = read(handler, column);
+            assertFalse(lazyJson.isBound());
+            // 从未绑定的值原样写回
+            Object rewritten = write(handler, lazyJson);
+            if (column instanceof byte[]) {
+                assertArrayEquals((byte[]) column, (byte[]) rewritten);
+            } else {
+                assertEquals(column, rewritten);
+            }
+            assertEquals(PERSON, lazyJson.get());
+        }
+    }
+
+    static <T> Object write(BaseTypeHandler<T> handler, T value) throws SQLException {
+        Map<Integer, Object> parameters = new HashMap<>();
+        handler.setNonNullParameter(Jdbc.preparedStatement(parameters), 1, value, null);
+        return parameters.get(1);
+    }
+
+    static <T> T read(BaseTypeHandler<T> handler, Object column) throws SQLException {
+        T byIndex = handler.getNullableResult(Jdbc.resultSet("json", column), 1);
+        T byName = handler.getNullableResult(Jdbc.resultSet("json", column), "json");
+        if (byIndex instanceof LazyJson) {
+            return byIndex;
+        }
+        assertEquals(byIndex, byName);
+        return byName;
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package red.zyc.toolkit.mybatis.test;
+
+import org.junit.jupiter.api.Test;
+import red.zyc.toolkit.mybatis.handler.CachedJsonTypeHandler;
+import red.zyc.toolkit.mybatis.handler.JsonValueCache;
+import red.zyc.toolkit.mybatis.test.model.Person;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author zyc
+ */
+class JsonValueCacheTest {
+
+    @Test
+    void testPut() {
+        JsonValueCache<String> cache = new JsonValueCache<>(10);
+        assertNull(cache.get("a"));
+        assertEquals("1", cache.put("a", "1"));
+        // 已经存在的对象优先
+        assertEquals("1", cache.put("a", "2"));
+        assertEquals("1", cache.get("a"));
+        assertEquals(1, cache.size());
+        cache.clear();
+        assertEquals(0, cache.size());
+        assertNull(cache.get("a"));
+        assertThrows(IllegalArgumentException.class, () -> new JsonValueCache<>(0));
+    }
+
+    @Test
+    void testEviction() {
+        JsonValueCache<Integer> cache = new JsonValueCache<>(100);
+        for (int i = 0; i < 1000; i++) {
+            if (cache.get(i) == null) {
+                cache.put(i, i);
+            }
+            assertTrue(cache.size() <= 100);
+        }
+        assertEquals(100, cache.size());
+    }
+
+    @Test
+    void testAdmission() {
+        JsonValueCache<String> cache = new JsonValueCache<>(100);
+        // 反复访问的内容
+        for (int round = 0; round < 10; round++) {
+            for (int i = 0; i < 90; i++) {
+                load(cache, "hot-" + i);
+            }
+        }
+        // 只出现一次的内容不应该把反复访问的内容挤出缓存，
+        // 每个反复访问的内容两次出现之间会夹杂近180个不同的内容，单纯的LRU会全部淘汰
+        int scanned = 0;
+        for (int i = 0; i < 1800; i++) {
+            load(cache, "scan-" + i);
+            load(cache, "hot-" + i % 90);
+        }
+        for (int i = 0; i < 1800; i++) {
+            if (cache.get("scan-" + i) != null) {
+                scanned++;
+            }
+        }
+        for (int i = 0; i < 90; i++) {
+            assertNotNull(cache.get("hot-" + i), "hot-" + i);
+        }
+        assertTrue(scanned <= 10, "scanned: " + scanned);
+    }
+
+    @Test
+    void testConcurrentAccess() throws InterruptedException {
+        JsonValueCache<String> cache = new JsonValueCache<>(100);
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            int seed = t;
+            threads.add(new Thread(() -> {
+                for (int i = 0; i < 10000; i++) {
+                    String key = i % 2 == 0 ? "hot-" + i / 2 % 50 : "scan-" + seed + "-" + i;
+                    assertEquals(key, load(cache, key));
+                }
+            }));
+        }
+        threads.forEach(Thread::start);
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertTrue(cache.size() <= 100);
+        for (int i = 0; i < 50; i++) {
+            assertNotNull(cache.get("hot-" + i), "hot-" + i);
+        }
+    }
+
+    @Test
+    void testCachedJsonTypeHandler() throws SQLException {
+        CachedJsonTypeHandler<Person> handler = new CachedJsonTypeHandler<>(Person.class);
+        String json = "{\"name\":\"张三\",\"age\":18}";
+        Person person = handler.getNullableResult(Jdbc.resultSet("json", json), 1);
+        assertEquals(new Person("张三", 18), person);
+        assertSame(person, handler.getNullableResult(Jdbc.resultSet("json", json), "json"));
+        assertSame(person, handler.getNullableResult(Jdbc.resultSet("json", new String(json.toCharArray())), 1));
+    }
+
+    private static String load(JsonValueCache<String> cache, String key) {
+        String value = cache.get(key);
+        return value != null ? value : cache.put(key, key);
+    }
+}
@@ -0,0 +1,228 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package red.zyc.toolkit.mybatis.test;
+
+import org.apache.ibatis.executor.result.DefaultResultContext;
+import org.apache.ibatis.cursor.Cursor;
+import org.apache.ibatis.executor.resultset.ResultSetHandler;
+import org.apache.ibatis.javassist.util.proxy.ProxyFactory;
+import org.apache.ibatis.javassist.util.proxy.ProxyObject;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.ResultMap;
+import org.apache.ibatis.mapping.ResultMapping;
+import org.apache.ibatis.mapping.SqlCommandType;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.session.Configuration;
+import org.junit.jupiter.api.Test;
+import red.zyc.toolkit.json.JsonOperator;
+import red.zyc.toolkit.json.LazyJson;
+import red.zyc.toolkit.mybatis.handler.LazyJsonTypeHandler;
+import red.zyc.toolkit.mybatis.result.ParallelJsonInterceptor;
+import red.zyc.toolkit.mybatis.result.ParallelJsonResultHandler;
+import red.zyc.toolkit.mybatis.test.model.Document;
+import red.zyc.toolkit.mybatis.test.model.Person;
+
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author zyc
+ */
+class ParallelJsonTest {
+
+    @Test
+    void testOrdering() {
+        List<LazyJson<Person>> results = new ArrayList<>();
+        ParallelJsonResultHandler<LazyJson<Person>> handler = new ParallelJsonResultHandler<>(context -> {
+            LazyJson<Person> result = context.getResultObject();
+            assertTrue(result.isBound());
+            assertEquals(results.size() + 1, context.getResultCount());
+            results.add(result);
+        }, ForkJoinPool.commonPool(), 16, 2);
+        DefaultResultContext<LazyJson<Person>> upstream = new DefaultResultContext<>();
+        for (int i = 0; i < 1000; i++) {
+            upstream.nextResultObject(lazyPerson(i));
+            handler.handleResult(upstream);
+        }
+        handler.flush();
+        assertEquals(1000, results.size());
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(new Person("p" + i, i), results.get(i).get());
+        }
+        assertFalse(upstream.isStopped());
+    }
+
+    @Test
+    void testFlush() {
+        List<LazyJson<Person>> results = new ArrayList<>();
+        ParallelJsonResultHandler<LazyJson<Person>> handler = new ParallelJsonResultHandler<>(context -> results.add(context.getResultObject()),
+                ForkJoinPool.commonPool(), 16, 2);
+        DefaultResultContext<LazyJson<Person>> upstream = new DefaultResultContext<>();
+        for (int i = 0; i < 10; i++) {
+            upstream.nextResultObject(lazyPerson(i));
+            handler.handleResult(upstream);
+        }
+        // 不足一个批次的结果只有flush之后才会交给下游
+        assertTrue(results.isEmpty());
+        handler.flush();
+        assertEquals(10, results.size());
+        handler.flush();
+        assertEquals(10, results.size());
+    }
+
+    @Test
+    void testStop() {
+        List<LazyJson<Person>> results = new ArrayList<>();
+        ParallelJsonResultHandler<LazyJson<Person>> handler = new ParallelJsonResultHandler<>(context -> {
+            results.add(context.getResultObject());
+            if (results.size() == 20) {
+                context.stop();
+            }
+        }, ForkJoinPool.commonPool(), 16, 1);
+        DefaultResultContext<LazyJson<Person>> upstream = new DefaultResultContext<>();
+        for (int i = 0; i < 100 && !upstream.isStopped(); i++) {
+            upstream.nextResultObject(lazyPerson(i));
+            handler.handleResult(upstream);
+        }
+        assertTrue(upstream.isStopped());
+        handler.flush();
+        assertEquals(20, results.size());
+        assertEquals(new Person("p19", 19), results.get(19).get());
+    }
+
+    @Test
+    void testInterceptor() throws Throwable {
+        Document root = new Document();
+        root.setAuthor(lazyPerson(0));
+        Document child = new Document();
+        child.setAuthor(lazyPerson(1));
+        // 循环引用
+        child.setParent(root);
+        root.getChildren().add(child);
+        LazyJson<Person> value = lazyPerson(2);
+        LazyJson<Person> element = lazyPerson(3);
+        // 多结果集
+        List<Object> resultSets = List.of(new ArrayList<>(List.of(root)), new ArrayList<>(List.of(Map.of("value", value), element)));
+
+        ResultSetHandler resultSetHandler = (ResultSetHandler) Proxy.newProxyInstance(ResultSetHandler.class.getClassLoader(),
+                new Class<?>[]{ResultSetHandler.class}, (proxy, method, args) -> resultSets);
+        Object result = new ParallelJsonInterceptor(ForkJoinPool.commonPool(), 1)
+                .intercept(new Invocation(resultSetHandler, ResultSetHandler.class.getMethod("handleResultSets", Statement.class), new Object[]{null}));
+        assertSame(resultSets, result);
+        assertTrue(root.getAuthor().isBound());
+        assertTrue(child.getAuthor().isBound());
+        assertTrue(value.isBound());
+        assertTrue(element.isBound());
+        assertEquals(new Person("p1", 1), child.getAuthor().get());
+    }
+
+    @Test
+    void testInterceptorSkipsStatementWithoutLazyJson() throws Throwable {
+        Configuration configuration = new Configuration();
+        // 结果映射中没有LazyJson的查询不会遍历结果
+        Document document = new Document();
+        document.setAuthor(lazyPerson(0));
+        intercept(mappedStatement(configuration, "selectPerson", Person.class, List.of()), List.of(document, new Person("p", 0)));
+        assertFalse(document.getAuthor().isBound());
+
+        ResultMapping author = new ResultMapping.Builder(configuration, "author", "author",
+                new LazyJsonTypeHandler<>(JsonOperator.JACKSON_OPERATOR, Person.class)).build();
+        intercept(mappedStatement(configuration, "selectDocument", Document.class, List.of(author)), List.of(document));
+        assertTrue(document.getAuthor().isBound());
+    }
+
+    @Test
+    void testInterceptorDoesNotTriggerLazyLoading() throws Throwable {
+        AtomicInteger getterCalls = new AtomicInteger();
+        ProxyFactory proxyFactory = new ProxyFactory();
+        proxyFactory.setSuperclass(Document.class);
+        Document document = (Document) proxyFactory.create(new Class<?>[0], new Object[0]);
+        ((ProxyObject) document).setHandler((self, method, proceed, args) -> {
+            if (method.getName().startsWith("get")) {
+                getterCalls.incrementAndGet();
+            }
+            return proceed.invoke(self, args);
+        });
+        document.setAuthor(lazyPerson(0));
+        Configuration configuration = new Configuration();
+        ResultMapping author = new ResultMapping.Builder(configuration, "author", "author",
+                new LazyJsonTypeHandler<>(JsonOperator.JACKSON_OPERATOR, Person.class)).build();
+        intercept(mappedStatement(configuration, "selectLazyDocument", Document.class, List.of(author)), List.of(document));
+        // 延迟加载的代理对象直接读取字段，不会调用getter
+        assertEquals(0, getterCalls.get());
+        assertTrue(document.getAuthor().isBound());
+    }
+
+    private static MappedStatement mappedStatement(Configuration configuration, String id, Class<?> type, List<ResultMapping> resultMappings) {
+        ResultMap resultMap = new ResultMap.Builder(configuration, id + "-result", type, resultMappings).build();
+        return new MappedStatement.Builder(configuration, id, parameterObject -> null, SqlCommandType.SELECT)
+                .resultMaps(List.of(resultMap))
+                .build();
+    }
+
+    private static void intercept(MappedStatement mappedStatement, List<?> results) throws Throwable {
+        ResultSetHandler resultSetHandler = new StubResultSetHandler(mappedStatement, results);
+        new ParallelJsonInterceptor(ForkJoinPool.commonPool(), 1)
+                .intercept(new Invocation(resultSetHandler, ResultSetHandler.class.getMethod("handleResultSets", Statement.class), new Object[]{null}));
+    }
+
+    private static LazyJson<Person> lazyPerson(int i) {
+        return LazyJson.of("{\"name\":\"p" + i + "\",\"age\":" + i + "}", JsonOperator.JACKSON_OPERATOR, Person.class);
+    }
+
+    /**
+     * 与DefaultResultSetHandler一样持有{@link MappedStatement}的{@link ResultSetHandler}
+     */
+    private static final class StubResultSetHandler implements ResultSetHandler {
+
+        private final MappedStatement mappedStatement;
+
+        private final List<?> results;
+
+        private StubResultSetHandler(MappedStatement mappedStatement, List<?> results) {
+            this.mappedStatement = mappedStatement;
+            this.results = results;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <E> List<E> handleResultSets(Statement stmt) {
+            return (List<E>) results;
+        }
+
+        @Override
+        public <E> Cursor<E> handleCursorResultSets(Statement stmt) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void handleOutputParameters(CallableStatement cs) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package red.zyc.toolkit.mybatis.test;
+
+import org.junit.jupiter.api.Test;
+import red.zyc.toolkit.mybatis.handler.GenericJsonTypeHandler;
+import red.zyc.toolkit.mybatis.handler.TypeIdRegistry;
+import red.zyc.toolkit.mybatis.test.model.Employee;
+import red.zyc.toolkit.mybatis.test.model.Person;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author zyc
+ */
+class TypeIdRegistryTest {
+
+    private static final TypeIdRegistry REGISTRY = TypeIdRegistry.of(Map.of(Person.class, "person"));
+
+    @Test
+    void testOf() {
+        assertEquals("person", REGISTRY.id(Person.class));
+        assertSame(Person.class, REGISTRY.type("person"));
+        assertNull(REGISTRY.id(Employee.class));
+        assertNull(REGISTRY.type(Person.class.getName()));
+        assertThrows(IllegalArgumentException.class, () -> TypeIdRegistry.of(Map.of(Person.class, "")));
+        assertThrows(IllegalArgumentException.class, () -> TypeIdRegistry.of(Map.of(Person.class, "model.person")));
+        assertThrows(IllegalArgumentException.class, () -> TypeIdRegistry.of(Map.of(Person.class, "person", Employee.class, "person")));
+    }
+
+    @Test
+    void testRoundTrip() throws SQLException {
+        CompactJsonTypeHandler handler = new CompactJsonTypeHandler();
+        Person person = new Person("张三", 18);
+        Employee employee = new Employee("李四", 20, "zyc");
+
+        String json = (String) JsonTypeHandlerTest.write(handler, person);
+        assertTrue(json.contains("\"person\""), json);
+        assertFalse(json.contains(Person.class.getName()), json);
+        assertEquals(person, JsonTypeHandlerTest.read(handler, json));
+
+        // 没有注册的类型仍然以全限定类名保存
+        json = (String) JsonTypeHandlerTest.write(handler, employee);
+        assertTrue(json.contains(Employee.class.getName()), json);
+        assertEquals(employee, JsonTypeHandlerTest.read(handler, json));
+
+        ArrayList<Person> people = new ArrayList<>(Arrays.asList(person, employee));
+        assertEquals(people, JsonTypeHandlerTest.read(handler, JsonTypeHandlerTest.write(handler, people)));
+    }
+
+    @Test
+    void testLegacyId() throws SQLException {
+        Person person = new Person("张三", 18);
+        // 注册之前以全限定类名保存的json
+        Object legacy = JsonTypeHandlerTest.write(new GenericJsonTypeHandler<>(Object.class), person);
+        assertTrue(((String) legacy).contains(Person.class.getName()));
+        assertEquals(person, JsonTypeHandlerTest.read(new CompactJsonTypeHandler(), legacy));
+    }
+
+    private static class CompactJsonTypeHandler extends GenericJsonTypeHandler<Object> {
+
+        private CompactJsonTypeHandler() {
+            super(Object.class, REGISTRY);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package red.zyc.toolkit.mybatis.test.model;
+
+import red.zyc.toolkit.json.LazyJson;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * @author zyc
+ */
+public class Document {
+
+    private String title;
+
+    private LazyJson<Person> author;
+
+    private Document parent;
+
+    private List<Document> children = new ArrayList<>();
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public LazyJson<Person> getAuthor() {
+        return author;
+    }
+
+    public void setAuthor(LazyJson<Person> author) {
+        this.author = author;
+    }
+
+    public Document getParent() {
+        return parent;
+    }
+
+    public void setParent(Document parent) {
+        this.parent = parent;
+    }
+
+    public List<Document> getChildren() {
+        return children;
+    }
+
+    public void setChildren(List<Document> children) {
+        this.children = children;
+    }
+}
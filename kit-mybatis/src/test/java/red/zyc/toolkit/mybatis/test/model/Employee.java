@@ -0,0 +1,55 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package red.zyc.toolkit.mybatis.test.model;
+
+import java.util.Objects;
+
+/**
+ * @author zyc
+ */
+public class Employee extends Person {
+
+    private String company;
+
+    public Employee() {
+    }
+
+    public Employee(String name, Integer age, String company) {
+        super(name, age);
+        this.company = company;
+    }
+
+    public String getCompany() {
+        return company;
+    }
+
+    public void setCompany(String company) {
+        this.company = company;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (!super.equals(o)) return false;
+        Employee employee = (Employee) o;
+        return Objects.equals(company, employee.company);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(super.hashCode(), company);
+    }
+}